@@ -0,0 +1,50 @@
+package navaneeth;
+
+/**
+ * AccountEvent class - one preallocated slot of an AccountEventBus ring buffer
+ * - Producers overwrite slots in place, so publishing allocates nothing
+ * - A subscriber may only read an event inside onEvent(); copy fields it needs to keep
+ */
+public final class AccountEvent {
+    private long sequence = -1;
+    private AccountEventType type;
+    private String accountNumber;
+    private long amountCents;
+    private long balanceCents;
+    
+    // Filled in by the bus before the slot is published
+    void set(long sequence, AccountEventType type, String accountNumber, long amountCents, long balanceCents) {
+        this.sequence = sequence;
+        this.type = type;
+        this.accountNumber = accountNumber;
+        this.amountCents = amountCents;
+        this.balanceCents = balanceCents;
+    }
+    
+    public long getSequence() {
+        return sequence;
+    }
+    
+    public AccountEventType getType() {
+        return type;
+    }
+    
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+    
+    public long getAmountCents() {
+        return amountCents;
+    }
+    
+    // Balance right after the change
+    public long getBalanceCents() {
+        return balanceCents;
+    }
+    
+    @Override
+    public String toString() {
+        return "AccountEvent{seq=" + sequence + ", type=" + type + ", account=" + accountNumber
+            + ", amountCents=" + amountCents + ", balanceCents=" + balanceCents + "}";
+    }
+}
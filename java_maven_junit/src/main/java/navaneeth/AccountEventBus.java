@@ -0,0 +1,213 @@
+package navaneeth;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * AccountEventBus class - bounded, preallocated ring buffer of account events
+ * - Many publishers claim sequence numbers with CAS and fill a reused AccountEvent slot (no allocation)
+ * - Every subscriber drains the ring on its own thread, so slow consumers never run on the publisher
+ * - When the ring is full, the Backpressure policy decides: drop the event, block the publisher,
+ *   or (SAMPLE) keep only one in sampleRate events once the ring is half full
+ *
+ * Subscribers must be registered before start(). close() delivers everything already published.
+ * Before start() (and after close()) a full ring drops events even under the BLOCK policy.
+ */
+public class AccountEventBus implements AutoCloseable {
+    
+    public enum Backpressure {
+        DROP,   // Discard the event when the ring is full
+        BLOCK,  // Wait until a slot is free
+        SAMPLE  // Above half full keep 1 in sampleRate events; drop when full
+    }
+    
+    private static final int SPIN_TRIES = 100;
+    private static final long PARK_NANOS = 50_000;
+    
+    private final AccountEvent[] slots;
+    private final AtomicLongArray published; // Sequence last published into each slot
+    private final int capacity;
+    private final int mask;
+    private final Backpressure backpressure;
+    private final int sampleRate;
+    
+    private final AtomicLong next = new AtomicLong();   // Next sequence to claim
+    private volatile long cachedMinCursor = -1;         // Slowest subscriber, refreshed at the policy's threshold
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder subscriberErrors = new LongAdder();
+    
+    private final List<Worker> workers = new ArrayList<>();
+    private volatile Worker[] gating = new Worker[0];
+    private volatile boolean started;
+    private volatile boolean running;
+    
+    public AccountEventBus(int capacity, Backpressure backpressure) {
+        this(capacity, backpressure, 1);
+    }
+    
+    public AccountEventBus(int capacity, Backpressure backpressure, int sampleRate) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two");
+        }
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("Sample rate must be at least 1");
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.backpressure = backpressure;
+        this.sampleRate = sampleRate;
+        this.slots = new AccountEvent[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new AccountEvent();
+            published.set(i, -1);
+        }
+    }
+    
+    // Registers a subscriber; it receives every event published from now on, including events
+    // published before start(), which wait in the ring
+    public synchronized void subscribe(AccountEventSubscriber subscriber) {
+        if (started) {
+            throw new IllegalStateException("Subscribers must be added before start()");
+        }
+        workers.add(new Worker(subscriber, workers.size()));
+        gating = workers.toArray(new Worker[0]); // Hold slots for the new subscriber from now on
+    }
+    
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        running = true;
+        started = true;
+        for (Worker worker : workers) {
+            worker.thread.start();
+        }
+    }
+    
+    // Publishes one event; returns false if the backpressure policy dropped it
+    public boolean publish(AccountEventType type, String accountNumber, long amountCents, long balanceCents) {
+        long sequence = claim();
+        if (sequence < 0) {
+            dropped.increment();
+            return false;
+        }
+        slots[(int) sequence & mask].set(sequence, type, accountNumber, amountCents, balanceCents);
+        published.lazySet((int) sequence & mask, sequence); // Release: slot contents before the sequence
+        return true;
+    }
+    
+    // Claims the next sequence, or returns -1 if the event must be dropped
+    private long claim() {
+        int idle = 0;
+        while (true) {
+            long sequence = next.get();
+            long used = sequence - cachedMinCursor - 1;
+            // SAMPLE decides at half full, so the cached cursor must be fresh from there on
+            if (used >= (backpressure == Backpressure.SAMPLE ? capacity / 2 : capacity)) {
+                long min = minCursor(sequence);
+                cachedMinCursor = min;
+                used = sequence - min - 1;
+            }
+            if (used >= capacity) {
+                if (backpressure != Backpressure.BLOCK || !running) {
+                    return -1;
+                }
+                idle = backoff(idle);
+                continue;
+            }
+            if (backpressure == Backpressure.SAMPLE && used >= capacity / 2
+                    && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+                return -1;
+            }
+            if (next.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+    
+    // Lowest sequence consumed by every subscriber; without subscribers nothing holds slots back
+    private long minCursor(long sequence) {
+        long min = sequence - 1;
+        for (Worker worker : gating) {
+            min = Math.min(min, worker.cursor);
+        }
+        return min;
+    }
+    
+    private static int backoff(int idle) {
+        if (idle < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (idle < SPIN_TRIES * 2) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        return idle + 1;
+    }
+    
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+    
+    public long getSubscriberErrorCount() {
+        return subscriberErrors.sum();
+    }
+    
+    // Stops accepting blocked publishers, lets subscribers drain and waits for their threads
+    @Override
+    public void close() {
+        running = false;
+        for (Worker worker : gating) {
+            LockSupport.unpark(worker.thread);
+        }
+        for (Worker worker : gating) {
+            try {
+                worker.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+    
+    // One consumer thread with its own cursor into the ring
+    private final class Worker implements Runnable {
+        final AccountEventSubscriber subscriber;
+        final Thread thread;
+        volatile long cursor = -1; // Last sequence handled
+        
+        Worker(AccountEventSubscriber subscriber, int id) {
+            this.subscriber = subscriber;
+            this.thread = new Thread(this, "account-events-" + id);
+            this.thread.setDaemon(true);
+        }
+        
+        @Override
+        public void run() {
+            int idle = 0;
+            while (true) {
+                long wanted = cursor + 1;
+                int index = (int) wanted & mask;
+                if (published.get(index) == wanted) {
+                    try {
+                        subscriber.onEvent(slots[index]);
+                    } catch (RuntimeException e) {
+                        subscriberErrors.increment();
+                    }
+                    cursor = wanted;
+                    idle = 0;
+                } else if (!running && next.get() <= wanted) {
+                    return; // Closed and everything claimed has been handled
+                } else {
+                    idle = backoff(idle);
+                }
+            }
+        }
+    }
+}
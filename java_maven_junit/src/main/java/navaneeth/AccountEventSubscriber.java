@@ -0,0 +1,22 @@
+package navaneeth;
+
+import java.io.PrintStream;
+
+/**
+ * AccountEventSubscriber interface - consumer of account events
+ * - Each subscriber runs on its own thread owned by the AccountEventBus
+ * - The event object is reused after onEvent() returns
+ */
+@FunctionalInterface
+public interface AccountEventSubscriber {
+    void onEvent(AccountEvent event);
+    
+    // Prints the message CurrentAccount.withdraw used to write to the console on every overdraft
+    static AccountEventSubscriber overdraftLogger(PrintStream out) {
+        return event -> {
+            if (event.getType() == AccountEventType.OVERDRAFT) {
+                out.println("Overdraft used: " + Money.toDouble(-event.getBalanceCents()));
+            }
+        };
+    }
+}
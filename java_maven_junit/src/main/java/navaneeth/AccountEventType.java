@@ -0,0 +1,11 @@
+package navaneeth;
+
+/**
+ * AccountEventType enum - kinds of balance change published to an AccountEventBus
+ */
+public enum AccountEventType {
+    DEPOSIT,
+    WITHDRAWAL,
+    OVERDRAFT, // A withdrawal that left the balance below zero (CurrentAccount)
+    REVERSAL   // An earlier withdrawal put back because it could not be completed
+}
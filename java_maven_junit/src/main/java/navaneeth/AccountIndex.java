@@ -0,0 +1,165 @@
+package navaneeth;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * AccountIndex class - in-memory lookup of accounts by number and by holder-name prefix
+ * - Exact lookups use a compact open-addressing hash table (linear probing, parallel arrays)
+ * - Prefix (type-ahead) queries use a sorted concurrent skip list keyed by lower-cased holder name
+ * - Reads never lock and may run while another thread updates the index; updates are serialized
+ *
+ * Lock-free reads work because a slot's key is published last (release) and read first (acquire),
+ * and a slot once used is never reassigned to another key: removals leave a tombstone that is only
+ * dropped when the whole table is rebuilt and republished.
+ */
+public class AccountIndex {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final Object TOMBSTONE = new Object();
+    private static final char NAME_KEY_SEPARATOR = '\u0000';
+    
+    private static final VarHandle OBJECTS = MethodHandles.arrayElementVarHandle(Object[].class);
+    
+    // One generation of the hash table; replaced as a whole on resize
+    private static final class Table {
+        final Object[] keys;        // String account number, TOMBSTONE, or null (never used)
+        final BankAccount[] values;
+        final int[] hashes;
+        final int mask;
+        
+        Table(int capacity) {
+            keys = new Object[capacity];
+            values = new BankAccount[capacity];
+            hashes = new int[capacity];
+            mask = capacity - 1;
+        }
+    }
+    
+    private volatile Table table = new Table(INITIAL_CAPACITY);
+    private final ConcurrentSkipListMap<String, BankAccount> byHolderName = new ConcurrentSkipListMap<>();
+    private int size;      // Guarded by this
+    private int usedSlots; // Live entries plus tombstones, guarded by this
+    
+    // Exact lookup by account number - lock-free
+    public BankAccount get(String accountNumber) {
+        Table t = table;
+        int hash = hash(accountNumber);
+        for (int i = hash & t.mask; ; i = (i + 1) & t.mask) {
+            Object key = OBJECTS.getAcquire(t.keys, i);
+            if (key == null) {
+                return null;
+            }
+            if (key != TOMBSTONE && t.hashes[i] == hash && accountNumber.equals(key)) {
+                return (BankAccount) OBJECTS.getAcquire(t.values, i);
+            }
+        }
+    }
+    
+    // Type-ahead query: accounts whose holder name starts with prefix (case-insensitive), in name order
+    public List<BankAccount> findByHolderPrefix(String prefix, int limit) {
+        String from = prefix.toLowerCase(Locale.ROOT);
+        ConcurrentNavigableMap<String, BankAccount> matches =
+                byHolderName.subMap(from, true, from + Character.MAX_VALUE, false);
+        List<BankAccount> result = new ArrayList<>(Math.min(limit, 16));
+        for (BankAccount account : matches.values()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(account);
+        }
+        return result;
+    }
+    
+    public synchronized int size() {
+        return size;
+    }
+    
+    // Adds an account, replacing any account with the same number
+    public synchronized void add(BankAccount account) {
+        String accountNumber = account.getAccountNumber();
+        int hash = hash(accountNumber);
+        Table t = table;
+        for (int i = hash & t.mask; ; i = (i + 1) & t.mask) {
+            Object key = t.keys[i];
+            if (key == null) {
+                if ((usedSlots + 1) * 2 > t.keys.length) {
+                    rebuild(t.keys.length * 2 > (size + 1) * 4 ? t.keys.length : t.keys.length * 2);
+                    add(account);
+                    return;
+                }
+                t.hashes[i] = hash;
+                OBJECTS.setRelease(t.values, i, account);
+                OBJECTS.setRelease(t.keys, i, accountNumber); // Publish the slot last
+                size++;
+                usedSlots++;
+                byHolderName.put(nameKey(account), account);
+                return;
+            }
+            if (key != TOMBSTONE && t.hashes[i] == hash && accountNumber.equals(key)) {
+                BankAccount previous = t.values[i];
+                OBJECTS.setRelease(t.values, i, account);
+                String newKey = nameKey(account);
+                String oldKey = nameKey(previous);
+                byHolderName.put(newKey, account); // Add before removing so prefix reads never miss it
+                if (!oldKey.equals(newKey)) {
+                    byHolderName.remove(oldKey);
+                }
+                return;
+            }
+        }
+    }
+    
+    // Removes the account with this number; returns false if it was not indexed
+    public synchronized boolean remove(String accountNumber) {
+        int hash = hash(accountNumber);
+        Table t = table;
+        for (int i = hash & t.mask; ; i = (i + 1) & t.mask) {
+            Object key = t.keys[i];
+            if (key == null) {
+                return false;
+            }
+            if (key != TOMBSTONE && t.hashes[i] == hash && accountNumber.equals(key)) {
+                BankAccount previous = t.values[i];
+                OBJECTS.setRelease(t.keys, i, TOMBSTONE); // Value stays until the next rebuild
+                size--;
+                byHolderName.remove(nameKey(previous));
+                return true;
+            }
+        }
+    }
+    
+    // Copies live entries into a fresh table (dropping tombstones) and publishes it
+    private void rebuild(int capacity) {
+        Table old = table;
+        Table fresh = new Table(capacity);
+        for (int i = 0; i < old.keys.length; i++) {
+            Object key = old.keys[i];
+            if (key != null && key != TOMBSTONE) {
+                int j = old.hashes[i] & fresh.mask;
+                while (fresh.keys[j] != null) {
+                    j = (j + 1) & fresh.mask;
+                }
+                fresh.keys[j] = key;
+                fresh.values[j] = old.values[i];
+                fresh.hashes[j] = old.hashes[i];
+            }
+        }
+        usedSlots = size;
+        table = fresh; // Volatile write publishes the fully built table
+    }
+    
+    private static int hash(String accountNumber) {
+        int h = accountNumber.hashCode() * 0x9E3779B9; // Fibonacci hashing spreads clustered keys
+        return h ^ (h >>> 16);
+    }
+    
+    // Account numbers make equal holder names unique in the sorted map
+    private static String nameKey(BankAccount account) {
+        return account.getAccountHolderName().toLowerCase(Locale.ROOT) + NAME_KEY_SEPARATOR + account.getAccountNumber();
+    }
+}
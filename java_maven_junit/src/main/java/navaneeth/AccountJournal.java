@@ -0,0 +1,349 @@
+package navaneeth;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * AccountJournal class - append-only write-ahead journal for account mutations
+ * - deposit/addInterest append an entry and wait until it is on disk before crediting the account;
+ *   withdraw lets the account accept or reject the debit first and restores the balance if the
+ *   entry cannot be made durable, so no change survives in memory without its journal entry;
+ *   subscribers then see a REVERSAL event after the WITHDRAWAL/OVERDRAFT one
+ * - GROUP COMMIT: a single flusher thread writes and fsyncs everything appended since its
+ *   last flush, so many concurrent commits share one fsync
+ * - replay() rebuilds balances by re-applying the journal to accounts in their starting state
+ *
+ * Entry layout (little-endian):
+ *   [int length][byte type][long amountCents][byte numberLength][number bytes][int CRC32C]
+ * The CRC covers type..number; a torn or corrupt tail ends recovery and is truncated on open.
+ */
+public class AccountJournal implements Closeable {
+    public static final byte DEPOSIT = 1;
+    public static final byte WITHDRAWAL = 2;
+    public static final byte INTEREST = 3;
+    
+    static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+    
+    // length + type + amount + number length; the CRC follows the number bytes
+    private static final int FIXED_HEADER = Integer.BYTES + 1 + Long.BYTES + 1;
+    private static final int MAX_NUMBER_BYTES = 255;
+    private static final int MAX_ENTRY_SIZE = FIXED_HEADER + MAX_NUMBER_BYTES + Integer.BYTES;
+    
+    private final FileChannel channel;
+    private final CRC32C crc = new CRC32C();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private final Condition flushed = lock.newCondition();
+    private final Thread flusher;
+    
+    // Double buffering: appenders fill 'active' while the flusher writes 'flushing'
+    private ByteBuffer active;
+    private ByteBuffer flushing;
+    private long appendedPosition;          // Guarded by lock
+    private volatile long durablePosition;  // Everything before this offset is fsynced
+    private volatile IOException failure;
+    private boolean closed;                 // Guarded by lock
+    
+    private AccountJournal(FileChannel channel, long validLength, int bufferSize) {
+        this.channel = channel;
+        this.active = ByteBuffer.allocate(bufferSize).order(ByteOrder.LITTLE_ENDIAN);
+        this.flushing = ByteBuffer.allocate(bufferSize).order(ByteOrder.LITTLE_ENDIAN);
+        this.appendedPosition = validLength;
+        this.durablePosition = validLength;
+        this.flusher = new Thread(this::flushLoop, "account-journal-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+    
+    // Opens the journal for appending, creating it if needed and dropping any torn tail
+    public static AccountJournal open(Path path) throws IOException {
+        return open(path, DEFAULT_BUFFER_SIZE);
+    }
+    
+    static AccountJournal open(Path path, int bufferSize) throws IOException {
+        if (bufferSize < MAX_ENTRY_SIZE) {
+            throw new IllegalArgumentException("Buffer must hold at least one entry");
+        }
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long validLength = scan(channel, null);
+            channel.truncate(validLength);
+            channel.position(validLength);
+            return new AccountJournal(channel, validLength, bufferSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+    
+    // Journaled business operations - a credit is made durable, then applied
+    public void deposit(BankAccount account, long amountCents) throws IOException {
+        if (amountCents <= 0) {
+            throw new IllegalArgumentException("Deposit amount must be positive");
+        }
+        commit(DEPOSIT, account.getAccountNumber(), amountCents);
+        account.depositCents(amountCents);
+    }
+    
+    // Only the account can tell whether a debit is allowed, so it is applied first and undone if
+    // journaling fails; the debit's event is already published, so the undo publishes a REVERSAL
+    public void withdraw(BankAccount account, long amountCents) throws IOException {
+        account.withdrawCents(amountCents);
+        try {
+            commit(WITHDRAWAL, account.getAccountNumber(), amountCents);
+        } catch (IOException | RuntimeException e) {
+            long restored = account.addToBalanceCents(amountCents);
+            account.publishEvent(AccountEventType.REVERSAL, amountCents, restored);
+            throw e;
+        }
+    }
+    
+    // The credited interest is journaled as an amount, so replay does not depend on rates
+    // Interest that rounds to zero is neither credited nor journaled
+    public void addInterest(SavingsAccount account) throws IOException {
+        long interest = account.calculateInterestCents();
+        if (interest <= 0) {
+            return;
+        }
+        commit(INTEREST, account.getAccountNumber(), interest);
+        account.depositCents(interest);
+    }
+    
+    // Appends an entry and blocks until it has been fsynced
+    public void commit(byte type, String accountNumber, long amountCents) throws IOException {
+        awaitDurable(append(type, accountNumber, amountCents));
+    }
+    
+    // Appends an entry without waiting; the returned ticket can be passed to awaitDurable
+    public long append(byte type, String accountNumber, long amountCents) throws IOException {
+        if (type < DEPOSIT || type > INTEREST) {
+            throw new IllegalArgumentException("Unknown journal entry type: " + type);
+        }
+        byte[] number = accountNumber.getBytes(StandardCharsets.UTF_8);
+        if (number.length > MAX_NUMBER_BYTES) {
+            throw new IllegalArgumentException("Account number longer than " + MAX_NUMBER_BYTES + " bytes");
+        }
+        int size = FIXED_HEADER + number.length + Integer.BYTES;
+        
+        lock.lock();
+        try {
+            while (active.remaining() < size) {
+                checkOpen();
+                flushed.awaitUninterruptibly(); // Wait for the flusher to swap buffers
+            }
+            checkOpen();
+            int start = active.position();
+            active.putInt(size);
+            active.put(type);
+            active.putLong(amountCents);
+            active.put((byte) number.length);
+            active.put(number);
+            crc.reset();
+            crc.update(active.array(), start + Integer.BYTES, size - Integer.BYTES * 2);
+            active.putInt((int) crc.getValue());
+            appendedPosition += size;
+            appended.signal();
+            return appendedPosition;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // Blocks until every entry up to the ticket is on disk
+    public void awaitDurable(long ticket) throws IOException {
+        if (durablePosition >= ticket) {
+            return;
+        }
+        lock.lock();
+        try {
+            while (durablePosition < ticket) {
+                if (failure != null) {
+                    throw new IOException("Journal flush failed", failure);
+                }
+                flushed.awaitUninterruptibly();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    // Bytes currently fsynced - useful for monitoring
+    public long getDurablePosition() {
+        return durablePosition;
+    }
+    
+    private void checkOpen() throws IOException {
+        if (failure != null) {
+            throw new IOException("Journal flush failed", failure);
+        }
+        if (closed) {
+            throw new IOException("Journal closed");
+        }
+    }
+    
+    // Flusher thread: swap buffers, write, fsync once for the whole group, wake waiters
+    private void flushLoop() {
+        while (true) {
+            long target;
+            lock.lock();
+            try {
+                while (active.position() == 0 && !closed) {
+                    appended.awaitUninterruptibly();
+                }
+                if (active.position() == 0) {
+                    flushed.signalAll();
+                    return; // Closed and drained
+                }
+                ByteBuffer full = active;
+                active = flushing;
+                flushing = full;
+                target = appendedPosition;
+                flushed.signalAll(); // Appenders blocked on a full buffer can continue
+            } finally {
+                lock.unlock();
+            }
+            
+            try {
+                flushing.flip();
+                while (flushing.hasRemaining()) {
+                    channel.write(flushing);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                failure = e;
+            }
+            
+            lock.lock();
+            try {
+                flushing.clear();
+                if (failure == null) {
+                    durablePosition = target;
+                }
+                flushed.signalAll();
+                if (failure != null) {
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+    
+    // Flushes outstanding entries and stops the flusher
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            closed = true;
+            appended.signal();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            channel.close();
+        }
+        if (failure != null) {
+            throw new IOException("Journal flush failed", failure);
+        }
+    }
+    
+    // Recovery - re-applies every valid entry to the matching account and returns the entry count
+    // Accounts must be in the state they had when the journal was started
+    // Entries are applied without the usual limit checks: they were validated when first applied
+    public static long replay(Path path, Map<String, ? extends BankAccount> accounts) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long[] count = new long[1];
+            scan(channel, (type, accountNumber, amountCents) -> {
+                count[0]++;
+                BankAccount account = accounts.get(accountNumber);
+                if (account == null) {
+                    return;
+                }
+                long delta = type == WITHDRAWAL ? -amountCents : amountCents;
+                account.setBalanceCents(account.getBalanceCents() + delta);
+            });
+            return count[0];
+        }
+    }
+    
+    // Receives decoded entries during a scan
+    interface EntryVisitor {
+        void visit(byte type, String accountNumber, long amountCents);
+    }
+    
+    // Reads entries from the start and returns the length of the valid prefix
+    private static long scan(FileChannel channel, EntryVisitor visitor) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        byte[] entry = new byte[MAX_ENTRY_SIZE];
+        CRC32C check = new CRC32C();
+        long position = 0;
+        long fileSize = channel.size();
+        channel.position(0);
+        buffer.flip();
+        
+        while (position < fileSize) {
+            if (buffer.remaining() < Integer.BYTES && !refill(channel, buffer, Integer.BYTES)) {
+                break;
+            }
+            int size = buffer.getInt(buffer.position());
+            if (size < FIXED_HEADER + Integer.BYTES || size > MAX_ENTRY_SIZE) {
+                break;
+            }
+            if (buffer.remaining() < size && !refill(channel, buffer, size)) {
+                break;
+            }
+            buffer.get(entry, 0, size);
+            
+            int payload = size - Integer.BYTES * 2;
+            check.reset();
+            check.update(entry, Integer.BYTES, payload);
+            int storedCrc = (entry[size - 4] & 0xFF) | (entry[size - 3] & 0xFF) << 8
+                    | (entry[size - 2] & 0xFF) << 16 | (entry[size - 1] & 0xFF) << 24;
+            int numberLength = entry[FIXED_HEADER - 1] & 0xFF;
+            byte type = entry[Integer.BYTES];
+            if ((int) check.getValue() != storedCrc || FIXED_HEADER + numberLength + Integer.BYTES != size
+                    || type < DEPOSIT || type > INTEREST) {
+                break;
+            }
+            
+            if (visitor != null) {
+                long amount = 0;
+                for (int i = Long.BYTES - 1; i >= 0; i--) {
+                    amount = (amount << 8) | (entry[Integer.BYTES + 1 + i] & 0xFF);
+                }
+                String number = new String(entry, FIXED_HEADER, numberLength, StandardCharsets.UTF_8);
+                visitor.visit(type, number, amount);
+            }
+            position += size;
+        }
+        return position;
+    }
+    
+    // Compacts and reads more bytes; false if the file ends before 'needed' bytes are available
+    private static boolean refill(FileChannel channel, ByteBuffer buffer, int needed) throws IOException {
+        buffer.compact();
+        while (buffer.position() < needed) {
+            if (channel.read(buffer) < 0) {
+                buffer.flip();
+                return false;
+            }
+        }
+        buffer.flip();
+        return true;
+    }
+}
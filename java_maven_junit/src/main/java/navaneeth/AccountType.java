@@ -0,0 +1,40 @@
+package navaneeth;
+
+/**
+ * AccountType enum - compact tag for the account classes
+ * - Used where accounts are stored as records instead of objects
+ * - Carries the interest rate of each type in basis points
+ */
+public enum AccountType {
+    BASIC(0),
+    SAVINGS(SavingsAccount.INTEREST_RATE_BPS),
+    CURRENT(CurrentAccount.INTEREST_RATE_BPS);
+    
+    private static final AccountType[] VALUES = values();
+    
+    private final int interestRateBps;
+    
+    AccountType(int interestRateBps) {
+        this.interestRateBps = interestRateBps;
+    }
+    
+    public int getInterestRateBps() {
+        return interestRateBps;
+    }
+    
+    // Looks up a type by its ordinal without allocating a values() copy
+    public static AccountType fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+    
+    // Type tag for an account object
+    public static AccountType of(BankAccount account) {
+        if (account instanceof SavingsAccount) {
+            return SAVINGS;
+        }
+        if (account instanceof CurrentAccount) {
+            return CURRENT;
+        }
+        return BASIC;
+    }
+}
@@ -0,0 +1,184 @@
+package navaneeth;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * BalanceSnapshots class - consistent point-in-time views of many account balances
+ * - EPOCH-BASED COPY-ON-WRITE: every balance write is tagged with the current epoch; the first
+ *   write to an account in a new epoch first saves the account's balance as of the epoch start
+ * - snapshot() starts a new epoch, waits for writes of the previous epoch to finish, then reads
+ *   each account's saved (or current, if untouched) balance - writers never wait for the reporter
+ * - A transfer between two registered accounts counts as one write, so it is either fully in a
+ *   snapshot or not at all (see TransferService)
+ *
+ * Writers register in one of a few padded counters so the cost of a write stays a couple of
+ * uncontended atomic increments. A writer only ever waits in the short window right after a
+ * snapshot starts, and only on the first write to each account, until older in-flight writes finish.
+ */
+public class BalanceSnapshots {
+    private static final int STRIPE_BITS = 4;
+    private static final int STRIPES = 1 << STRIPE_BITS;
+    private static final int PADDING = 16; // longs between counters, keeps each on its own cache line
+    private static final int SPIN_TRIES = 100;
+    private static final long PARK_NANOS = 10_000;
+    
+    private volatile long epoch = 1;        // Epoch new writes are tagged with
+    private volatile long stableEpoch = 1;  // All writes tagged before this epoch have finished
+    // In-flight writers per epoch parity and stripe
+    private final AtomicLongArray inFlight = new AtomicLongArray(2 * STRIPES * PADDING);
+    // Nesting so a transfer's inner writes reuse the transfer's epoch: {depth, token}
+    private final ThreadLocal<long[]> held = ThreadLocal.withInitial(() -> new long[2]);
+    
+    private final List<BankAccount> accounts = new ArrayList<>();
+    private final Object reporterLock = new Object();
+    
+    // Point-in-time result of snapshot()
+    public static final class Snapshot {
+        private final long epoch;
+        private final BankAccount[] accounts;
+        private final long[] balances;
+        private final long totalCents;
+        
+        Snapshot(long epoch, BankAccount[] accounts, long[] balances, long totalCents) {
+            this.epoch = epoch;
+            this.accounts = accounts;
+            this.balances = balances;
+            this.totalCents = totalCents;
+        }
+        
+        public long getEpoch() {
+            return epoch;
+        }
+        
+        public int size() {
+            return accounts.length;
+        }
+        
+        public BankAccount getAccount(int i) {
+            return accounts[i];
+        }
+        
+        public long getBalanceCents(int i) {
+            return balances[i];
+        }
+        
+        public long getTotalCents() {
+            return totalCents;
+        }
+    }
+    
+    // Adds an account to the consistent view; an account can belong to one BalanceSnapshots only
+    public void register(BankAccount account) {
+        synchronized (reporterLock) {
+            synchronized (account) {
+                if (account.snapshots != null) {
+                    throw new IllegalStateException("Account " + account.getAccountNumber() + " is already registered");
+                }
+                account.snapshotBalance = account.getBalanceCents();
+                account.snapshotEpoch = epoch;
+                account.snapshots = this;
+            }
+            accounts.add(account);
+        }
+    }
+    
+    // Takes a consistent snapshot of every registered account
+    public Snapshot snapshot() {
+        synchronized (reporterLock) {
+            long snapshotEpoch = epoch + 1;
+            epoch = snapshotEpoch;
+            awaitQuiescence(snapshotEpoch - 1);
+            stableEpoch = snapshotEpoch;
+            
+            BankAccount[] members = accounts.toArray(new BankAccount[0]);
+            long[] balances = new long[members.length];
+            long total = 0;
+            for (int i = 0; i < members.length; i++) {
+                preserve(members[i], snapshotEpoch);
+                balances[i] = members[i].snapshotBalance;
+                total += balances[i];
+            }
+            return new Snapshot(snapshotEpoch, members, balances, total);
+        }
+    }
+    
+    // Registers the calling thread as a writer; returns a token for endWrite
+    long beginWrite() {
+        long[] state = held.get();
+        if (state[0]++ > 0) {
+            return state[1]; // Nested inside a transfer - keep its epoch
+        }
+        int stripe = (int) (Thread.currentThread().threadId() & (STRIPES - 1));
+        while (true) {
+            long current = epoch;
+            int counter = counterIndex(current, stripe);
+            inFlight.incrementAndGet(counter);
+            if (epoch == current) {
+                state[1] = (current << STRIPE_BITS) | stripe;
+                return state[1];
+            }
+            inFlight.decrementAndGet(counter); // A snapshot started meanwhile - retry in the new epoch
+        }
+    }
+    
+    // Registers a write to one account, saving its pre-epoch balance first if needed
+    long beginWrite(BankAccount account) {
+        long token = beginWrite();
+        preserve(account, token >>> STRIPE_BITS);
+        return token;
+    }
+    
+    void endWrite(long token) {
+        long[] state = held.get();
+        if (--state[0] == 0) {
+            inFlight.decrementAndGet(counterIndex(token >>> STRIPE_BITS, (int) (token & (STRIPES - 1))));
+        }
+    }
+    
+    // Saves the account's balance as of the start of writeEpoch, once per epoch
+    private void preserve(BankAccount account, long writeEpoch) {
+        if (account.snapshotEpoch >= writeEpoch) {
+            return;
+        }
+        // Writes from the previous epoch may still be landing; the saved value must include them
+        int idle = 0;
+        while (stableEpoch < writeEpoch) {
+            idle = backoff(idle);
+        }
+        synchronized (account) {
+            if (account.snapshotEpoch < writeEpoch) {
+                account.snapshotBalance = account.getBalanceCents();
+                account.snapshotEpoch = writeEpoch; // Volatile write publishes the saved balance
+            }
+        }
+    }
+    
+    private void awaitQuiescence(long oldEpoch) {
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            int counter = counterIndex(oldEpoch, stripe);
+            int idle = 0;
+            while (inFlight.get(counter) != 0) {
+                idle = backoff(idle);
+            }
+        }
+    }
+    
+    // Spin briefly, then yield, then park - waiters may outnumber cores
+    private static int backoff(int idle) {
+        if (idle < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (idle < SPIN_TRIES * 2) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        return idle + 1;
+    }
+    
+    private static int counterIndex(long epoch, int stripe) {
+        return ((int) (epoch & 1) * STRIPES + stripe) * PADDING;
+    }
+}
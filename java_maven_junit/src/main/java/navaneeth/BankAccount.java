@@ -1,21 +1,55 @@
 package navaneeth;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * BankAccount class demonstrating ENCAPSULATION
  * - Private fields with public getters/setters
  * - Data hiding and controlled access
+ * - Thread-safe balance updates using lock-free compare-and-set (CAS) loops
+ * - Balance kept in exact long cents (see Money); the double methods are thin adapters
+ * - Every balance write goes through setBalanceCents/compareAndSetBalanceCents/addToBalanceCents,
+ *   so accounts registered with BalanceSnapshots can be read consistently as a group
+ * - HOT MODE: when deposits keep colliding on the balance, they are spread over striped
+ *   DepositCells and folded into the balance only when getBalanceCents or a withdrawal needs
+ *   the exact value; the account switches back once deposits stop arriving concurrently
  */
 public class BankAccount {
+    static final int HOT_CONTENTION_THRESHOLD = 64;     // Contended deposits per window that switch to hot mode
+    static final long CONTENTION_WINDOW_NANOS = 1_000_000;
+    static final int COOL_DOWN_FOLDS = 8;               // Folds in a row with at most one busy cell that switch back
+    
     // Private fields - Encapsulation
     private String accountNumber;
     private String accountHolderName;
-    private double balance;
+    // Balance in cents, updated with CAS instead of locks
+    private final AtomicLong balanceCents;
+    // Optional asynchronous event stream for balance changes (null = no events)
+    private volatile AccountEventBus eventBus;
+    // Consistent-read state, managed by BalanceSnapshots (null = not registered)
+    volatile BalanceSnapshots snapshots;
+    volatile long snapshotEpoch;  // Epoch whose starting balance snapshotBalance holds
+    long snapshotBalance;         // Published by the volatile write to snapshotEpoch
+    // Striped deposits while the account is hot (null = single balance only)
+    private volatile DepositCells depositCells;
+    private int contendedDeposits;      // Racy on purpose - only a switching heuristic
+    private long contentionWindowStart;
+    private int quietFolds;             // Guarded by the lock on depositCells
     
     // Constructor
     public BankAccount(String accountNumber, String accountHolderName, double initialBalance) {
         this.accountNumber = accountNumber;
         this.accountHolderName = accountHolderName;
-        this.balance = initialBalance;
+        this.balanceCents = new AtomicLong(Money.toCents(initialBalance));
+    }
+    
+    // Factory taking an exact balance in cents
+    public static BankAccount ofCents(String accountNumber, String accountHolderName, long initialBalanceCents) {
+        BankAccount account = new BankAccount(accountNumber, accountHolderName, 0);
+        account.setBalanceCents(initialBalanceCents);
+        return account;
     }
     
     // Public getters - Controlled access
@@ -27,40 +61,250 @@ public class BankAccount {
         return accountHolderName;
     }
     
+    // Exact balance; in hot mode this first folds pending striped deposits into the balance
+    public long getBalanceCents() {
+        DepositCells cells = depositCells;
+        if (cells != null) {
+            fold(cells);
+        }
+        return balanceCents.get();
+    }
+    
     public double getBalance() {
-        return balance;
+        return Money.toDouble(getBalanceCents());
+    }
+    
+    // Protected methods to allow subclasses to modify balance
+    protected void setBalanceCents(long balance) {
+        BalanceSnapshots s = snapshots;
+        if (s == null) {
+            replaceBalance(balance);
+            return;
+        }
+        long token = s.beginWrite(this);
+        try {
+            replaceBalance(balance);
+        } finally {
+            s.endWrite(token);
+        }
     }
     
-    // Protected method to allow subclasses to modify balance
     protected void setBalance(double balance) {
-        this.balance = balance;
+        setBalanceCents(Money.toCents(balance));
+    }
+    
+    // Protected CAS so subclasses can build their own lock-free updates
+    // Succeeds only if the balance still equals the value previously read with getBalanceCents()
+    protected boolean compareAndSetBalanceCents(long expectedBalance, long newBalance) {
+        BalanceSnapshots s = snapshots;
+        if (s == null) {
+            return balanceCents.compareAndSet(expectedBalance, newBalance);
+        }
+        long token = s.beginWrite(this);
+        try {
+            return balanceCents.compareAndSet(expectedBalance, newBalance);
+        } finally {
+            s.endWrite(token);
+        }
+    }
+    
+    // Protected unconditional add for credits that cannot fail; returns the new balance
+    protected long addToBalanceCents(long amount) {
+        BalanceSnapshots s = snapshots;
+        if (s == null) {
+            return add(amount);
+        }
+        long token = s.beginWrite(this);
+        try {
+            return add(amount);
+        } finally {
+            s.endWrite(token);
+        }
+    }
+    
+    // Striped deposit - the one write that bypasses the main balance
+    private boolean addToCells(DepositCells cells, long amount) {
+        BalanceSnapshots s = snapshots;
+        if (s == null) {
+            return cells.add(amount);
+        }
+        long token = s.beginWrite(this);
+        try {
+            return cells.add(amount);
+        } finally {
+            s.endWrite(token);
+        }
+    }
+    
+    private long add(long amount) {
+        long current = balanceCents.get();
+        if (balanceCents.compareAndSet(current, current + amount)) {
+            return current + amount;
+        }
+        recordContendedDeposit();
+        return balanceCents.addAndGet(amount);
+    }
+    
+    private void replaceBalance(long balance) {
+        DepositCells cells = depositCells;
+        if (cells == null) {
+            balanceCents.set(balance);
+            return;
+        }
+        synchronized (cells) {
+            if (depositCells == cells) {
+                cells.drain(); // Pending deposits are overwritten too
+            }
+            balanceCents.set(balance);
+        }
+    }
+    
+    // Counts failed deposit CAS attempts; too many within one window switch the account to hot mode
+    void recordContendedDeposit() {
+        long now = System.nanoTime();
+        if (now - contentionWindowStart > CONTENTION_WINDOW_NANOS) {
+            contentionWindowStart = now;
+            contendedDeposits = 1;
+        } else if (++contendedDeposits >= HOT_CONTENTION_THRESHOLD) {
+            enterHotMode();
+        }
+    }
+    
+    // Moves pending striped deposits into the balance; after enough quiet folds leaves hot mode
+    private void fold(DepositCells cells) {
+        synchronized (cells) {
+            if (depositCells != cells) {
+                return; // Retired meanwhile - already folded
+            }
+            long pending = cells.drain();
+            if (pending != 0) {
+                balanceCents.addAndGet(pending);
+            }
+            if (cells.getBusyCells() > 1) {
+                quietFolds = 0;
+            } else if (++quietFolds >= COOL_DOWN_FOLDS) {
+                retire(cells);
+            }
+        }
+    }
+    
+    // Caller holds the lock on cells
+    private void retire(DepositCells cells) {
+        long pending = cells.retire(); // Late depositors now fall back to the balance
+        if (pending != 0) {
+            balanceCents.addAndGet(pending);
+        }
+        depositCells = null;
+        quietFolds = 0;
+    }
+    
+    void enterHotMode() {
+        synchronized (this) {
+            if (depositCells == null) {
+                depositCells = new DepositCells();
+            }
+        }
+    }
+    
+    void leaveHotMode() {
+        DepositCells cells = depositCells;
+        if (cells != null) {
+            synchronized (cells) {
+                if (depositCells == cells) {
+                    retire(cells);
+                }
+            }
+        }
+    }
+    
+    public boolean isHotMode() {
+        return depositCells != null;
+    }
+    
+    // Routes balance-change events of this account to a bus; pass null to stop publishing
+    public void setEventBus(AccountEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+    
+    // Publishes to the event bus, if any - never blocks unless the bus uses BLOCK backpressure
+    protected void publishEvent(AccountEventType type, long amount, long newBalance) {
+        AccountEventBus bus = eventBus;
+        if (bus != null) {
+            bus.publish(type, accountNumber, amount, newBalance);
+        }
     }
     
     // Public methods - Business logic
-    public void deposit(double amount) {
+    public void depositCents(long amount) {
         if (amount > 0) {
-            balance += amount;
+            DepositCells cells = depositCells;
+            if (cells != null && addToCells(cells, amount)) {
+                if (eventBus != null) {
+                    // Unfolded estimate - folding on every deposit would undo the striping
+                    publishEvent(AccountEventType.DEPOSIT, amount, balanceCents.get() + cells.pending());
+                }
+                return;
+            }
+            long newBalance = addToBalanceCents(amount);
+            publishEvent(AccountEventType.DEPOSIT, amount, newBalance);
         } else {
             throw new IllegalArgumentException("Deposit amount must be positive");
         }
     }
     
-    public void withdraw(double amount) {
-        if (amount > 0 && amount <= balance) {
-            balance -= amount;
-        } else {
+    public void withdrawCents(long amount) {
+        if (!tryWithdrawCents(amount)) {
             throw new IllegalArgumentException("Invalid withdrawal amount");
         }
     }
     
+    // Non-throwing withdrawal for bulk callers - returns false instead of rejecting with an exception
+    public boolean tryWithdrawCents(long amount) {
+        long current;
+        do {
+            current = getBalanceCents();
+            if (!(amount > 0 && amount <= current)) {
+                return false;
+            }
+        } while (!compareAndSetBalanceCents(current, current - amount));
+        publishEvent(AccountEventType.WITHDRAWAL, amount, current - amount);
+        return true;
+    }
+    
+    public void deposit(double amount) {
+        depositCents(Money.toCents(amount));
+    }
+    
+    public void withdraw(double amount) {
+        withdrawCents(Money.toCents(amount));
+    }
+    
     // Method that can be overridden - demonstrates polymorphism
-    public double calculateInterest() {
+    public long calculateInterestCents() {
         return 0; // Base class returns 0
     }
     
+    public double calculateInterest() {
+        return Money.toDouble(calculateInterestCents());
+    }
+    
     @Override
     public String toString() {
-        return "Account: " + accountNumber + ", Holder: " + accountHolderName + ", Balance: " + balance;
+        return appendTo(new StringBuilder(64)).toString();
+    }
+    
+    // Appends the toString() text to out without building intermediate Strings
+    public <A extends Appendable> A appendTo(A out) throws IOException {
+        out.append("Account: ").append(accountNumber).append(", Holder: ").append(accountHolderName).append(", Balance: ");
+        return NumberFormatter.append(out, getBalance());
+    }
+    
+    public StringBuilder appendTo(StringBuilder out) {
+        try {
+            appendTo((Appendable) out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder never throws
+        }
+        return out;
     }
 }
-
@@ -0,0 +1,126 @@
+package navaneeth;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * BatchTransactionEngine class - applies large arrays of transactions in parallel
+ * - Records are partitioned by account number, so every account lives in exactly one partition
+ * - Partitions run on a fork-join pool; each applies its records in original batch order
+ * - Outcomes are returned as one TransactionStatus per record instead of exceptions
+ * 
+ * The account map is only read during apply(), so a plain HashMap is fine as long as
+ * it is not modified while a batch is running.
+ */
+public class BatchTransactionEngine {
+    // Partitions per pool thread - more partitions even out uneven account sizes
+    private static final int PARTITIONS_PER_THREAD = 4;
+    // Below this many partitions a task applies them directly instead of forking
+    private static final int SEQUENTIAL_PARTITIONS = 1;
+    
+    private final Map<String, ? extends BankAccount> accounts;
+    private final ForkJoinPool pool;
+    private final int partitionCount;
+    
+    public BatchTransactionEngine(Map<String, ? extends BankAccount> accounts) {
+        this(accounts, ForkJoinPool.commonPool());
+    }
+    
+    public BatchTransactionEngine(Map<String, ? extends BankAccount> accounts, ForkJoinPool pool) {
+        this.accounts = accounts;
+        this.pool = pool;
+        this.partitionCount = Math.max(1, pool.getParallelism() * PARTITIONS_PER_THREAD);
+    }
+    
+    // Applies the batch and returns the outcome of each record at the same index
+    public TransactionStatus[] apply(Transaction[] batch) {
+        int n = batch.length;
+        TransactionStatus[] results = new TransactionStatus[n];
+        if (n == 0) {
+            return results;
+        }
+        
+        // Stable counting sort of record indices by partition - keeps per-account order
+        int[] partitionOf = new int[n];
+        int[] starts = new int[partitionCount + 1];
+        for (int i = 0; i < n; i++) {
+            int p = partitionFor(batch[i].getAccountNumber());
+            partitionOf[i] = p;
+            starts[p + 1]++;
+        }
+        for (int p = 0; p < partitionCount; p++) {
+            starts[p + 1] += starts[p];
+        }
+        int[] order = new int[n];
+        int[] cursor = new int[partitionCount];
+        System.arraycopy(starts, 0, cursor, 0, partitionCount);
+        for (int i = 0; i < n; i++) {
+            order[cursor[partitionOf[i]]++] = i;
+        }
+        
+        pool.invoke(new ApplyTask(batch, results, order, starts, 0, partitionCount));
+        return results;
+    }
+    
+    private int partitionFor(String accountNumber) {
+        if (accountNumber == null) {
+            return 0;
+        }
+        int h = accountNumber.hashCode();
+        h ^= (h >>> 16); // Spread high bits like HashMap does
+        return Math.floorMod(h, partitionCount);
+    }
+    
+    // Applies one partition's records in order; consecutive records for the same account skip the lookup
+    private void applyPartition(Transaction[] batch, TransactionStatus[] results, int[] order, int from, int to) {
+        String lastNumber = null;
+        BankAccount lastAccount = null;
+        for (int k = from; k < to; k++) {
+            int i = order[k];
+            Transaction transaction = batch[i];
+            String number = transaction.getAccountNumber();
+            if (number == null) {
+                results[i] = TransactionStatus.UNKNOWN_ACCOUNT;
+                continue;
+            }
+            if (!number.equals(lastNumber)) {
+                lastNumber = number;
+                lastAccount = accounts.get(number);
+            }
+            results[i] = transaction.applyTo(lastAccount);
+        }
+    }
+    
+    // Splits the partition range in halves until it is small enough to run directly
+    private class ApplyTask extends RecursiveAction {
+        private final Transaction[] batch;
+        private final TransactionStatus[] results;
+        private final int[] order;
+        private final int[] starts;
+        private final int lo;
+        private final int hi;
+        
+        ApplyTask(Transaction[] batch, TransactionStatus[] results, int[] order, int[] starts, int lo, int hi) {
+            this.batch = batch;
+            this.results = results;
+            this.order = order;
+            this.starts = starts;
+            this.lo = lo;
+            this.hi = hi;
+        }
+        
+        @Override
+        protected void compute() {
+            if (hi - lo <= SEQUENTIAL_PARTITIONS) {
+                for (int p = lo; p < hi; p++) {
+                    applyPartition(batch, results, order, starts[p], starts[p + 1]);
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new ApplyTask(batch, results, order, starts, lo, mid),
+                    new ApplyTask(batch, results, order, starts, mid, hi));
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package navaneeth;
+
+/**
+ * BulkArithmetic class - element-wise add, subtract and multiply over int[] and long[] arrays
+ * - out[i] = a[i] op b[i] for i in [from, to); out may be a or b for an in-place update
+ * - Every operation has WRAPPING, SATURATING and CHECKED overflow modes (see OverflowMode)
+ * - evenBits() packs the parity test of Calculator.isEven into a bitset, 64 values per long
+ * - Uses the JDK Vector API when available (see VectorSupport), otherwise scalar loops
+ *
+ * CHECKED stops at the first overflowing index: results before it are written, out[index] and
+ * everything after it are left untouched, and the ArithmeticException message names the index.
+ */
+public final class BulkArithmetic {
+    
+    // Utility class - no instances
+    private BulkArithmetic() {
+    }
+    
+    public static void add(int[] a, int[] b, int[] out, int from, int to, OverflowMode mode) {
+        check(a.length, b.length, out.length, from, to);
+        if (VectorSupport.AVAILABLE) {
+            BulkArithmeticVector.addInts(a, b, out, from, to, mode);
+        } else {
+            addScalar(a, b, out, from, to, mode);
+        }
+    }
+    
+    public static void subtract(int[] a, int[] b, int[] out, int from, int to, OverflowMode mode) {
+        check(a.length, b.length, out.length, from, to);
+        if (VectorSupport.AVAILABLE) {
+            BulkArithmeticVector.subtractInts(a, b, out, from, to, mode);
+        } else {
+            subtractScalar(a, b, out, from, to, mode);
+        }
+    }
+    
+    public static void multiply(int[] a, int[] b, int[] out, int from, int to, OverflowMode mode) {
+        check(a.length, b.length, out.length, from, to);
+        if (VectorSupport.AVAILABLE) {
+            BulkArithmeticVector.multiplyInts(a, b, out, from, to, mode);
+        } else {
+            multiplyScalar(a, b, out, from, to, mode);
+        }
+    }
+    
+    public static void add(long[] a, long[] b, long[] out, int from, int to, OverflowMode mode) {
+        check(a.length, b.length, out.length, from, to);
+        if (VectorSupport.AVAILABLE) {
+            BulkArithmeticVector.addLongs(a, b, out, from, to, mode);
+        } else {
+            addScalar(a, b, out, from, to, mode);
+        }
+    }
+    
+    public static void subtract(long[] a, long[] b, long[] out, int from, int to, OverflowMode mode) {
+        check(a.length, b.length, out.length, from, to);
+        if (VectorSupport.AVAILABLE) {
+            BulkArithmeticVector.subtractLongs(a, b, out, from, to, mode);
+        } else {
+            subtractScalar(a, b, out, from, to, mode);
+        }
+    }
+    
+    public static void multiply(long[] a, long[] b, long[] out, int from, int to, OverflowMode mode) {
+        check(a.length, b.length, out.length, from, to);
+        if (VectorSupport.AVAILABLE) {
+            BulkArithmeticVector.multiplyLongs(a, b, out, from, to, mode);
+        } else {
+            multiplyScalar(a, b, out, from, to, mode);
+        }
+    }
+    
+    // Sets bit i of bits (bit i % 64 of bits[i / 64]) when values[i] is even, clears it otherwise;
+    // bits needs (values.length + 63) / 64 words
+    public static void evenBits(int[] values, long[] bits) {
+        if (bits.length < (values.length + 63) >>> 6) {
+            throw new IndexOutOfBoundsException("Bitset of " + bits.length + " words too small for " + values.length + " values");
+        }
+        if (VectorSupport.AVAILABLE) {
+            BulkArithmeticVector.evenBits(values, bits);
+        } else {
+            evenBitsScalar(values, bits, 0);
+        }
+    }
+    
+    // Scalar fallbacks, also used for vector tails and for vector blocks that need exact handling
+    
+    static void addScalar(int[] a, int[] b, int[] out, int from, int to, OverflowMode mode) {
+        switch (mode) {
+            case WRAPPING:
+                for (int i = from; i < to; i++) {
+                    out[i] = a[i] + b[i];
+                }
+                break;
+            case SATURATING:
+                for (int i = from; i < to; i++) {
+                    out[i] = saturate((long) a[i] + b[i]);
+                }
+                break;
+            default:
+                for (int i = from; i < to; i++) {
+                    out[i] = exact((long) a[i] + b[i], i);
+                }
+                break;
+        }
+    }
+    
+    static void subtractScalar(int[] a, int[] b, int[] out, int from, int to, OverflowMode mode) {
+        switch (mode) {
+            case WRAPPING:
+                for (int i = from; i < to; i++) {
+                    out[i] = a[i] - b[i];
+                }
+                break;
+            case SATURATING:
+                for (int i = from; i < to; i++) {
+                    out[i] = saturate((long) a[i] - b[i]);
+                }
+                break;
+            default:
+                for (int i = from; i < to; i++) {
+                    out[i] = exact((long) a[i] - b[i], i);
+                }
+                break;
+        }
+    }
+    
+    static void multiplyScalar(int[] a, int[] b, int[] out, int from, int to, OverflowMode mode) {
+        switch (mode) {
+            case WRAPPING:
+                for (int i = from; i < to; i++) {
+                    out[i] = a[i] * b[i];
+                }
+                break;
+            case SATURATING:
+                for (int i = from; i < to; i++) {
+                    out[i] = saturate((long) a[i] * b[i]);
+                }
+                break;
+            default:
+                for (int i = from; i < to; i++) {
+                    out[i] = exact((long) a[i] * b[i], i);
+                }
+                break;
+        }
+    }
+    
+    static void addScalar(long[] a, long[] b, long[] out, int from, int to, OverflowMode mode) {
+        for (int i = from; i < to; i++) {
+            long x = a[i];
+            long y = b[i];
+            long r = x + y;
+            // Overflow iff both operands have the sign the result lacks
+            if (mode != OverflowMode.WRAPPING && ((x ^ r) & (y ^ r)) < 0) {
+                r = overflow(x, i, mode);
+            }
+            out[i] = r;
+        }
+    }
+    
+    static void subtractScalar(long[] a, long[] b, long[] out, int from, int to, OverflowMode mode) {
+        for (int i = from; i < to; i++) {
+            long x = a[i];
+            long y = b[i];
+            long r = x - y;
+            // Overflow iff the operands differ in sign and the result lost the sign of x
+            if (mode != OverflowMode.WRAPPING && ((x ^ y) & (x ^ r)) < 0) {
+                r = overflow(x, i, mode);
+            }
+            out[i] = r;
+        }
+    }
+    
+    static void multiplyScalar(long[] a, long[] b, long[] out, int from, int to, OverflowMode mode) {
+        for (int i = from; i < to; i++) {
+            long x = a[i];
+            long y = b[i];
+            long r = x * y;
+            // The 128-bit product fits iff its high half is the sign extension of the low half
+            if (mode != OverflowMode.WRAPPING && Math.multiplyHigh(x, y) != (r >> 63)) {
+                r = overflow(x ^ y, i, mode);
+            }
+            out[i] = r;
+        }
+    }
+    
+    // Words from the given one on
+    static void evenBitsScalar(int[] values, long[] bits, int fromWord) {
+        for (int word = fromWord; word << 6 < values.length; word++) {
+            int base = word << 6;
+            int count = Math.min(64, values.length - base);
+            long mask = 0;
+            for (int j = 0; j < count; j++) {
+                mask |= (long) (~values[base + j] & 1) << j;
+            }
+            bits[word] = mask;
+        }
+    }
+    
+    private static int saturate(long value) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
+    }
+    
+    private static int exact(long value, int index) {
+        if (value != (int) value) {
+            throw overflowAt(index);
+        }
+        return (int) value;
+    }
+    
+    // Saturated value with the sign of the true result, or the CHECKED exception
+    private static long overflow(long sign, int index, OverflowMode mode) {
+        if (mode == OverflowMode.CHECKED) {
+            throw overflowAt(index);
+        }
+        return sign < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+    }
+    
+    static ArithmeticException overflowAt(int index) {
+        return new ArithmeticException("Integer overflow at index " + index);
+    }
+    
+    private static void check(int aLength, int bLength, int outLength, int from, int to) {
+        if (from < 0 || from > to || to > Math.min(aLength, Math.min(bLength, outLength))) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") outside arrays of "
+                + Math.min(aLength, Math.min(bLength, outLength)));
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package navaneeth;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * BulkArithmeticVector class - Vector API kernels behind BulkArithmetic
+ * - Only loaded when VectorSupport.AVAILABLE is true
+ * - Add/subtract detect overflow with the sign test of the scalar code on whole vectors and
+ *   saturate with a blend; int multiply widens to long lanes, where the product is exact
+ * - Long multiply has no vector high half: blocks whose operands all fit in 32 bits (the usual
+ *   case) stay vectorized, other blocks go through the exact scalar code
+ * - CHECKED blocks with an overflow are redone by the scalar code, which throws at the exact index
+ */
+final class BulkArithmeticVector {
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    // Ints with one lane per long lane, for widening multiplies
+    private static final VectorSpecies<Integer> HALF_INTS =
+        VectorSpecies.of(int.class, VectorShape.forBitSize(LONGS.vectorBitSize() / 2));
+    
+    private BulkArithmeticVector() {
+    }
+    
+    static void addInts(int[] a, int[] b, int[] out, int from, int to, OverflowMode mode) {
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            IntVector x = IntVector.fromArray(INTS, a, i);
+            IntVector y = IntVector.fromArray(INTS, b, i);
+            IntVector r = x.add(y);
+            if (mode != OverflowMode.WRAPPING) {
+                VectorMask<Integer> overflow = x.lanewise(VectorOperators.XOR, r)
+                    .and(y.lanewise(VectorOperators.XOR, r)).compare(VectorOperators.LT, 0);
+                if (overflow.anyTrue()) {
+                    if (mode == OverflowMode.CHECKED) {
+                        BulkArithmetic.addScalar(a, b, out, i, i + INTS.length(), mode); // Throws
+                    }
+                    r = r.blend(saturated(x), overflow);
+                }
+            }
+            r.intoArray(out, i);
+        }
+        BulkArithmetic.addScalar(a, b, out, i, to, mode);
+    }
+    
+    static void subtractInts(int[] a, int[] b, int[] out, int from, int to, OverflowMode mode) {
+        int i = from;
+        for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+            IntVector x = IntVector.fromArray(INTS, a, i);
+            IntVector y = IntVector.fromArray(INTS, b, i);
+            IntVector r = x.sub(y);
+            if (mode != OverflowMode.WRAPPING) {
+                VectorMask<Integer> overflow = x.lanewise(VectorOperators.XOR, y)
+                    .and(x.lanewise(VectorOperators.XOR, r)).compare(VectorOperators.LT, 0);
+                if (overflow.anyTrue()) {
+                    if (mode == OverflowMode.CHECKED) {
+                        BulkArithmetic.subtractScalar(a, b, out, i, i + INTS.length(), mode); // Throws
+                    }
+                    r = r.blend(saturated(x), overflow);
+                }
+            }
+            r.intoArray(out, i);
+        }
+        BulkArithmetic.subtractScalar(a, b, out, i, to, mode);
+    }
+    
+    static void multiplyInts(int[] a, int[] b, int[] out, int from, int to, OverflowMode mode) {
+        int i = from;
+        if (mode == OverflowMode.WRAPPING) {
+            for (int bound = from + INTS.loopBound(to - from); i < bound; i += INTS.length()) {
+                IntVector.fromArray(INTS, a, i).mul(IntVector.fromArray(INTS, b, i)).intoArray(out, i);
+            }
+        } else {
+            for (int bound = from + HALF_INTS.loopBound(to - from); i < bound; i += HALF_INTS.length()) {
+                LongVector x = (LongVector) IntVector.fromArray(HALF_INTS, a, i).convertShape(VectorOperators.I2L, LONGS, 0);
+                LongVector y = (LongVector) IntVector.fromArray(HALF_INTS, b, i).convertShape(VectorOperators.I2L, LONGS, 0);
+                LongVector p = x.mul(y);
+                VectorMask<Long> overflow = p.compare(VectorOperators.GT, Integer.MAX_VALUE)
+                    .or(p.compare(VectorOperators.LT, Integer.MIN_VALUE));
+                if (overflow.anyTrue()) {
+                    if (mode == OverflowMode.CHECKED) {
+                        BulkArithmetic.multiplyScalar(a, b, out, i, i + HALF_INTS.length(), mode); // Throws
+                    }
+                    p = p.max(Integer.MIN_VALUE).min(Integer.MAX_VALUE);
+                }
+                p.convertShape(VectorOperators.L2I, HALF_INTS, 0).reinterpretAsInts().intoArray(out, i);
+            }
+        }
+        BulkArithmetic.multiplyScalar(a, b, out, i, to, mode);
+    }
+    
+    static void addLongs(long[] a, long[] b, long[] out, int from, int to, OverflowMode mode) {
+        int i = from;
+        for (int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            LongVector x = LongVector.fromArray(LONGS, a, i);
+            LongVector y = LongVector.fromArray(LONGS, b, i);
+            LongVector r = x.add(y);
+            if (mode != OverflowMode.WRAPPING) {
+                VectorMask<Long> overflow = x.lanewise(VectorOperators.XOR, r)
+                    .and(y.lanewise(VectorOperators.XOR, r)).compare(VectorOperators.LT, 0);
+                if (overflow.anyTrue()) {
+                    if (mode == OverflowMode.CHECKED) {
+                        BulkArithmetic.addScalar(a, b, out, i, i + LONGS.length(), mode); // Throws
+                    }
+                    r = r.blend(saturated(x), overflow);
+                }
+            }
+            r.intoArray(out, i);
+        }
+        BulkArithmetic.addScalar(a, b, out, i, to, mode);
+    }
+    
+    static void subtractLongs(long[] a, long[] b, long[] out, int from, int to, OverflowMode mode) {
+        int i = from;
+        for (int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            LongVector x = LongVector.fromArray(LONGS, a, i);
+            LongVector y = LongVector.fromArray(LONGS, b, i);
+            LongVector r = x.sub(y);
+            if (mode != OverflowMode.WRAPPING) {
+                VectorMask<Long> overflow = x.lanewise(VectorOperators.XOR, y)
+                    .and(x.lanewise(VectorOperators.XOR, r)).compare(VectorOperators.LT, 0);
+                if (overflow.anyTrue()) {
+                    if (mode == OverflowMode.CHECKED) {
+                        BulkArithmetic.subtractScalar(a, b, out, i, i + LONGS.length(), mode); // Throws
+                    }
+                    r = r.blend(saturated(x), overflow);
+                }
+            }
+            r.intoArray(out, i);
+        }
+        BulkArithmetic.subtractScalar(a, b, out, i, to, mode);
+    }
+    
+    static void multiplyLongs(long[] a, long[] b, long[] out, int from, int to, OverflowMode mode) {
+        int i = from;
+        for (int bound = from + LONGS.loopBound(to - from); i < bound; i += LONGS.length()) {
+            LongVector x = LongVector.fromArray(LONGS, a, i);
+            LongVector y = LongVector.fromArray(LONGS, b, i);
+            // Products of operands that fit in 32 bits cannot overflow
+            if (mode != OverflowMode.WRAPPING && !(fitsInt(x).and(fitsInt(y)).allTrue())) {
+                BulkArithmetic.multiplyScalar(a, b, out, i, i + LONGS.length(), mode);
+                continue;
+            }
+            x.mul(y).intoArray(out, i);
+        }
+        BulkArithmetic.multiplyScalar(a, b, out, i, to, mode);
+    }
+    
+    static void evenBits(int[] values, long[] bits) {
+        int lanes = INTS.length(); // A power of two up to 16, so a word takes whole vectors
+        int words = values.length >>> 6;
+        for (int word = 0; word < words; word++) {
+            long mask = 0;
+            for (int j = 0; j < 64; j += lanes) {
+                mask |= IntVector.fromArray(INTS, values, (word << 6) + j).lanewise(VectorOperators.AND, 1)
+                    .compare(VectorOperators.EQ, 0).toLong() << j;
+            }
+            bits[word] = mask;
+        }
+        BulkArithmetic.evenBitsScalar(values, bits, words);
+    }
+    
+    // MAX_VALUE for non-negative lanes, MIN_VALUE for negative ones
+    private static IntVector saturated(IntVector sign) {
+        return sign.lanewise(VectorOperators.ASHR, 31).lanewise(VectorOperators.XOR, Integer.MAX_VALUE);
+    }
+    
+    private static LongVector saturated(LongVector sign) {
+        return sign.lanewise(VectorOperators.ASHR, 63).lanewise(VectorOperators.XOR, Long.MAX_VALUE);
+    }
+    
+    private static VectorMask<Long> fitsInt(LongVector v) {
+        return v.lanewise(VectorOperators.LSHL, 32).lanewise(VectorOperators.ASHR, 32).compare(VectorOperators.EQ, v);
+    }
+}
@@ -27,5 +27,58 @@ public class Calculator {
     public boolean isEven(int number) {
         return number % 2 == 0;
     }
+    
+    // Bulk variants: element-wise over whole arrays, returning a new array (see BulkArithmetic
+    // for ranges, caller-supplied output arrays and in-place updates)
+    
+    public int[] add(int[] a, int[] b, OverflowMode mode) {
+        int[] out = new int[sameLength(a.length, b.length)];
+        BulkArithmetic.add(a, b, out, 0, out.length, mode);
+        return out;
+    }
+    
+    public int[] subtract(int[] a, int[] b, OverflowMode mode) {
+        int[] out = new int[sameLength(a.length, b.length)];
+        BulkArithmetic.subtract(a, b, out, 0, out.length, mode);
+        return out;
+    }
+    
+    public int[] multiply(int[] a, int[] b, OverflowMode mode) {
+        int[] out = new int[sameLength(a.length, b.length)];
+        BulkArithmetic.multiply(a, b, out, 0, out.length, mode);
+        return out;
+    }
+    
+    public long[] add(long[] a, long[] b, OverflowMode mode) {
+        long[] out = new long[sameLength(a.length, b.length)];
+        BulkArithmetic.add(a, b, out, 0, out.length, mode);
+        return out;
+    }
+    
+    public long[] subtract(long[] a, long[] b, OverflowMode mode) {
+        long[] out = new long[sameLength(a.length, b.length)];
+        BulkArithmetic.subtract(a, b, out, 0, out.length, mode);
+        return out;
+    }
+    
+    public long[] multiply(long[] a, long[] b, OverflowMode mode) {
+        long[] out = new long[sameLength(a.length, b.length)];
+        BulkArithmetic.multiply(a, b, out, 0, out.length, mode);
+        return out;
+    }
+    
+    // Packed bitset: bit i (bit i % 64 of word i / 64) is set when numbers[i] is even
+    public long[] isEven(int[] numbers) {
+        long[] bits = new long[(numbers.length + 63) >>> 6];
+        BulkArithmetic.evenBits(numbers, bits);
+        return bits;
+    }
+    
+    private static int sameLength(int a, int b) {
+        if (a != b) {
+            throw new IllegalArgumentException("Arrays differ in length: " + a + " and " + b);
+        }
+        return a;
+    }
 }
 
@@ -0,0 +1,129 @@
+package navaneeth;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * ConcurrentEmployeeIdMap class - EmployeeIdMap for many concurrent readers
+ * - get() is an optimistic read (StampedLock): it probes the table without locking and only
+ *   retries under the read lock if a writer ran at the same time
+ * - Writers (add, remove, re-keying) are serialized by the write lock
+ * - Added employees are tracked: setEmployeeId moves the entry to the new id, so lookups by
+ *   getEmployeeId() stay correct without the caller re-inserting anything
+ *
+ * Ids are expected to be unique. If an employee is re-keyed onto an id that is already taken,
+ * the re-keyed employee wins the id and the other one drops out of the map until its own id changes.
+ *
+ * Re-keying is not atomic with the id change: setEmployeeId writes the id field first and the map
+ * follows when its listener runs. In between, get(oldId) still returns the employee although its
+ * getEmployeeId() is already the new id, and get(newId) does not find it yet. A reader that needs
+ * the two to agree should compare getEmployeeId() with the id it looked up.
+ */
+public class ConcurrentEmployeeIdMap implements EmployeeListener {
+    private final EmployeeIdMap map;
+    private final StampedLock lock = new StampedLock();
+    
+    public ConcurrentEmployeeIdMap() {
+        this(16);
+    }
+    
+    public ConcurrentEmployeeIdMap(int expectedSize) {
+        this.map = new EmployeeIdMap(expectedSize);
+    }
+    
+    public Employee get(int id) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            Employee employee = EmployeeIdMap.find(map.keys, map.values, id);
+            if (lock.validate(stamp)) {
+                return employee;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return map.get(id);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    public boolean containsKey(int id) {
+        return get(id) != null;
+    }
+    
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return map.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    // Maps the employee under its id and follows its id changes; returns the employee it displaced
+    public Employee add(Employee employee) {
+        synchronized (employee) {
+            if (employee.hasListener(this)) {
+                throw new IllegalStateException("Employee " + employee.getEmployeeId() + " is already in the map");
+            }
+            employee.addListener(this);
+            long stamp = lock.writeLock();
+            try {
+                return map.put(employee);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+    
+    // Removes the employee and stops following it; returns false if it was not added
+    public boolean remove(Employee employee) {
+        synchronized (employee) {
+            if (!employee.removeListener(this)) {
+                return false;
+            }
+            long stamp = lock.writeLock();
+            try {
+                if (map.get(employee.getEmployeeId()) == employee) {
+                    map.remove(employee.getEmployeeId());
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+            return true;
+        }
+    }
+    
+    // Visits the employees under the read lock; the action must not modify this map
+    public void forEach(Consumer<? super Employee> action) {
+        long stamp = lock.readLock();
+        try {
+            map.forEach(action);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+    
+    @Override
+    public void employeeIdChanged(Employee employee, int oldId, int newId) {
+        long stamp = lock.writeLock();
+        try {
+            if (map.get(oldId) == employee) {
+                map.remove(oldId);
+            }
+            map.put(newId, employee);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+    
+    @Override
+    public void salaryChanged(Employee employee, double oldSalary, double newSalary) {
+        // Keyed by id only
+    }
+    
+    @Override
+    public void departmentChanged(Manager manager, String oldDepartment, String newDepartment) {
+        // Keyed by id only
+    }
+}
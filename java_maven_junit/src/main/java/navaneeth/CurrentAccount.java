@@ -6,36 +6,63 @@ package navaneeth;
  * - Overrides calculateInterest with different implementation
  */
 public class CurrentAccount extends BankAccount {
-    private static final double INTEREST_RATE = 0.02; // 2% interest rate (lower than savings)
-    private double overdraftLimit;
+    static final int INTEREST_RATE_BPS = 200; // 2% interest rate, in basis points (lower than savings)
+    private final long overdraftLimitCents;
     
     public CurrentAccount(String accountNumber, String accountHolderName, double initialBalance, double overdraftLimit) {
         super(accountNumber, accountHolderName, initialBalance);
-        this.overdraftLimit = overdraftLimit;
+        this.overdraftLimitCents = Money.toCents(overdraftLimit);
+    }
+    
+    private CurrentAccount(String accountNumber, String accountHolderName, long overdraftLimitCents) {
+        super(accountNumber, accountHolderName, 0);
+        this.overdraftLimitCents = overdraftLimitCents;
+    }
+    
+    // Factory taking an exact balance and overdraft limit in cents
+    public static CurrentAccount ofCents(String accountNumber, String accountHolderName,
+                                         long initialBalanceCents, long overdraftLimitCents) {
+        CurrentAccount account = new CurrentAccount(accountNumber, accountHolderName, overdraftLimitCents);
+        account.setBalanceCents(initialBalanceCents);
+        return account;
     }
     
     // Method Overriding - POLYMORPHISM (different implementation than SavingsAccount)
     @Override
-    public double calculateInterest() {
-        return getBalance() * INTEREST_RATE;
+    public long calculateInterestCents() {
+        return Money.applyRate(getBalanceCents(), INTEREST_RATE_BPS);
     }
     
     // Override withdraw to allow overdraft
+    // The limit check and the update happen in one CAS loop so concurrent withdrawals cannot overshoot it
     @Override
-    public void withdraw(double amount) {
-        if (amount > 0 && (getBalance() + overdraftLimit) >= amount) {
-            double newBalance = getBalance() - amount;
-            setBalance(newBalance); // Use protected setter
-            if (newBalance < 0) {
-                System.out.println("Overdraft used: " + Math.abs(newBalance));
-            }
-        } else {
+    public void withdrawCents(long amount) {
+        if (!tryWithdrawCents(amount)) {
             throw new IllegalArgumentException("Withdrawal exceeds available balance and overdraft limit");
         }
     }
     
+    @Override
+    public boolean tryWithdrawCents(long amount) {
+        long current;
+        long newBalance;
+        do {
+            current = getBalanceCents();
+            if (!(amount > 0 && (current + overdraftLimitCents) >= amount)) {
+                return false;
+            }
+            newBalance = current - amount;
+        } while (!compareAndSetBalanceCents(current, newBalance)); // Use protected CAS
+        // Overdrafts go to the event bus instead of the console - see AccountEventSubscriber.overdraftLogger
+        publishEvent(newBalance < 0 ? AccountEventType.OVERDRAFT : AccountEventType.WITHDRAWAL, amount, newBalance);
+        return true;
+    }
+    
+    public long getOverdraftLimitCents() {
+        return overdraftLimitCents;
+    }
+    
     public double getOverdraftLimit() {
-        return overdraftLimit;
+        return Money.toDouble(overdraftLimitCents);
     }
 }
-
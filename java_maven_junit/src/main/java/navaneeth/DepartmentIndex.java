@@ -0,0 +1,214 @@
+package navaneeth;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * DepartmentIndex class - group-by-department index over Managers
+ * - Department names are dictionary-encoded (StringDictionary); each code owns a member group
+ * - setDepartment on a tracked Manager moves it between groups in O(1), so the index never goes stale
+ * - Member lists, id lists, salary totals and bonus pools cost O(department size), not O(roster)
+ *
+ * Plain Employees have no department and are not indexed. Each group has its own lock, so
+ * queries on one department do not block updates in another.
+ */
+public class DepartmentIndex implements EmployeeListener {
+    private final StringDictionary dictionary;
+    private volatile Group[] groups = new Group[8]; // By department code; copied and replaced under this
+    
+    // Members of one department: dense array plus each member's slot, for O(1) removal
+    private static final class Group {
+        private Manager[] members = new Manager[4];
+        private int size;
+        private final IdentityHashMap<Manager, Integer> slots = new IdentityHashMap<>();
+        
+        synchronized void add(Manager manager) {
+            if (size == members.length) {
+                members = Arrays.copyOf(members, size * 2);
+            }
+            slots.put(manager, size);
+            members[size++] = manager;
+        }
+        
+        // Moves the last member into the freed slot
+        synchronized void remove(Manager manager) {
+            Integer slot = slots.remove(manager);
+            if (slot == null) {
+                return;
+            }
+            Manager last = members[--size];
+            members[size] = null;
+            if (last != manager) {
+                members[slot] = last;
+                slots.put(last, slot);
+            }
+        }
+        
+        synchronized Manager[] toArray() {
+            return Arrays.copyOf(members, size);
+        }
+        
+        synchronized int size() {
+            return size;
+        }
+    }
+    
+    public DepartmentIndex() {
+        this(new StringDictionary());
+    }
+    
+    // Shares codes with other structures using the same dictionary (e.g. an EmployeeRoster)
+    public DepartmentIndex(StringDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+    
+    public StringDictionary getDictionary() {
+        return dictionary;
+    }
+    
+    // Starts indexing a Manager under its current department and following its changes
+    public void track(Manager manager) {
+        synchronized (manager) {
+            if (manager.hasListener(this)) {
+                throw new IllegalStateException("Manager " + manager.getEmployeeId() + " is already tracked");
+            }
+            manager.addListener(this);
+            if (manager.getDepartment() != null) {
+                group(dictionary.encode(manager.getDepartment())).add(manager);
+            }
+        }
+    }
+    
+    // Tracks the Managers of a collection; other employees have no department
+    public void trackAll(Collection<? extends Employee> employees) {
+        for (Employee employee : employees) {
+            if (employee instanceof Manager) {
+                track((Manager) employee);
+            }
+        }
+    }
+    
+    public boolean untrack(Manager manager) {
+        synchronized (manager) {
+            if (!manager.removeListener(this)) {
+                return false;
+            }
+            Group group = existing(manager.getDepartment());
+            if (group != null) {
+                group.remove(manager);
+            }
+            return true;
+        }
+    }
+    
+    public int size(String department) {
+        Group group = existing(department);
+        return group == null ? 0 : group.size();
+    }
+    
+    public List<Manager> getMembers(String department) {
+        Group group = existing(department);
+        return group == null ? List.of() : Arrays.asList(group.toArray());
+    }
+    
+    public int[] getMemberIds(String department) {
+        Group group = existing(department);
+        if (group == null) {
+            return new int[0];
+        }
+        Manager[] members = group.toArray();
+        int[] ids = new int[members.length];
+        for (int i = 0; i < members.length; i++) {
+            ids[i] = members[i].getEmployeeId();
+        }
+        return ids;
+    }
+    
+    public void forEachMember(String department, Consumer<? super Manager> action) {
+        Group group = existing(department);
+        if (group != null) {
+            for (Manager manager : group.toArray()) {
+                action.accept(manager);
+            }
+        }
+    }
+    
+    public double totalSalary(String department) {
+        ExactSum total = new ExactSum();
+        forEachMember(department, manager -> total.add(manager.getSalary()));
+        return total.doubleValue();
+    }
+    
+    // Sum of calculateBonus() over the department, exactly rounded
+    public double bonusPool(String department) {
+        ExactSum total = new ExactSum();
+        forEachMember(department, manager -> total.add(manager.calculateBonus()));
+        return total.doubleValue();
+    }
+    
+    // Departments with at least one member
+    public List<String> getDepartments() {
+        List<String> departments = new ArrayList<>();
+        Group[] current = groups;
+        for (int code = 0; code < current.length; code++) {
+            if (current[code] != null && current[code].size() > 0) {
+                departments.add(dictionary.decode(code));
+            }
+        }
+        return departments;
+    }
+    
+    @Override
+    public void employeeIdChanged(Employee employee, int oldId, int newId) {
+        // Members are held by reference; getMemberIds() reads the current ids
+    }
+    
+    @Override
+    public void salaryChanged(Employee employee, double oldSalary, double newSalary) {
+        // Membership does not depend on salary
+    }
+    
+    @Override
+    public void departmentChanged(Manager manager, String oldDepartment, String newDepartment) {
+        Group old = existing(oldDepartment);
+        if (old != null) {
+            old.remove(manager);
+        }
+        if (newDepartment != null) {
+            group(dictionary.encode(newDepartment)).add(manager);
+        }
+    }
+    
+    private Group existing(String department) {
+        if (department == null) {
+            return null;
+        }
+        int code = dictionary.lookup(department);
+        Group[] current = groups;
+        return code == StringDictionary.UNKNOWN || code >= current.length ? null : current[code];
+    }
+    
+    private Group group(int code) {
+        Group[] current = groups;
+        if (code < current.length && current[code] != null) {
+            return current[code];
+        }
+        synchronized (this) {
+            current = groups;
+            if (code < current.length && current[code] != null) {
+                return current[code];
+            }
+            // Copy on write: readers only ever see arrays published through the volatile field
+            int length = code < current.length ? current.length : Math.max(code + 1, current.length * 2);
+            Group[] next = Arrays.copyOf(current, length);
+            Group group = new Group();
+            next[code] = group;
+            groups = next;
+            return group;
+        }
+    }
+}
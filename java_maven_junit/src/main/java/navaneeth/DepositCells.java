@@ -0,0 +1,84 @@
+package navaneeth;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * DepositCells class - striped deposit accumulator for one hot account (LongAdder-style)
+ * - Each thread adds into its own padded cell, so concurrent deposits do not fight over one
+ *   cache line; the cells only ever hold not-yet-folded deposits (never negative)
+ * - drain() hands the pending total to the account; retire() does the same and closes the
+ *   cells, after which add() fails and depositors fall back to the account's main balance
+ */
+final class DepositCells {
+    private static final int PADDING = 16;            // Longs per cell, one cache line or more apart
+    private static final long RETIRED = Long.MIN_VALUE;
+    private static final int MAX_CELLS = 64;
+    
+    private final AtomicLongArray cells;
+    private final int mask;
+    private int busyCells;  // Cells holding deposits at the last drain, guarded by this
+    
+    DepositCells() {
+        int count = Math.min(MAX_CELLS, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1));
+        this.mask = count - 1;
+        this.cells = new AtomicLongArray(count * PADDING);
+    }
+    
+    // Adds a deposit to the calling thread's cell; false once the cells are retired
+    boolean add(long amount) {
+        long h = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L; // Spread sequential ids
+        int cell = (int) (h >>> 32) & mask;
+        while (true) {
+            int index = cell * PADDING;
+            long value = cells.get(index);
+            if (value == RETIRED) {
+                return false;
+            }
+            if (cells.compareAndSet(index, value, value + amount)) {
+                return true;
+            }
+            cell = (cell + 1) & mask; // Collided with another thread - try the next cell
+        }
+    }
+    
+    // Takes all pending deposits out of the cells; callers hold the lock on this object
+    long drain() {
+        return take(0);
+    }
+    
+    // Takes all pending deposits and closes the cells for good; callers hold the lock on this object
+    long retire() {
+        return take(RETIRED);
+    }
+    
+    // Sum of pending deposits without taking them - may be stale while deposits run
+    long pending() {
+        long sum = 0;
+        for (int cell = 0; cell <= mask; cell++) {
+            long value = cells.get(cell * PADDING);
+            if (value != RETIRED) {
+                sum += value;
+            }
+        }
+        return sum;
+    }
+    
+    // Number of cells that held deposits at the last drain - 0 or 1 means deposits were not concurrent
+    int getBusyCells() {
+        return busyCells;
+    }
+    
+    private long take(long replacement) {
+        long sum = 0;
+        int busy = 0;
+        for (int cell = 0; cell <= mask; cell++) {
+            long value = cells.getAndSet(cell * PADDING, replacement);
+            if (value != 0 && value != RETIRED) {
+                sum += value;
+                busy++;
+            }
+        }
+        busyCells = busy;
+        return sum;
+    }
+}
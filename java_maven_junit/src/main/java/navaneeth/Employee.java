@@ -1,5 +1,9 @@
 package navaneeth;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
 /**
  * Employee class demonstrating OOPS concepts
  * - Encapsulation: Private fields with getters/setters
@@ -9,6 +13,10 @@ public class Employee {
     private String name;
     private int employeeId;
     private double salary;
+    // Notified of salary and department changes (see PayrollAggregates, ConcurrentEmployeeIdMap); copy-on-write, guarded by this
+    volatile EmployeeListener[] listeners = NO_LISTENERS;
+    
+    static final EmployeeListener[] NO_LISTENERS = {};
     
     public Employee(String name, int employeeId, double salary) {
         this.name = name;
@@ -29,16 +37,55 @@ public class Employee {
         return employeeId;
     }
     
-    public void setEmployeeId(int employeeId) {
+    // Synchronized so listeners see every change exactly once and in order
+    public synchronized void setEmployeeId(int employeeId) {
+        int oldId = this.employeeId;
         this.employeeId = employeeId;
+        for (EmployeeListener listener : listeners) {
+            listener.employeeIdChanged(this, oldId, employeeId);
+        }
     }
     
     public double getSalary() {
         return salary;
     }
     
-    public void setSalary(double salary) {
+    // Synchronized so listeners see every change exactly once and in order
+    public synchronized void setSalary(double salary) {
+        double oldSalary = this.salary;
         this.salary = salary;
+        for (EmployeeListener listener : listeners) {
+            listener.salaryChanged(this, oldSalary, salary);
+        }
+    }
+    
+    synchronized void addListener(EmployeeListener listener) {
+        EmployeeListener[] current = listeners;
+        EmployeeListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+    
+    synchronized boolean removeListener(EmployeeListener listener) {
+        EmployeeListener[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                EmployeeListener[] updated = Arrays.copyOf(current, current.length - 1);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners = updated;
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    boolean hasListener(EmployeeListener listener) {
+        for (EmployeeListener current : listeners) {
+            if (current == listener) {
+                return true;
+            }
+        }
+        return false;
     }
     
     // Method that can be overridden
@@ -48,7 +95,26 @@ public class Employee {
     
     @Override
     public String toString() {
-        return "Employee{id=" + employeeId + ", name='" + name + "', salary=" + salary + "}";
+        return appendTo(new StringBuilder(64)).toString();
+    }
+    
+    // Appends the toString() text to out without building intermediate Strings
+    public <A extends Appendable> A appendTo(A out) throws IOException {
+        out.append("Employee{id=");
+        NumberFormatter.append(out, employeeId);
+        out.append(", name='").append(name).append("', salary=");
+        NumberFormatter.append(out, salary);
+        out.append('}');
+        return out;
+    }
+    
+    public StringBuilder appendTo(StringBuilder out) {
+        try {
+            appendTo((Appendable) out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder never throws
+        }
+        return out;
     }
 }
 
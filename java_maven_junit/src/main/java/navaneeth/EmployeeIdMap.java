@@ -0,0 +1,176 @@
+package navaneeth;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * EmployeeIdMap class - int-keyed open-addressing map from employee id to Employee
+ * - Keys live in an int[] and values in a parallel Employee[]: no Integer boxing and no entry
+ *   node per mapping, so an entry costs two array slots instead of a key object plus a node
+ * - Linear probing; removal shifts the following entries back, so there are no tombstones and
+ *   lookups never slow down after many removals
+ * - Any int is a valid key; an empty slot is one whose value is null
+ *
+ * Not thread-safe; see ConcurrentEmployeeIdMap for concurrent readers.
+ */
+public class EmployeeIdMap {
+    static final float LOAD_FACTOR = 0.75f;
+    private static final int MIN_CAPACITY = 8;
+    
+    int[] keys;           // Package-private for ConcurrentEmployeeIdMap's optimistic reads
+    Employee[] values;
+    private int size;
+    private int resizeAt;
+    
+    public EmployeeIdMap() {
+        this(MIN_CAPACITY);
+    }
+    
+    public EmployeeIdMap(int expectedSize) {
+        int capacity = tableSizeFor((int) Math.min(1 << 30, (long) Math.ceil(expectedSize / (double) LOAD_FACTOR)));
+        allocate(capacity);
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    public Employee get(int id) {
+        return find(keys, values, id);
+    }
+    
+    public boolean containsKey(int id) {
+        return get(id) != null;
+    }
+    
+    // Maps the employee under its current id; returns the employee previously mapped there
+    public Employee put(Employee employee) {
+        return put(employee.getEmployeeId(), employee);
+    }
+    
+    public Employee put(int id, Employee employee) {
+        if (employee == null) {
+            throw new IllegalArgumentException("Employee must not be null");
+        }
+        int mask = keys.length - 1;
+        for (int i = hash(id) & mask; ; i = (i + 1) & mask) {
+            Employee current = values[i];
+            if (current == null) {
+                keys[i] = id;
+                values[i] = employee;
+                if (++size > resizeAt) {
+                    allocateAndRehash(keys.length * 2);
+                }
+                return null;
+            }
+            if (keys[i] == id) {
+                values[i] = employee;
+                return current;
+            }
+        }
+    }
+    
+    public Employee remove(int id) {
+        int mask = keys.length - 1;
+        for (int i = hash(id) & mask; ; i = (i + 1) & mask) {
+            Employee current = values[i];
+            if (current == null) {
+                return null;
+            }
+            if (keys[i] == id) {
+                shiftBack(i);
+                size--;
+                return current;
+            }
+        }
+    }
+    
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+    
+    public void forEach(Consumer<? super Employee> action) {
+        Employee[] current = values;
+        for (Employee employee : current) {
+            if (employee != null) {
+                action.accept(employee);
+            }
+        }
+    }
+    
+    // Lookup over a given table; never fails on a table that is being changed concurrently
+    // (bounded probe, bounds-checked), which ConcurrentEmployeeIdMap relies on
+    static Employee find(int[] keys, Employee[] values, int id) {
+        int capacity = Math.min(keys.length, values.length);
+        int mask = keys.length - 1;
+        int i = hash(id) & mask;
+        for (int probes = 0; probes < capacity && i < capacity; probes++, i = (i + 1) & mask) {
+            Employee current = values[i];
+            if (current == null) {
+                return null;
+            }
+            if (keys[i] == id) {
+                return current;
+            }
+        }
+        return null;
+    }
+    
+    // Fibonacci hashing, folded so the low bits used by the mask depend on all key bits
+    static int hash(int id) {
+        int h = id * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+    
+    // Refills the hole at i with later entries of the same probe run (no tombstones)
+    private void shiftBack(int hole) {
+        int mask = keys.length - 1;
+        for (int i = (hole + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+            int home = hash(keys[i]) & mask;
+            // The entry may move into the hole if its home is not in (hole, i] cyclically
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = keys[i];
+                values[hole] = values[i];
+                hole = i;
+            }
+        }
+        values[hole] = null;
+    }
+    
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Employee[capacity];
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+    
+    private void allocateAndRehash(int capacity) {
+        int[] oldKeys = keys;
+        Employee[] oldValues = values;
+        int[] newKeys = new int[capacity];
+        Employee[] newValues = new Employee[capacity];
+        int mask = capacity - 1;
+        for (int j = 0; j < oldValues.length; j++) {
+            if (oldValues[j] != null) {
+                int i = hash(oldKeys[j]) & mask;
+                while (newValues[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                newKeys[i] = oldKeys[j];
+                newValues[i] = oldValues[j];
+            }
+        }
+        // Keys first: a concurrent optimistic reader pairing new keys with old values is bounds-checked
+        keys = newKeys;
+        values = newValues;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+    
+    private static int tableSizeFor(int n) {
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, n - 1)) << 1);
+    }
+}
@@ -0,0 +1,15 @@
+package navaneeth;
+
+/**
+ * EmployeeListener interface - callbacks for changes to tracked Employee fields
+ * - Called while the employee's monitor is held, right after the field changed
+ * - Keeps derived state (aggregates, indexes) current without rescanning the roster
+ */
+interface EmployeeListener {
+    
+    void employeeIdChanged(Employee employee, int oldId, int newId);
+    
+    void salaryChanged(Employee employee, double oldSalary, double newSalary);
+    
+    void departmentChanged(Manager manager, String oldDepartment, String newDepartment);
+}
@@ -0,0 +1,39 @@
+package navaneeth;
+
+/**
+ * EmployeeRole enum - compact tag for the employee classes
+ * - Used where employees are stored as columns instead of objects (see EmployeeRoster)
+ * - Carries the bonus rate of each role, the same factor calculateBonus() multiplies by
+ */
+public enum EmployeeRole {
+    EMPLOYEE(0.1),
+    MANAGER(0.2);
+    
+    private static final EmployeeRole[] VALUES = values();
+    
+    private final double bonusRate;
+    
+    EmployeeRole(double bonusRate) {
+        this.bonusRate = bonusRate;
+    }
+    
+    public double getBonusRate() {
+        return bonusRate;
+    }
+    
+    // Looks up a role by its ordinal without allocating a values() copy
+    public static EmployeeRole fromOrdinal(int ordinal) {
+        return VALUES[ordinal];
+    }
+    
+    // Role tag for an employee object; other subclasses have their own bonus rules
+    public static EmployeeRole of(Employee employee) {
+        if (employee.getClass() == Manager.class) {
+            return MANAGER;
+        }
+        if (employee.getClass() == Employee.class) {
+            return EMPLOYEE;
+        }
+        throw new IllegalArgumentException("Unsupported employee class: " + employee.getClass().getName());
+    }
+}
@@ -0,0 +1,240 @@
+package navaneeth;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * EmployeeRoster class - columnar (structure-of-arrays) store of Employees and Managers
+ * - One primitive array per field: ids, salaries, role tags, department ids (plus names)
+ * - Payroll totals are tight loops over those arrays instead of a virtual calculateBonus()
+ *   call per object; large rosters are split over a fork-join pool
+ * - Per-record bonuses are bit-identical to calculateBonus() (same double multiplication);
+ *   totals are the exact sum of those values rounded once (see ExactSum), so they do not
+ *   depend on the number of threads and equal the object path summed exactly
+ *
+ * Rows are appended and never move. The roster is not thread-safe while it is being filled.
+ */
+public class EmployeeRoster {
+    public static final int NO_DEPARTMENT = StringDictionary.UNKNOWN;
+    
+    // Rows per fork-join leaf - large enough that the per-leaf accumulators are noise
+    static final int LEAF_ROWS = 1 << 14;
+    private static final double[] BONUS_RATES = {
+        EmployeeRole.EMPLOYEE.getBonusRate(), EmployeeRole.MANAGER.getBonusRate()
+    };
+    
+    private final ForkJoinPool pool;
+    private int size;
+    private int[] ids;
+    private double[] salaries;
+    private byte[] roles;
+    private int[] departmentIds;
+    private String[] names;
+    private final StringDictionary departments = new StringDictionary();
+    
+    // Result of one payroll pass
+    public static final class PayrollTotals {
+        private final double totalSalary;
+        private final double totalBonus;
+        private final int employeeCount;
+        private final int managerCount;
+        
+        PayrollTotals(double totalSalary, double totalBonus, int employeeCount, int managerCount) {
+            this.totalSalary = totalSalary;
+            this.totalBonus = totalBonus;
+            this.employeeCount = employeeCount;
+            this.managerCount = managerCount;
+        }
+        
+        public double getTotalSalary() {
+            return totalSalary;
+        }
+        
+        public double getTotalBonus() {
+            return totalBonus;
+        }
+        
+        public int getEmployeeCount() {
+            return employeeCount;
+        }
+        
+        public int getManagerCount() {
+            return managerCount;
+        }
+    }
+    
+    public EmployeeRoster() {
+        this(16, ForkJoinPool.commonPool());
+    }
+    
+    public EmployeeRoster(int initialCapacity, ForkJoinPool pool) {
+        int capacity = Math.max(1, initialCapacity);
+        this.pool = pool;
+        this.ids = new int[capacity];
+        this.salaries = new double[capacity];
+        this.roles = new byte[capacity];
+        this.departmentIds = new int[capacity];
+        this.names = new String[capacity];
+    }
+    
+    public static EmployeeRoster of(Collection<? extends Employee> employees) {
+        EmployeeRoster roster = new EmployeeRoster(employees.size(), ForkJoinPool.commonPool());
+        for (Employee employee : employees) {
+            roster.add(employee);
+        }
+        return roster;
+    }
+    
+    // Appends an Employee or Manager and returns its row
+    public int add(Employee employee) {
+        EmployeeRole role = EmployeeRole.of(employee);
+        String department = role == EmployeeRole.MANAGER ? ((Manager) employee).getDepartment() : null;
+        return add(employee.getEmployeeId(), employee.getName(), employee.getSalary(), role, department);
+    }
+    
+    public int add(int employeeId, String name, double salary, EmployeeRole role, String department) {
+        if (size == ids.length) {
+            grow();
+        }
+        int row = size++;
+        ids[row] = employeeId;
+        names[row] = name;
+        salaries[row] = salary;
+        roles[row] = (byte) role.ordinal();
+        departmentIds[row] = department == null ? NO_DEPARTMENT : departments.encode(department);
+        return row;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public int getEmployeeId(int row) {
+        return ids[check(row)];
+    }
+    
+    public String getName(int row) {
+        return names[check(row)];
+    }
+    
+    public double getSalary(int row) {
+        return salaries[check(row)];
+    }
+    
+    public EmployeeRole getRole(int row) {
+        return EmployeeRole.fromOrdinal(roles[check(row)]);
+    }
+    
+    public int getDepartmentId(int row) {
+        return departmentIds[check(row)];
+    }
+    
+    public String getDepartmentName(int departmentId) {
+        return departmentId == NO_DEPARTMENT ? null : departments.decode(departmentId);
+    }
+    
+    public StringDictionary getDepartments() {
+        return departments;
+    }
+    
+    // Bit-identical to calculateBonus() of the original object
+    public double bonusAt(int row) {
+        check(row);
+        return salaries[row] * BONUS_RATES[roles[row]];
+    }
+    
+    // Rebuilds the object for one row
+    public Employee toEmployee(int row) {
+        check(row);
+        if (roles[row] == EmployeeRole.MANAGER.ordinal()) {
+            return new Manager(names[row], ids[row], salaries[row], getDepartmentName(departmentIds[row]));
+        }
+        return new Employee(names[row], ids[row], salaries[row]);
+    }
+    
+    public double totalSalary() {
+        return computeTotals().getTotalSalary();
+    }
+    
+    public double totalBonus() {
+        return computeTotals().getTotalBonus();
+    }
+    
+    // One parallel pass over the salary and role columns
+    public PayrollTotals computeTotals() {
+        Leaf result = size <= LEAF_ROWS ? new TotalsTask(0, size).compute() : pool.invoke(new TotalsTask(0, size));
+        return new PayrollTotals(result.salary.doubleValue(), result.bonus.doubleValue(),
+                size - result.managers, result.managers);
+    }
+    
+    // Partial totals of one range of rows
+    private static final class Leaf {
+        final ExactSum salary = new ExactSum();
+        final ExactSum bonus = new ExactSum();
+        int managers;
+        
+        Leaf merge(Leaf other) {
+            salary.add(other.salary);
+            bonus.add(other.bonus);
+            managers += other.managers;
+            return this;
+        }
+    }
+    
+    private final class TotalsTask extends RecursiveTask<Leaf> {
+        private final int from;
+        private final int to;
+        
+        TotalsTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected Leaf compute() {
+            if (to - from <= LEAF_ROWS) {
+                return sum(from, to);
+            }
+            int middle = (from + to) >>> 1;
+            TotalsTask right = new TotalsTask(middle, to);
+            right.fork();
+            Leaf left = new TotalsTask(from, middle).compute();
+            return left.merge(right.join());
+        }
+        
+        // The hot loop: two column reads per row, no virtual calls, no allocation
+        private Leaf sum(int from, int to) {
+            Leaf leaf = new Leaf();
+            double[] salaryColumn = salaries;
+            byte[] roleColumn = roles;
+            int managers = 0;
+            for (int i = from; i < to; i++) {
+                double salary = salaryColumn[i];
+                int role = roleColumn[i];
+                leaf.salary.add(salary);
+                leaf.bonus.add(salary * BONUS_RATES[role]);
+                managers += role;
+            }
+            leaf.managers = managers;
+            return leaf;
+        }
+    }
+    
+    private int check(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of range for roster of size " + size);
+        }
+        return row;
+    }
+    
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        salaries = Arrays.copyOf(salaries, capacity);
+        roles = Arrays.copyOf(roles, capacity);
+        departmentIds = Arrays.copyOf(departmentIds, capacity);
+        names = Arrays.copyOf(names, capacity);
+    }
+}
@@ -0,0 +1,240 @@
+package navaneeth;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * EntitySnapshotReader class - memory-mapped, lazy view of a snapshot written by EntitySnapshotWriter
+ * - open() maps the file and checks the header; nothing is decoded and no objects are built
+ * - get(i) decodes record i on first access (sparse index, then at most BLOCK_SIZE - 1 records
+ *   skipped) and caches the object, so later calls return the same instance
+ * - Dictionary strings are decoded once on first use and shared by every record referencing them
+ * - Thread-safe: concurrent first accesses agree on one instance
+ */
+public class EntitySnapshotReader {
+    // Objects and strings are cached in chunks allocated on first use, so memory follows access
+    private static final int CHUNK_SHIFT = 14;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    
+    private final MappedByteBuffer data;
+    private final int records;
+    private final int dictionarySize;
+    private final int dictionaryOffset;
+    private final int indexOffset;
+    private final LazyTable<Object> objects;
+    private final LazyTable<String> strings;
+    private final LongAdder materialized = new LongAdder();
+    
+    // Chunked lazily-filled table; first writer wins
+    private static final class LazyTable<T> {
+        private final AtomicReferenceArray<AtomicReferenceArray<T>> chunks;
+        
+        LazyTable(int size) {
+            chunks = new AtomicReferenceArray<>((size + CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+        }
+        
+        T get(int i) {
+            AtomicReferenceArray<T> chunk = chunks.get(i >>> CHUNK_SHIFT);
+            return chunk == null ? null : chunk.get(i & (CHUNK_SIZE - 1));
+        }
+        
+        // Stores value unless another thread got there first; returns the stored one
+        T publish(int i, T value) {
+            int c = i >>> CHUNK_SHIFT;
+            AtomicReferenceArray<T> chunk = chunks.get(c);
+            if (chunk == null) {
+                AtomicReferenceArray<T> fresh = new AtomicReferenceArray<>(CHUNK_SIZE);
+                chunk = chunks.compareAndExchange(c, null, fresh);
+                if (chunk == null) {
+                    chunk = fresh;
+                }
+            }
+            T previous = chunk.compareAndExchange(i & (CHUNK_SIZE - 1), null, value);
+            return previous == null ? value : previous;
+        }
+    }
+    
+    private EntitySnapshotReader(MappedByteBuffer data, int records, int dictionarySize,
+                                 int dictionaryOffset, int indexOffset) {
+        this.data = data;
+        this.records = records;
+        this.dictionarySize = dictionarySize;
+        this.dictionaryOffset = dictionaryOffset;
+        this.indexOffset = indexOffset;
+        this.objects = new LazyTable<>(records);
+        this.strings = new LazyTable<>(dictionarySize);
+    }
+    
+    // Maps a snapshot; the mapping stays valid after the file channel is closed
+    public static EntitySnapshotReader open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < EntitySnapshotWriter.HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Not an entity snapshot: " + path);
+            }
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            data.order(ByteOrder.LITTLE_ENDIAN);
+            if (data.getInt(0) != EntitySnapshotWriter.MAGIC) {
+                throw new IllegalStateException("Not an entity snapshot: " + path);
+            }
+            if (data.getInt(4) != EntitySnapshotWriter.VERSION) {
+                throw new IllegalStateException("Unsupported entity snapshot version " + data.getInt(4) + ": " + path);
+            }
+            long records = data.getLong(8);
+            long dictionarySize = data.getLong(16);
+            long dictionaryOffset = data.getLong(32);
+            long indexOffset = data.getLong(40);
+            if (records > Integer.MAX_VALUE || dictionarySize > Integer.MAX_VALUE
+                    || indexOffset + (records + EntitySnapshotWriter.BLOCK_SIZE - 1)
+                        / EntitySnapshotWriter.BLOCK_SIZE * Integer.BYTES > size) {
+                throw new IllegalStateException("Truncated entity snapshot: " + path);
+            }
+            return new EntitySnapshotReader(data, (int) records, (int) dictionarySize,
+                    (int) dictionaryOffset, (int) indexOffset);
+        }
+    }
+    
+    public int size() {
+        return records;
+    }
+    
+    // Distinct strings in the dictionary
+    public int getDictionarySize() {
+        return dictionarySize;
+    }
+    
+    // Records decoded so far
+    public long getMaterializedCount() {
+        return materialized.sum();
+    }
+    
+    public boolean isEmployee(int i) {
+        return data.get(recordOffset(i)) < EntitySnapshotWriter.KIND_ACCOUNT;
+    }
+    
+    // The Employee/Manager or BankAccount/SavingsAccount/CurrentAccount of record i
+    public Object get(int i) {
+        Object object = objects.get(checkIndex(i));
+        if (object == null) {
+            object = objects.publish(i, decode(recordOffset(i)));
+        }
+        return object;
+    }
+    
+    public Employee getEmployee(int i) {
+        Object object = get(i);
+        if (!(object instanceof Employee)) {
+            throw new IllegalStateException("Record " + i + " is not an employee");
+        }
+        return (Employee) object;
+    }
+    
+    public BankAccount getAccount(int i) {
+        Object object = get(i);
+        if (!(object instanceof BankAccount)) {
+            throw new IllegalStateException("Record " + i + " is not an account");
+        }
+        return (BankAccount) object;
+    }
+    
+    private int checkIndex(int i) {
+        if (i < 0 || i >= records) {
+            throw new IndexOutOfBoundsException("Record " + i + " out of range for snapshot of " + records);
+        }
+        return i;
+    }
+    
+    // Block offset from the index, then skip the records before i in the block
+    private int recordOffset(int i) {
+        checkIndex(i);
+        int[] position = {data.getInt(indexOffset + (i / EntitySnapshotWriter.BLOCK_SIZE) * Integer.BYTES)};
+        for (int skip = i % EntitySnapshotWriter.BLOCK_SIZE; skip > 0; skip--) {
+            byte kind = data.get(position[0]++);
+            if (kind < EntitySnapshotWriter.KIND_ACCOUNT) {
+                readVarlong(position);
+                readVarlong(position);
+                position[0] += Double.BYTES;
+                if (kind == EntitySnapshotWriter.KIND_MANAGER) {
+                    readVarlong(position);
+                }
+            } else {
+                readVarlong(position);
+                readVarlong(position);
+                readVarlong(position);
+                if (kind - EntitySnapshotWriter.KIND_ACCOUNT == AccountType.CURRENT.ordinal()) {
+                    readVarlong(position);
+                }
+            }
+        }
+        return position[0];
+    }
+    
+    private Object decode(int offset) {
+        int[] position = {offset};
+        byte kind = data.get(position[0]++);
+        Object object;
+        if (kind < EntitySnapshotWriter.KIND_ACCOUNT) {
+            int id = (int) unzigzag(readVarlong(position));
+            String name = string((int) readVarlong(position));
+            double salary = data.getDouble(position[0]);
+            position[0] += Double.BYTES;
+            if (kind == EntitySnapshotWriter.KIND_MANAGER) {
+                int department = (int) readVarlong(position);
+                object = new Manager(name, id, salary, department == 0 ? null : string(department - 1));
+            } else {
+                object = new Employee(name, id, salary);
+            }
+        } else {
+            String number = string((int) readVarlong(position));
+            String holder = string((int) readVarlong(position));
+            long balance = unzigzag(readVarlong(position));
+            switch (AccountType.fromOrdinal(kind - EntitySnapshotWriter.KIND_ACCOUNT)) {
+                case SAVINGS:
+                    object = SavingsAccount.ofCents(number, holder, balance);
+                    break;
+                case CURRENT:
+                    object = CurrentAccount.ofCents(number, holder, balance, unzigzag(readVarlong(position)));
+                    break;
+                default:
+                    object = BankAccount.ofCents(number, holder, balance);
+                    break;
+            }
+        }
+        materialized.increment();
+        return object;
+    }
+    
+    private String string(int code) {
+        String value = strings.get(code);
+        if (value == null) {
+            int[] position = {data.getInt(dictionaryOffset + code * Integer.BYTES)};
+            byte[] bytes = new byte[(int) readVarlong(position)];
+            data.get(position[0], bytes);
+            value = strings.publish(code, new String(bytes, StandardCharsets.UTF_8));
+        }
+        return value;
+    }
+    
+    private long readVarlong(int[] position) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data.get(position[0]++);
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+    
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,264 @@
+package navaneeth;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * EntitySnapshotWriter class - writes employees and accounts to a compact binary snapshot
+ * - Every string (names, departments, account numbers) is stored once in a dictionary and
+ *   referenced by a varint code; ids and cent amounts are zigzag varints
+ * - Records are streamed through one reusable direct buffer; only the dictionary stays in memory
+ * - A sparse index (one offset per BLOCK_SIZE records) lets EntitySnapshotReader jump to any
+ *   record without decoding the ones before it
+ *
+ * File layout (little-endian), version 1:
+ *   header  [int MAGIC][int VERSION][long records][long dictionary size]
+ *           [long records offset][long dictionary offset][long index offset]  (HEADER_SIZE bytes)
+ *   records per record: [byte kind] then
+ *           EMPLOYEE  [zigzag id][name code][double salary]
+ *           MANAGER   same, then [department code + 1, 0 = none]
+ *           accounts  [number code][holder code][zigzag balanceCents], CURRENT then [zigzag overdraftCents]
+ *   dictionary [int offset of each string] then the strings as [varint length][UTF-8]
+ *   index   [int offset of record 0, BLOCK_SIZE, 2 * BLOCK_SIZE, ...]
+ * Offsets are from the start of the file, which is limited to 2 GiB.
+ */
+public class EntitySnapshotWriter implements Closeable {
+    public static final int MAGIC = 0x50534E45; // "ENSP" in little-endian byte order
+    public static final int VERSION = 1;
+    
+    static final int HEADER_SIZE = 48;
+    static final int BLOCK_SIZE = 8;
+    
+    // Record kinds; accounts are KIND_ACCOUNT + AccountType ordinal
+    static final byte KIND_EMPLOYEE = 0;
+    static final byte KIND_MANAGER = 1;
+    static final byte KIND_ACCOUNT = 2;
+    
+    private static final int MAX_RECORD_BYTES = 1 + 3 * 10 + Long.BYTES + 10;
+    
+    private final Path path;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private int[] index = new int[16];
+    private long records;
+    private long flushed = HEADER_SIZE; // File offset of the first byte in the buffer
+    private boolean closed;
+    
+    private EntitySnapshotWriter(Path path, FileChannel channel, ByteBuffer buffer) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+    
+    // Creates (or replaces) the snapshot file
+    public static EntitySnapshotWriter open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        channel.position(HEADER_SIZE); // Header is written on close, once the sections are known
+        ByteBuffer buffer = ByteBuffer.allocateDirect(StatementExporter.DEFAULT_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        return new EntitySnapshotWriter(path, channel, buffer);
+    }
+    
+    // Appends an Employee or Manager
+    public void write(Employee employee) throws IOException {
+        EmployeeRole role = EmployeeRole.of(employee);
+        int name = code(employee.getName()); // Validated before anything is written
+        int department = 0;
+        if (role == EmployeeRole.MANAGER && ((Manager) employee).getDepartment() != null) {
+            department = code(((Manager) employee).getDepartment()) + 1;
+        }
+        startRecord();
+        buffer.put(role == EmployeeRole.MANAGER ? KIND_MANAGER : KIND_EMPLOYEE);
+        putVarlong(zigzag(employee.getEmployeeId()));
+        putVarint(name);
+        buffer.putDouble(employee.getSalary());
+        if (role == EmployeeRole.MANAGER) {
+            putVarint(department);
+        }
+    }
+    
+    // Appends a BankAccount, SavingsAccount or CurrentAccount
+    public void write(BankAccount account) throws IOException {
+        AccountType type = AccountType.of(account);
+        if (account.getClass() != BankAccount.class && account.getClass() != SavingsAccount.class
+                && account.getClass() != CurrentAccount.class) {
+            throw new IllegalArgumentException("Unsupported account class: " + account.getClass().getName());
+        }
+        int number = code(account.getAccountNumber());
+        int holder = code(account.getAccountHolderName());
+        startRecord();
+        buffer.put((byte) (KIND_ACCOUNT + type.ordinal()));
+        putVarint(number);
+        putVarint(holder);
+        putVarlong(zigzag(account.getBalanceCents()));
+        if (type == AccountType.CURRENT) {
+            putVarlong(zigzag(((CurrentAccount) account).getOverdraftLimitCents()));
+        }
+    }
+    
+    public void writeEmployees(Iterable<? extends Employee> employees) throws IOException {
+        for (Employee employee : employees) {
+            write(employee);
+        }
+    }
+    
+    public void writeAccounts(Iterable<? extends BankAccount> accounts) throws IOException {
+        for (BankAccount account : accounts) {
+            write(account);
+        }
+    }
+    
+    public long getRecordCount() {
+        return records;
+    }
+    
+    // Writes the dictionary, index and header; the snapshot is only readable after this
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            long dictionaryOffset = offset();
+            writeDictionary();
+            long indexOffset = offset();
+            int blocks = (int) ((records + BLOCK_SIZE - 1) / BLOCK_SIZE);
+            for (int i = 0; i < blocks; i++) {
+                ensure(Integer.BYTES);
+                buffer.putInt(index[i]);
+            }
+            flush();
+            if (flushed > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot larger than 2 GiB: " + path);
+            }
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putLong(records).putLong(strings.size())
+                    .putLong(HEADER_SIZE).putLong(dictionaryOffset).putLong(indexOffset).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+    
+    private void startRecord() throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Snapshot writer is closed");
+        }
+        ensure(MAX_RECORD_BYTES);
+        if (records % BLOCK_SIZE == 0) {
+            int block = (int) (records / BLOCK_SIZE);
+            if (block == index.length) {
+                index = Arrays.copyOf(index, block * 2);
+            }
+            if (offset() > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot larger than 2 GiB: " + path);
+            }
+            index[block] = (int) offset();
+        }
+        records++;
+    }
+    
+    // Dictionary code of a string, assigned on first use
+    private int code(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Snapshot strings must not be null");
+        }
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = strings.size();
+            strings.add(value);
+            codes.put(value, code);
+        }
+        return code;
+    }
+    
+    private void writeDictionary() throws IOException {
+        // Offset table first, then the strings it points at
+        long offset = offset() + (long) strings.size() * Integer.BYTES;
+        for (String value : strings) {
+            ensure(Integer.BYTES);
+            buffer.putInt((int) offset);
+            int length = StatementExporter.utf8Length(value);
+            offset += varintLength(length) + length;
+        }
+        for (String value : strings) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            ensure(5);
+            putVarint(bytes.length);
+            for (int done = 0; done < bytes.length; ) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int n = Math.min(bytes.length - done, buffer.remaining());
+                buffer.put(bytes, done, n);
+                done += n;
+            }
+        }
+    }
+    
+    private void ensure(int n) throws IOException {
+        if (buffer.remaining() < n) {
+            flush();
+        }
+    }
+    
+    private void flush() throws IOException {
+        buffer.flip();
+        flushed += buffer.remaining();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+    
+    // File offset of the next byte put into the buffer
+    private long offset() {
+        return flushed + buffer.position();
+    }
+    
+    private void putVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+    
+    private void putVarlong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+    
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+    
+    private static int varintLength(int value) {
+        int length = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            length++;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,162 @@
+package navaneeth;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * ExactSum class - adds doubles without rounding error (a small Kulisch-style accumulator)
+ * - Every finite double is a whole multiple of 2^-1074, so the running total is kept as one
+ *   wide fixed-point integer split into 32-bit limbs; add/subtract touch at most three limbs
+ * - The result is the exact sum rounded once, so it does not depend on the order of the
+ *   additions or on how the work was split between threads
+ * - No allocation while adding or rounding (except for subnormal results)
+ */
+final class ExactSum {
+    private static final int LIMB_BITS = 32;
+    private static final long LIMB_MASK = (1L << LIMB_BITS) - 1;
+    private static final int LIMBS = 68;                  // 2176 bits: all finite doubles plus carry room
+    private static final int ADDS_BEFORE_CARRY = 1 << 28; // Limbs stay far below 2^63 in between
+    private static final BigDecimal ULP_OF_ZERO = new BigDecimal(BigInteger.valueOf(5).pow(1074), 1074); // 2^-1074
+    
+    private final long[] limbs = new long[LIMBS];
+    private int adds;
+    private double nonFinite; // Sum of infinities and NaNs, which have no fixed-point form
+    
+    void add(double value) {
+        accumulate(value, false);
+    }
+    
+    void subtract(double value) {
+        accumulate(value, true);
+    }
+    
+    void add(ExactSum other) {
+        other.carry();
+        for (int i = 0; i < LIMBS; i++) {
+            limbs[i] += other.limbs[i];
+        }
+        nonFinite += other.nonFinite;
+        carry();
+    }
+    
+    void reset() {
+        Arrays.fill(limbs, 0);
+        adds = 0;
+        nonFinite = 0;
+    }
+    
+    // The exact sum, correctly rounded to the nearest double; allocation-free unless the result is subnormal
+    double doubleValue() {
+        if (nonFinite != 0 || Double.isNaN(nonFinite)) {
+            return nonFinite;
+        }
+        carry();
+        boolean negative = limbs[LIMBS - 1] < 0;
+        if (negative) {
+            negate();
+        }
+        double value = magnitude();
+        if (negative) {
+            negate();
+        }
+        return negative ? -value : value;
+    }
+    
+    // Rounds the (non-negative, normalized) limbs to a double
+    private double magnitude() {
+        int top = LIMBS - 1;
+        while (top >= 0 && limbs[top] == 0) {
+            top--;
+        }
+        if (top < 0) {
+            return 0.0;
+        }
+        if (top < 2 || limbs[top] > LIMB_MASK) {
+            return slowValue(); // Subnormal or (impossibly) past the top limb
+        }
+        // The top 63 significant bits, with every bit below them folded into a sticky bit, round
+        // exactly like the full value when converted to a 53-bit double
+        int lead = 64 - Long.numberOfLeadingZeros(limbs[top]); // 1..32 bits used in the top limb
+        long upper = (limbs[top] << LIMB_BITS) | limbs[top - 1];
+        long lower = limbs[top - 2];
+        long bits;
+        boolean sticky;
+        if (lead == LIMB_BITS) {
+            bits = upper >>> 1;
+            sticky = (upper & 1) != 0 || lower != 0;
+        } else {
+            bits = (upper << (LIMB_BITS - 1 - lead)) | (lower >>> (lead + 1));
+            sticky = (lower & ((1L << (lead + 1)) - 1)) != 0;
+        }
+        for (int i = top - 3; i >= 0 && !sticky; i--) {
+            sticky = limbs[i] != 0;
+        }
+        double value = Math.scalb((double) (bits | (sticky ? 1 : 0)), (top - 2) * LIMB_BITS + lead + 1 - 1074);
+        return value < Double.MIN_NORMAL ? slowValue() : value; // scalb would round a second time
+    }
+    
+    private double slowValue() {
+        BigInteger total = BigInteger.valueOf(limbs[LIMBS - 1]);
+        for (int i = LIMBS - 2; i >= 0; i--) {
+            total = total.shiftLeft(LIMB_BITS).or(BigInteger.valueOf(limbs[i]));
+        }
+        return new BigDecimal(total).multiply(ULP_OF_ZERO).doubleValue();
+    }
+    
+    // Two's complement negation of the whole number, leaving it normalized
+    private void negate() {
+        for (int i = 0; i < LIMBS; i++) {
+            limbs[i] = -limbs[i];
+        }
+        carry();
+    }
+    
+    private void accumulate(double value, boolean negate) {
+        long bits = Double.doubleToRawLongBits(value);
+        int exponent = (int) (bits >>> 52) & 0x7FF;
+        if (exponent == 0x7FF) {
+            nonFinite += negate ? -value : value;
+            return;
+        }
+        long mantissa = bits & ((1L << 52) - 1);
+        if (exponent == 0) {
+            exponent = 1; // Subnormal: same scale as the smallest normal, no hidden bit
+        } else {
+            mantissa |= 1L << 52;
+        }
+        if (mantissa == 0) {
+            return;
+        }
+        int offset = exponent - 1; // Position of the mantissa's lowest bit above 2^-1074
+        int limb = offset / LIMB_BITS;
+        int shift = offset % LIMB_BITS;
+        long low = (mantissa << shift) & LIMB_MASK;
+        long middle = (mantissa >>> (LIMB_BITS - shift)) & LIMB_MASK;
+        long high = shift == 0 ? 0 : mantissa >>> (2 * LIMB_BITS - shift);
+        if ((bits < 0) != negate) {
+            limbs[limb] -= low;
+            limbs[limb + 1] -= middle;
+            limbs[limb + 2] -= high;
+        } else {
+            limbs[limb] += low;
+            limbs[limb + 1] += middle;
+            limbs[limb + 2] += high;
+        }
+        if (++adds == ADDS_BEFORE_CARRY) {
+            carry();
+        }
+    }
+    
+    // Brings every limb but the top one back into [0, 2^32); the top limb carries the sign
+    private void carry() {
+        long carry = 0;
+        for (int i = 0; i < LIMBS - 1; i++) {
+            long value = limbs[i] + carry;
+            carry = value >> LIMB_BITS;
+            limbs[i] = value & LIMB_MASK;
+        }
+        limbs[LIMBS - 1] += carry;
+        adds = 0;
+    }
+}
@@ -0,0 +1,180 @@
+package navaneeth;
+
+/**
+ * GeometryKernel class - bulk area and perimeter over struct-of-arrays shape columns
+ * - Circles are a radius column, rectangles a length and a width column
+ * - Element-wise kernels write one result per shape; sum kernels return the column total
+ * - Uses the JDK Vector API when available (see VectorSupport), otherwise scalar loops
+ * 
+ * Element-wise results are bit-identical to Circle/Rectangle: every lane performs the same
+ * IEEE operations in the same order (PI * r * r, 2 * PI * r, l * w, 2 * (l + w)) and no FMA is used.
+ * Sums add in a different order than a sequential loop (several accumulators, one per lane), so a
+ * total of n terms may differ from the sequential object total by at most about n * 2^-53 * sum|x|.
+ */
+public final class GeometryKernel {
+    static final double TWO_PI = 2 * Math.PI; // Exact: scaling by 2 only changes the exponent
+    
+    // Utility class - no instances
+    private GeometryKernel() {
+    }
+    
+    public static void circleAreas(double[] radii, double[] out, int from, int to) {
+        check(radii.length, out.length, from, to);
+        if (VectorSupport.AVAILABLE) {
+            GeometryKernelVector.circleAreas(radii, out, from, to);
+        } else {
+            circleAreasScalar(radii, out, from, to);
+        }
+    }
+    
+    public static void circlePerimeters(double[] radii, double[] out, int from, int to) {
+        check(radii.length, out.length, from, to);
+        if (VectorSupport.AVAILABLE) {
+            GeometryKernelVector.circlePerimeters(radii, out, from, to);
+        } else {
+            circlePerimetersScalar(radii, out, from, to);
+        }
+    }
+    
+    public static void rectangleAreas(double[] lengths, double[] widths, double[] out, int from, int to) {
+        check(Math.min(lengths.length, widths.length), out.length, from, to);
+        if (VectorSupport.AVAILABLE) {
+            GeometryKernelVector.rectangleAreas(lengths, widths, out, from, to);
+        } else {
+            rectangleAreasScalar(lengths, widths, out, from, to);
+        }
+    }
+    
+    public static void rectanglePerimeters(double[] lengths, double[] widths, double[] out, int from, int to) {
+        check(Math.min(lengths.length, widths.length), out.length, from, to);
+        if (VectorSupport.AVAILABLE) {
+            GeometryKernelVector.rectanglePerimeters(lengths, widths, out, from, to);
+        } else {
+            rectanglePerimetersScalar(lengths, widths, out, from, to);
+        }
+    }
+    
+    public static double sumCircleAreas(double[] radii, int from, int to) {
+        check(radii.length, radii.length, from, to);
+        return VectorSupport.AVAILABLE
+            ? GeometryKernelVector.sumCircleAreas(radii, from, to)
+            : sumCircleAreasScalar(radii, from, to);
+    }
+    
+    public static double sumCirclePerimeters(double[] radii, int from, int to) {
+        check(radii.length, radii.length, from, to);
+        return VectorSupport.AVAILABLE
+            ? GeometryKernelVector.sumCirclePerimeters(radii, from, to)
+            : sumCirclePerimetersScalar(radii, from, to);
+    }
+    
+    public static double sumRectangleAreas(double[] lengths, double[] widths, int from, int to) {
+        int length = Math.min(lengths.length, widths.length);
+        check(length, length, from, to);
+        return VectorSupport.AVAILABLE
+            ? GeometryKernelVector.sumRectangleAreas(lengths, widths, from, to)
+            : sumRectangleAreasScalar(lengths, widths, from, to);
+    }
+    
+    public static double sumRectanglePerimeters(double[] lengths, double[] widths, int from, int to) {
+        int length = Math.min(lengths.length, widths.length);
+        check(length, length, from, to);
+        return VectorSupport.AVAILABLE
+            ? GeometryKernelVector.sumRectanglePerimeters(lengths, widths, from, to)
+            : sumRectanglePerimetersScalar(lengths, widths, from, to);
+    }
+    
+    // Scalar fallbacks, also used for vector tails
+    
+    static void circleAreasScalar(double[] radii, double[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = Math.PI * radii[i] * radii[i];
+        }
+    }
+    
+    static void circlePerimetersScalar(double[] radii, double[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = TWO_PI * radii[i];
+        }
+    }
+    
+    static void rectangleAreasScalar(double[] lengths, double[] widths, double[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = lengths[i] * widths[i];
+        }
+    }
+    
+    static void rectanglePerimetersScalar(double[] lengths, double[] widths, double[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = 2 * (lengths[i] + widths[i]);
+        }
+    }
+    
+    // Four accumulators break the add dependency chain, like the vector lanes do
+    static double sumCircleAreasScalar(double[] radii, int from, int to) {
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = from;
+        for (; i + 4 <= to; i += 4) {
+            s0 += Math.PI * radii[i] * radii[i];
+            s1 += Math.PI * radii[i + 1] * radii[i + 1];
+            s2 += Math.PI * radii[i + 2] * radii[i + 2];
+            s3 += Math.PI * radii[i + 3] * radii[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += Math.PI * radii[i] * radii[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+    
+    static double sumCirclePerimetersScalar(double[] radii, int from, int to) {
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = from;
+        for (; i + 4 <= to; i += 4) {
+            s0 += TWO_PI * radii[i];
+            s1 += TWO_PI * radii[i + 1];
+            s2 += TWO_PI * radii[i + 2];
+            s3 += TWO_PI * radii[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += TWO_PI * radii[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+    
+    static double sumRectangleAreasScalar(double[] lengths, double[] widths, int from, int to) {
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = from;
+        for (; i + 4 <= to; i += 4) {
+            s0 += lengths[i] * widths[i];
+            s1 += lengths[i + 1] * widths[i + 1];
+            s2 += lengths[i + 2] * widths[i + 2];
+            s3 += lengths[i + 3] * widths[i + 3];
+        }
+        for (; i < to; i++) {
+            s0 += lengths[i] * widths[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+    
+    static double sumRectanglePerimetersScalar(double[] lengths, double[] widths, int from, int to) {
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = from;
+        for (; i + 4 <= to; i += 4) {
+            s0 += 2 * (lengths[i] + widths[i]);
+            s1 += 2 * (lengths[i + 1] + widths[i + 1]);
+            s2 += 2 * (lengths[i + 2] + widths[i + 2]);
+            s3 += 2 * (lengths[i + 3] + widths[i + 3]);
+        }
+        for (; i < to; i++) {
+            s0 += 2 * (lengths[i] + widths[i]);
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+    
+    private static void check(int inputLength, int outputLength, int from, int to) {
+        if (from < 0 || to > inputLength || to > outputLength || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") outside column of "
+                + Math.min(inputLength, outputLength));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package navaneeth;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * GeometryKernelVector class - Vector API kernels behind GeometryKernel
+ * - Only loaded when VectorSupport.AVAILABLE is true
+ * - Lanes use exactly the scalar operation order, so element-wise results are bit-identical;
+ *   sums keep one accumulator per lane and reduce them at the end
+ */
+final class GeometryKernelVector {
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    
+    private GeometryKernelVector() {
+    }
+    
+    static void circleAreas(double[] radii, double[] out, int from, int to) {
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            DoubleVector r = DoubleVector.fromArray(DOUBLES, radii, i);
+            r.mul(Math.PI).mul(r).intoArray(out, i);
+        }
+        GeometryKernel.circleAreasScalar(radii, out, i, to);
+    }
+    
+    static void circlePerimeters(double[] radii, double[] out, int from, int to) {
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            DoubleVector.fromArray(DOUBLES, radii, i).mul(GeometryKernel.TWO_PI).intoArray(out, i);
+        }
+        GeometryKernel.circlePerimetersScalar(radii, out, i, to);
+    }
+    
+    static void rectangleAreas(double[] lengths, double[] widths, double[] out, int from, int to) {
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            DoubleVector.fromArray(DOUBLES, lengths, i).mul(DoubleVector.fromArray(DOUBLES, widths, i)).intoArray(out, i);
+        }
+        GeometryKernel.rectangleAreasScalar(lengths, widths, out, i, to);
+    }
+    
+    static void rectanglePerimeters(double[] lengths, double[] widths, double[] out, int from, int to) {
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            DoubleVector.fromArray(DOUBLES, lengths, i).add(DoubleVector.fromArray(DOUBLES, widths, i)).mul(2.0)
+                .intoArray(out, i);
+        }
+        GeometryKernel.rectanglePerimetersScalar(lengths, widths, out, i, to);
+    }
+    
+    static double sumCircleAreas(double[] radii, int from, int to) {
+        DoubleVector sum = DoubleVector.zero(DOUBLES);
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            DoubleVector r = DoubleVector.fromArray(DOUBLES, radii, i);
+            sum = sum.add(r.mul(Math.PI).mul(r));
+        }
+        return sum.reduceLanes(VectorOperators.ADD) + GeometryKernel.sumCircleAreasScalar(radii, i, to);
+    }
+    
+    static double sumCirclePerimeters(double[] radii, int from, int to) {
+        DoubleVector sum = DoubleVector.zero(DOUBLES);
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            sum = sum.add(DoubleVector.fromArray(DOUBLES, radii, i).mul(GeometryKernel.TWO_PI));
+        }
+        return sum.reduceLanes(VectorOperators.ADD) + GeometryKernel.sumCirclePerimetersScalar(radii, i, to);
+    }
+    
+    static double sumRectangleAreas(double[] lengths, double[] widths, int from, int to) {
+        DoubleVector sum = DoubleVector.zero(DOUBLES);
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            sum = sum.add(DoubleVector.fromArray(DOUBLES, lengths, i).mul(DoubleVector.fromArray(DOUBLES, widths, i)));
+        }
+        return sum.reduceLanes(VectorOperators.ADD) + GeometryKernel.sumRectangleAreasScalar(lengths, widths, i, to);
+    }
+    
+    static double sumRectanglePerimeters(double[] lengths, double[] widths, int from, int to) {
+        DoubleVector sum = DoubleVector.zero(DOUBLES);
+        int i = from;
+        for (int bound = from + DOUBLES.loopBound(to - from); i < bound; i += DOUBLES.length()) {
+            sum = sum.add(DoubleVector.fromArray(DOUBLES, lengths, i).add(DoubleVector.fromArray(DOUBLES, widths, i))
+                .mul(2.0));
+        }
+        return sum.reduceLanes(VectorOperators.ADD)
+            + GeometryKernel.sumRectanglePerimetersScalar(lengths, widths, i, to);
+    }
+}
@@ -0,0 +1,23 @@
+package navaneeth;
+
+/**
+ * InProcessTransport class - LedgerTransport that calls shards directly in this JVM
+ * - No encoding or copying; the baseline the socket transport is compared against
+ */
+public class InProcessTransport implements LedgerTransport {
+    
+    @Override
+    public Channel connect(LedgerShard shard) {
+        return new Channel() {
+            @Override
+            public LedgerResponse call(LedgerRequest request) {
+                return shard.handle(request);
+            }
+            
+            @Override
+            public void close() {
+                // Nothing to release
+            }
+        };
+    }
+}
@@ -0,0 +1,56 @@
+package navaneeth;
+
+/**
+ * InterestAccrual class - bulk interest accrual over a struct-of-arrays balance column
+ * - balances[i] holds an account balance in cents, types[i] its AccountType ordinal
+ * - Credits SAVINGS (5%) and CURRENT (2%) interest in one pass, with no virtual calls or objects
+ * - Uses the JDK Vector API when available (see VectorSupport), otherwise a scalar loop
+ * 
+ * Results match the per-object path exactly: an account receives
+ * Money.applyRate(balance, rate) when that amount is positive, which is what
+ * depositCents(calculateInterestCents()) accepts. Balances that would get zero or
+ * negative interest are left unchanged, where the per-object deposit would reject them.
+ */
+public final class InterestAccrual {
+    private static final AccountType[] TYPES = AccountType.values();
+    
+    // Utility class - no instances
+    private InterestAccrual() {
+    }
+    
+    // Accrues interest over the whole column and returns the total credited, in cents
+    public static long accrue(long[] balances, byte[] types) {
+        return accrue(balances, types, 0, balances.length);
+    }
+    
+    // Accrues interest for indices [from, to) - lets callers split a column into shards
+    public static long accrue(long[] balances, byte[] types, int from, int to) {
+        if (types.length < balances.length) {
+            throw new IllegalArgumentException("Every balance needs an account type");
+        }
+        if (from < 0 || to > balances.length || from > to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") outside column of " + balances.length);
+        }
+        if (VectorSupport.AVAILABLE) {
+            return InterestAccrualVector.accrue(balances, types, from, to);
+        }
+        return accrueScalar(balances, types, from, to);
+    }
+    
+    // Scalar fallback, also used for vector tails and out-of-range lanes
+    static long accrueScalar(long[] balances, byte[] types, int from, int to) {
+        long total = 0;
+        for (int i = from; i < to; i++) {
+            long interest = interestFor(balances[i], TYPES[types[i]].getInterestRateBps());
+            balances[i] += interest;
+            total += interest;
+        }
+        return total;
+    }
+    
+    // Interest one balance receives - zero when the per-object deposit would be rejected
+    static long interestFor(long balance, int rateBps) {
+        long interest = balance > 0 ? Money.applyRate(balance, rateBps) : 0;
+        return interest > 0 ? interest : 0;
+    }
+}
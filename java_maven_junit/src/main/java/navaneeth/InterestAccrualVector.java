@@ -0,0 +1,75 @@
+package navaneeth;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * InterestAccrualVector class - Vector API kernel behind InterestAccrual
+ * - Only loaded when VectorSupport.AVAILABLE is true
+ * 
+ * Each lane computes floor((balance * rate + 5000) / 10000) in double precision.
+ * That is exact while balance * rate + 5000 stays below 4e15: the numerator is an exact
+ * double and the division error is smaller than the 1/10000 gap to the next integer.
+ * Chunks with a larger balance are handed to the scalar loop.
+ */
+final class InterestAccrualVector {
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = LONGS.withLanes(double.class);
+    // At least as many lanes as LONGS (a long vector has at most 8 lanes)
+    private static final VectorSpecies<Byte> TYPE_BYTES = ByteVector.SPECIES_64;
+    
+    private static final AccountType[] TYPES = AccountType.values();
+    private static final long MAX_EXACT_BALANCE;
+    
+    static {
+        int maxRate = 1;
+        for (AccountType type : TYPES) {
+            maxRate = Math.max(maxRate, type.getInterestRateBps());
+        }
+        MAX_EXACT_BALANCE = (4_000_000_000_000_000L - Money.BASIS_POINTS_PER_UNIT) / maxRate;
+    }
+    
+    private InterestAccrualVector() {
+    }
+    
+    static long accrue(long[] balances, byte[] types, int from, int to) {
+        int step = LONGS.length();
+        int readWidth = Math.max(step, TYPE_BYTES.length()); // Type loads read a full 64-bit chunk
+        long half = Money.BASIS_POINTS_PER_UNIT / 2;
+        double divisor = Money.BASIS_POINTS_PER_UNIT;
+        long total = 0;
+        
+        int i = from;
+        for (; i + readWidth <= to; i += step) {
+            LongVector balance = LongVector.fromArray(LONGS, balances, i);
+            if (balance.compare(VectorOperators.GT, MAX_EXACT_BALANCE).anyTrue()) {
+                total += InterestAccrual.accrueScalar(balances, types, i, i + step);
+                continue;
+            }
+            
+            LongVector type = (LongVector) ByteVector.fromArray(TYPE_BYTES, types, i)
+                    .convertShape(VectorOperators.B2L, LONGS, 0);
+            LongVector rate = LongVector.zero(LONGS);
+            for (AccountType accountType : TYPES) {
+                if (accountType.getInterestRateBps() != 0) {
+                    rate = rate.blend(accountType.getInterestRateBps(), type.eq(accountType.ordinal()));
+                }
+            }
+            
+            VectorMask<Long> positive = balance.compare(VectorOperators.GT, 0);
+            DoubleVector numerator = (DoubleVector) balance.mul(rate).add(half)
+                    .convertShape(VectorOperators.L2D, DOUBLES, 0);
+            LongVector interest = (LongVector) numerator.div(divisor)
+                    .convertShape(VectorOperators.D2L, LONGS, 0);
+            interest = LongVector.zero(LONGS).blend(interest, positive);
+            
+            balance.add(interest).intoArray(balances, i);
+            total += interest.reduceLanes(VectorOperators.ADD);
+        }
+        return total + InterestAccrual.accrueScalar(balances, types, i, to);
+    }
+}
@@ -0,0 +1,237 @@
+package navaneeth;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * InterestScheduler class - spreads a savings interest run over cores, throttled and resumable
+ * - Accounts are split into shards (contiguous ranges); one worker per core takes shards from a
+ *   shared counter, by default leaving one core free for live traffic
+ * - THROTTLING: a rate limit hands out account permits per 10 ms time bucket, so the run is spread
+ *   evenly over time instead of saturating the machine
+ * - EXACTLY ONCE: SavingsAccount.addInterest(runId) credits each account at most once per run id;
+ *   per-shard cursors let a stopped run resume where it left off instead of rescanning
+ * - Progress and throughput can be read from the Run while it is going
+ */
+public class InterestScheduler {
+    static final int SHARDS_PER_WORKER = 4;
+    static final int CHUNK_SIZE = 256;           // Accounts between stop checks and cursor updates
+    static final long BUCKET_NANOS = 10_000_000; // Throttle time bucket
+    
+    private final SavingsAccount[] accounts;
+    private final int workers;
+    private final long maxAccountsPerSecond;
+    private final ConcurrentHashMap<Long, Run> runs = new ConcurrentHashMap<>();
+    
+    // Unthrottled, one worker per core but one
+    public InterestScheduler(List<SavingsAccount> accounts) {
+        this(accounts, Math.max(1, Runtime.getRuntime().availableProcessors() - 1), 0);
+    }
+    
+    // maxAccountsPerSecond = 0 means no throttling
+    public InterestScheduler(List<SavingsAccount> accounts, int workers, long maxAccountsPerSecond) {
+        if (workers < 1 || maxAccountsPerSecond < 0) {
+            throw new IllegalArgumentException("Workers must be positive and the rate limit not negative");
+        }
+        this.accounts = accounts.toArray(new SavingsAccount[0]);
+        this.workers = workers;
+        this.maxAccountsPerSecond = maxAccountsPerSecond;
+    }
+    
+    // Starts the run with this id, or resumes it from its cursors if it was stopped before
+    public Run start(long runId) {
+        Run run = runs.computeIfAbsent(runId, Run::new);
+        run.launch();
+        return run;
+    }
+    
+    public final class Run {
+        private final long runId;
+        private final int shardCount;
+        private final AtomicIntegerArray cursors;   // Next account index to process, per shard
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder credited = new LongAdder();
+        private AtomicInteger nextShard;            // Guarded by this
+        private Thread[] threads;                   // Guarded by this
+        private volatile boolean stopRequested;
+        private long activeNanos;                   // Time spent running before the current launch
+        private volatile long launchedAt;
+        
+        private final Object throttleLock = new Object();
+        private long bucket;                        // Guarded by throttleLock
+        private long bucketPermits;                 // Guarded by throttleLock
+        
+        Run(long runId) {
+            this.runId = runId;
+            this.shardCount = Math.max(1, Math.min(accounts.length, workers * SHARDS_PER_WORKER));
+            this.cursors = new AtomicIntegerArray(shardCount);
+            for (int shard = 0; shard < shardCount; shard++) {
+                cursors.set(shard, shardStart(shard));
+            }
+        }
+        
+        private synchronized void launch() {
+            if (threads != null) {
+                if (isRunning()) {
+                    return;
+                }
+                activeNanos += System.nanoTime() - launchedAt; // Previous launch ended without await()
+            }
+            stopRequested = false;
+            nextShard = new AtomicInteger();
+            launchedAt = System.nanoTime();
+            threads = new Thread[workers];
+            for (int w = 0; w < workers; w++) {
+                threads[w] = new Thread(this::work, "interest-" + runId + "-" + w);
+                threads[w].setDaemon(true);
+                threads[w].start();
+            }
+        }
+        
+        private void work() {
+            int shard;
+            while (!stopRequested && (shard = nextShard.getAndIncrement()) < shardCount) {
+                int end = shardStart(shard + 1);
+                int cursor = cursors.get(shard);
+                while (cursor < end && !stopRequested) {
+                    int chunkEnd = Math.min(end, cursor + CHUNK_SIZE);
+                    throttle(chunkEnd - cursor);
+                    for (int i = cursor; i < chunkEnd; i++) {
+                        if (accounts[i].addInterest(runId)) {
+                            credited.increment();
+                        }
+                    }
+                    processed.add(chunkEnd - cursor);
+                    cursor = chunkEnd;
+                    cursors.set(shard, cursor);
+                }
+            }
+        }
+        
+        // Blocks until n account permits have been taken, from as many time buckets as that needs
+        private void throttle(int n) {
+            if (maxAccountsPerSecond == 0) {
+                return;
+            }
+            long perBucket = Math.max(1, maxAccountsPerSecond * BUCKET_NANOS / TimeUnit.SECONDS.toNanos(1));
+            long needed = n;
+            while (true) {
+                long wait;
+                synchronized (throttleLock) {
+                    long now = System.nanoTime();
+                    long current = now / BUCKET_NANOS;
+                    if (current != bucket) {
+                        bucket = current;
+                        bucketPermits = perBucket;
+                    }
+                    long taken = Math.min(needed, bucketPermits);
+                    bucketPermits -= taken;
+                    needed -= taken;
+                    if (needed == 0) {
+                        return;
+                    }
+                    wait = (current + 1) * BUCKET_NANOS - now;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.sleep(wait);
+                } catch (InterruptedException e) {
+                    stopRequested = true;
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        
+        private int shardStart(int shard) {
+            return (int) ((long) accounts.length * shard / shardCount);
+        }
+        
+        // Asks the workers to stop after their current chunk and waits for them
+        public void stop() throws InterruptedException {
+            stopRequested = true;
+            await();
+        }
+        
+        public void await() throws InterruptedException {
+            Thread[] current;
+            synchronized (this) {
+                current = threads;
+            }
+            if (current == null) {
+                return;
+            }
+            for (Thread thread : current) {
+                thread.join();
+            }
+            synchronized (this) {
+                if (threads == current) {
+                    activeNanos += System.nanoTime() - launchedAt;
+                    threads = null;
+                }
+            }
+        }
+        
+        public synchronized boolean isRunning() {
+            Thread[] current = threads;
+            if (current == null) {
+                return false;
+            }
+            for (Thread thread : current) {
+                if (thread.isAlive()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        public boolean isComplete() {
+            for (int shard = 0; shard < shardCount; shard++) {
+                if (cursors.get(shard) < shardStart(shard + 1)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        public long getRunId() {
+            return runId;
+        }
+        
+        public int getTotalAccounts() {
+            return accounts.length;
+        }
+        
+        // Accounts visited so far, across resumes
+        public long getProcessedCount() {
+            return processed.sum();
+        }
+        
+        // Accounts this run credited; visited accounts not credited were already done before
+        public long getCreditedCount() {
+            return credited.sum();
+        }
+        
+        public double getProgress() {
+            return accounts.length == 0 ? 1.0 : Math.min(1.0, getProcessedCount() / (double) accounts.length);
+        }
+        
+        // Accounts per second over the time the run has been active
+        public double getThroughput() {
+            long nanos;
+            synchronized (this) {
+                nanos = activeNanos + (threads != null ? System.nanoTime() - launchedAt : 0);
+            }
+            return nanos == 0 ? 0 : getProcessedCount() * 1e9 / nanos;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("Run %d: %.1f%% (%d/%d accounts, %d credited), %.0f accounts/s",
+                    runId, getProgress() * 100, getProcessedCount(), accounts.length, getCreditedCount(), getThroughput());
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package navaneeth;
+
+/**
+ * LedgerRequest class - one immutable operation sent to a LedgerShard
+ * - Flat fields so every transport can encode it the same way
+ * - text holds the holder name (OPEN) or the destination account number (TRANSFER)
+ * - OPEN carries the whole record, including a savings account's last interest run id, so an
+ *   account moved between shards keeps its exactly-once interest state
+ */
+public final class LedgerRequest {
+    
+    public enum Op {
+        OPEN,      // Create an account from a full record (also used to move accounts between shards)
+        DEPOSIT,
+        WITHDRAW,
+        TRANSFER,  // Both accounts on the same shard
+        BALANCE,
+        EXPORT,    // Remove an account and return its full record
+        READ,      // Return an account's full record, leaving it in place
+        LIST       // Account numbers held by the shard
+    }
+    
+    private final Op op;
+    private final String accountNumber;
+    private final long amountCents;
+    private final String text;
+    private final AccountType accountType;
+    private final long overdraftCents;
+    private final long lastInterestRunId;
+    
+    public LedgerRequest(Op op, String accountNumber, long amountCents, String text,
+                         AccountType accountType, long overdraftCents, long lastInterestRunId) {
+        if (op == null) {
+            throw new IllegalArgumentException("Ledger operation is required");
+        }
+        this.op = op;
+        this.accountNumber = accountNumber;
+        this.amountCents = amountCents;
+        this.text = text;
+        this.accountType = accountType;
+        this.overdraftCents = overdraftCents;
+        this.lastInterestRunId = lastInterestRunId;
+    }
+    
+    public static LedgerRequest open(String accountNumber, String holderName, AccountType type,
+                                     long balanceCents, long overdraftCents) {
+        return open(accountNumber, holderName, type, balanceCents, overdraftCents, 0);
+    }
+    
+    // Full record, as used to move an account between shards
+    public static LedgerRequest open(String accountNumber, String holderName, AccountType type,
+                                     long balanceCents, long overdraftCents, long lastInterestRunId) {
+        return new LedgerRequest(Op.OPEN, accountNumber, balanceCents, holderName, type, overdraftCents, lastInterestRunId);
+    }
+    
+    public static LedgerRequest deposit(String accountNumber, long amountCents) {
+        return new LedgerRequest(Op.DEPOSIT, accountNumber, amountCents, null, null, 0, 0);
+    }
+    
+    public static LedgerRequest withdraw(String accountNumber, long amountCents) {
+        return new LedgerRequest(Op.WITHDRAW, accountNumber, amountCents, null, null, 0, 0);
+    }
+    
+    public static LedgerRequest transfer(String fromAccountNumber, String toAccountNumber, long amountCents) {
+        return new LedgerRequest(Op.TRANSFER, fromAccountNumber, amountCents, toAccountNumber, null, 0, 0);
+    }
+    
+    public static LedgerRequest balance(String accountNumber) {
+        return new LedgerRequest(Op.BALANCE, accountNumber, 0, null, null, 0, 0);
+    }
+    
+    public static LedgerRequest export(String accountNumber) {
+        return new LedgerRequest(Op.EXPORT, accountNumber, 0, null, null, 0, 0);
+    }
+    
+    public static LedgerRequest read(String accountNumber) {
+        return new LedgerRequest(Op.READ, accountNumber, 0, null, null, 0, 0);
+    }
+    
+    public static LedgerRequest list() {
+        return new LedgerRequest(Op.LIST, null, 0, null, null, 0, 0);
+    }
+    
+    public Op getOp() {
+        return op;
+    }
+    
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+    
+    public long getAmountCents() {
+        return amountCents;
+    }
+    
+    public String getText() {
+        return text;
+    }
+    
+    public AccountType getAccountType() {
+        return accountType;
+    }
+    
+    public long getOverdraftCents() {
+        return overdraftCents;
+    }
+    
+    public long getLastInterestRunId() {
+        return lastInterestRunId;
+    }
+}
@@ -0,0 +1,77 @@
+package navaneeth;
+
+import java.util.List;
+
+/**
+ * LedgerResponse class - outcome of a LedgerRequest
+ * - status for every operation; balanceCents for BALANCE, READ and EXPORT
+ * - READ and EXPORT also carry the rest of the account record (with a savings account's last
+ *   interest run id), LIST the account numbers
+ */
+public final class LedgerResponse {
+    private final TransactionStatus status;
+    private final long balanceCents;
+    private final String holderName;
+    private final AccountType accountType;
+    private final long overdraftCents;
+    private final long lastInterestRunId;
+    private final List<String> accountNumbers;
+    
+    public LedgerResponse(TransactionStatus status, long balanceCents, String holderName, AccountType accountType,
+                          long overdraftCents, long lastInterestRunId, List<String> accountNumbers) {
+        this.status = status;
+        this.balanceCents = balanceCents;
+        this.holderName = holderName;
+        this.accountType = accountType;
+        this.overdraftCents = overdraftCents;
+        this.lastInterestRunId = lastInterestRunId;
+        this.accountNumbers = accountNumbers == null ? List.of() : accountNumbers;
+    }
+    
+    public static LedgerResponse of(TransactionStatus status) {
+        return new LedgerResponse(status, 0, null, null, 0, 0, null);
+    }
+    
+    public static LedgerResponse balance(long balanceCents) {
+        return new LedgerResponse(TransactionStatus.APPLIED, balanceCents, null, null, 0, 0, null);
+    }
+    
+    public static LedgerResponse account(BankAccount account) {
+        long overdraft = account instanceof CurrentAccount ? ((CurrentAccount) account).getOverdraftLimitCents() : 0;
+        long runId = account instanceof SavingsAccount ? ((SavingsAccount) account).getLastInterestRunId() : 0;
+        return new LedgerResponse(TransactionStatus.APPLIED, account.getBalanceCents(),
+                account.getAccountHolderName(), AccountType.of(account), overdraft, runId, null);
+    }
+    
+    public static LedgerResponse list(List<String> accountNumbers) {
+        return new LedgerResponse(TransactionStatus.APPLIED, 0, null, null, 0, 0, accountNumbers);
+    }
+    
+    public TransactionStatus getStatus() {
+        return status;
+    }
+    
+    public long getBalanceCents() {
+        return balanceCents;
+    }
+    
+    public String getHolderName() {
+        return holderName;
+    }
+    
+    public AccountType getAccountType() {
+        return accountType;
+    }
+    
+    public long getOverdraftCents() {
+        return overdraftCents;
+    }
+    
+    public long getLastInterestRunId() {
+        return lastInterestRunId;
+    }
+    
+    public List<String> getAccountNumbers() {
+        return accountNumbers;
+    }
+}
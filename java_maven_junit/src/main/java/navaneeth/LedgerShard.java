@@ -0,0 +1,81 @@
+package navaneeth;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LedgerShard class - one node of a ShardedLedger, owning a subset of the accounts
+ * - handle() is the whole interface, so a shard can sit behind any LedgerTransport
+ * - Single-account operations reuse Transaction, same-shard transfers reuse TransferService
+ */
+public class LedgerShard {
+    private final String name;
+    private final Map<String, BankAccount> accounts = new ConcurrentHashMap<>();
+    private final TransferService transfers = new TransferService();
+    
+    public LedgerShard(String name) {
+        this.name = name;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public int size() {
+        return accounts.size();
+    }
+    
+    public LedgerResponse handle(LedgerRequest request) {
+        String number = request.getAccountNumber();
+        switch (request.getOp()) {
+            case OPEN:
+                return LedgerResponse.of(accounts.putIfAbsent(number, create(request)) == null
+                        ? TransactionStatus.APPLIED : TransactionStatus.DUPLICATE_ACCOUNT);
+            case DEPOSIT:
+                return LedgerResponse.of(Transaction.deposit(number, request.getAmountCents()).applyTo(accounts.get(number)));
+            case WITHDRAW:
+                return LedgerResponse.of(Transaction.withdrawal(number, request.getAmountCents()).applyTo(accounts.get(number)));
+            case TRANSFER:
+                return LedgerResponse.of(transfers.tryTransfer(accounts.get(number),
+                        accounts.get(request.getText()), request.getAmountCents()));
+            case BALANCE: {
+                BankAccount account = accounts.get(number);
+                return account == null ? LedgerResponse.of(TransactionStatus.UNKNOWN_ACCOUNT)
+                        : LedgerResponse.balance(account.getBalanceCents());
+            }
+            case EXPORT: {
+                BankAccount account = accounts.remove(number);
+                return account == null ? LedgerResponse.of(TransactionStatus.UNKNOWN_ACCOUNT)
+                        : LedgerResponse.account(account);
+            }
+            case READ: {
+                BankAccount account = accounts.get(number);
+                return account == null ? LedgerResponse.of(TransactionStatus.UNKNOWN_ACCOUNT)
+                        : LedgerResponse.account(account);
+            }
+            case LIST:
+                return LedgerResponse.list(new ArrayList<>(accounts.keySet()));
+            default:
+                throw new IllegalArgumentException("Unsupported ledger operation: " + request.getOp());
+        }
+    }
+    
+    private static BankAccount create(LedgerRequest request) {
+        String number = request.getAccountNumber();
+        String holder = request.getText();
+        long balance = request.getAmountCents();
+        AccountType type = request.getAccountType() == null ? AccountType.BASIC : request.getAccountType();
+        switch (type) {
+            case SAVINGS: {
+                SavingsAccount savings = SavingsAccount.ofCents(number, holder, balance);
+                savings.restoreLastInterestRunId(request.getLastInterestRunId());
+                return savings;
+            }
+            case CURRENT:
+                return CurrentAccount.ofCents(number, holder, balance, request.getOverdraftCents());
+            default:
+                return BankAccount.ofCents(number, holder, balance);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package navaneeth;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * LedgerTransport interface - how a ShardedLedger reaches its shards
+ * - connect() returns a Channel that carries requests to one shard and brings back responses
+ * - Implementations: InProcessTransport (direct calls) and LocalSocketTransport (Unix domain sockets)
+ */
+public interface LedgerTransport {
+    
+    // Connection to one shard; must be safe to use from many threads at once
+    interface Channel extends Closeable {
+        LedgerResponse call(LedgerRequest request) throws IOException;
+    }
+    
+    Channel connect(LedgerShard shard) throws IOException;
+}
@@ -0,0 +1,272 @@
+package navaneeth;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * LocalSocketTransport class - LedgerTransport over Unix domain sockets
+ * - serve() exposes a shard on a socket file; that side can live in any JVM on the machine
+ * - connect() serves the shard from this JVM and returns a client channel to it, so a whole
+ *   multi-node ledger can be tested on one machine with real serialization and socket hops
+ * - The client keeps a pool of connections; each call borrows one for a request/response round trip
+ *
+ * Frames are written with DataOutputStream: request [byte op][string number][long amount]
+ * [string text][byte type][long overdraft][long interest run]; response [byte status][long balance]
+ * [string holder][byte type][long overdraft][long interest run][int count][count strings].
+ * Strings are a presence flag plus UTF. If the shard throws, the response is [byte -1][string error]
+ * and the client's call() throws ShardFailure; the connection stays usable.
+ */
+public class LocalSocketTransport implements LedgerTransport {
+    private static final int BUFFER_SIZE = 8192;
+    private static final LedgerRequest.Op[] OPS = LedgerRequest.Op.values();
+    private static final TransactionStatus[] STATUSES = TransactionStatus.values();
+    private static final byte ERROR = -1;
+    
+    // The remote shard threw while handling a request
+    public static final class ShardFailure extends IOException {
+        ShardFailure(String message) {
+            super(message);
+        }
+    }
+    
+    private final Path directory;
+    
+    // Socket files for shards served by connect() are created in directory
+    public LocalSocketTransport(Path directory) {
+        this.directory = directory;
+    }
+    
+    @Override
+    public Channel connect(LedgerShard shard) throws IOException {
+        Path socket = directory.resolve(shard.getName() + ".sock");
+        Server server = serve(shard, socket);
+        return new Client(socket, server);
+    }
+    
+    // Serves a shard on a socket file until the returned handle is closed
+    public static Server serve(LedgerShard shard, Path socket) throws IOException {
+        Files.deleteIfExists(socket);
+        ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        channel.bind(UnixDomainSocketAddress.of(socket));
+        return new Server(shard, channel, socket);
+    }
+    
+    // Client channel to a shard served on a socket file
+    public static Channel connect(Path socket) {
+        return new Client(socket, null);
+    }
+    
+    public static final class Server implements Closeable {
+        private final LedgerShard shard;
+        private final ServerSocketChannel channel;
+        private final Path socket;
+        private final List<SocketChannel> connections = new ArrayList<>(); // Guarded by this
+        private volatile boolean closed;
+        
+        private Server(LedgerShard shard, ServerSocketChannel channel, Path socket) {
+            this.shard = shard;
+            this.channel = channel;
+            this.socket = socket;
+            Thread acceptor = new Thread(this::acceptLoop, "ledger-" + shard.getName() + "-acceptor");
+            acceptor.setDaemon(true);
+            acceptor.start();
+        }
+        
+        private void acceptLoop() {
+            while (!closed) {
+                try {
+                    SocketChannel connection = channel.accept();
+                    synchronized (this) {
+                        connections.add(connection);
+                    }
+                    Thread worker = new Thread(() -> serveConnection(connection), "ledger-" + shard.getName());
+                    worker.setDaemon(true);
+                    worker.start();
+                } catch (IOException e) {
+                    return; // Closed
+                }
+            }
+        }
+        
+        private void serveConnection(SocketChannel connection) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(connection), BUFFER_SIZE));
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(connection), BUFFER_SIZE))) {
+                while (true) {
+                    LedgerRequest request = readRequest(in);
+                    LedgerResponse response;
+                    try {
+                        response = shard.handle(request);
+                    } catch (RuntimeException e) {
+                        out.writeByte(ERROR);
+                        writeString(out, "Shard " + shard.getName() + " failed on " + request.getOp() + ": " + e);
+                        out.flush();
+                        continue;
+                    }
+                    writeResponse(out, response);
+                    out.flush();
+                }
+            } catch (EOFException e) {
+                // Client disconnected
+            } catch (IOException e) {
+                // Connection broken or server closed
+            }
+        }
+        
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            channel.close();
+            synchronized (this) {
+                for (SocketChannel connection : connections) {
+                    connection.close();
+                }
+            }
+            Files.deleteIfExists(socket);
+        }
+    }
+    
+    private static final class Client implements Channel {
+        private final Path socket;
+        private final Server server; // Closed with the client when connect() started it
+        private final ConcurrentLinkedQueue<Connection> idle = new ConcurrentLinkedQueue<>();
+        private final List<Connection> all = new ArrayList<>(); // Guarded by this
+        
+        Client(Path socket, Server server) {
+            this.socket = socket;
+            this.server = server;
+        }
+        
+        @Override
+        public LedgerResponse call(LedgerRequest request) throws IOException {
+            Connection connection = idle.poll();
+            if (connection == null) {
+                connection = open();
+            }
+            try {
+                writeRequest(connection.out, request);
+                connection.out.flush();
+                LedgerResponse response = readResponse(connection.in);
+                idle.offer(connection);
+                return response;
+            } catch (ShardFailure e) {
+                idle.offer(connection); // A whole frame was read - the connection is fine
+                throw e;
+            } catch (IOException e) {
+                connection.channel.close(); // Broken mid-call - never reuse it
+                throw e;
+            }
+        }
+        
+        private Connection open() throws IOException {
+            SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socket));
+            Connection connection = new Connection(channel);
+            synchronized (this) {
+                all.add(connection);
+            }
+            return connection;
+        }
+        
+        @Override
+        public void close() throws IOException {
+            synchronized (this) {
+                for (Connection connection : all) {
+                    connection.channel.close();
+                }
+            }
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+    
+    private static final class Connection {
+        final SocketChannel channel;
+        final DataInputStream in;
+        final DataOutputStream out;
+        
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+            this.in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE));
+            this.out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+        }
+    }
+    
+    static void writeRequest(DataOutputStream out, LedgerRequest request) throws IOException {
+        out.writeByte(request.getOp().ordinal());
+        writeString(out, request.getAccountNumber());
+        out.writeLong(request.getAmountCents());
+        writeString(out, request.getText());
+        out.writeByte(request.getAccountType() == null ? -1 : request.getAccountType().ordinal());
+        out.writeLong(request.getOverdraftCents());
+        out.writeLong(request.getLastInterestRunId());
+    }
+    
+    static LedgerRequest readRequest(DataInputStream in) throws IOException {
+        LedgerRequest.Op op = OPS[in.readByte()];
+        String number = readString(in);
+        long amount = in.readLong();
+        String text = readString(in);
+        byte type = in.readByte();
+        long overdraft = in.readLong();
+        long runId = in.readLong();
+        return new LedgerRequest(op, number, amount, text, type < 0 ? null : AccountType.fromOrdinal(type), overdraft, runId);
+    }
+    
+    static void writeResponse(DataOutputStream out, LedgerResponse response) throws IOException {
+        out.writeByte(response.getStatus().ordinal());
+        out.writeLong(response.getBalanceCents());
+        writeString(out, response.getHolderName());
+        out.writeByte(response.getAccountType() == null ? -1 : response.getAccountType().ordinal());
+        out.writeLong(response.getOverdraftCents());
+        out.writeLong(response.getLastInterestRunId());
+        out.writeInt(response.getAccountNumbers().size());
+        for (String number : response.getAccountNumbers()) {
+            out.writeUTF(number);
+        }
+    }
+    
+    static LedgerResponse readResponse(DataInputStream in) throws IOException {
+        byte code = in.readByte();
+        if (code == ERROR) {
+            throw new ShardFailure(readString(in));
+        }
+        TransactionStatus status = STATUSES[code];
+        long balance = in.readLong();
+        String holder = readString(in);
+        byte type = in.readByte();
+        long overdraft = in.readLong();
+        long runId = in.readLong();
+        int count = in.readInt();
+        List<String> numbers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            numbers.add(in.readUTF());
+        }
+        return new LedgerResponse(status, balance, holder, type < 0 ? null : AccountType.fromOrdinal(type), overdraft, runId, numbers);
+    }
+    
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+    
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -1,5 +1,7 @@
 package navaneeth;
 
+import java.io.IOException;
+
 /**
  * Manager class demonstrating INHERITANCE and POLYMORPHISM
  * - Extends Employee
@@ -17,8 +19,13 @@ public class Manager extends Employee {
         return department;
     }
     
-    public void setDepartment(String department) {
+    // Synchronized so listeners see every change exactly once and in order
+    public synchronized void setDepartment(String department) {
+        String oldDepartment = this.department;
         this.department = department;
+        for (EmployeeListener listener : listeners) {
+            listener.departmentChanged(this, oldDepartment, department);
+        }
     }
     
     // Method Overriding - POLYMORPHISM
@@ -27,10 +34,15 @@ public class Manager extends Employee {
         return getSalary() * 0.2; // Managers get 20% bonus
     }
     
+    // toString() and appendTo(StringBuilder) are inherited and render through this
     @Override
-    public String toString() {
-        return "Manager{id=" + getEmployeeId() + ", name='" + getName() + 
-               "', salary=" + getSalary() + ", department='" + department + "'}";
+    public <A extends Appendable> A appendTo(A out) throws IOException {
+        out.append("Manager{id=");
+        NumberFormatter.append(out, getEmployeeId());
+        out.append(", name='").append(getName()).append("', salary=");
+        NumberFormatter.append(out, getSalary());
+        out.append(", department='").append(department).append("'}");
+        return out;
     }
 }
 
@@ -0,0 +1,313 @@
+package navaneeth;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * MappedAccountStore class - off-heap account book backed by a memory-mapped file
+ * - Each account is a fixed-width 64-byte record addressed by its slot number
+ * - Balances are updated with CAS directly in the mapped file, like BankAccount does on the heap
+ * - Holder names live in a side file ("<file>.names"); records keep only a reference to them
+ * - Reopening an existing file maps it lazily - no objects are rebuilt
+ *
+ * Record layout (little-endian):
+ *   0  account number length (1 byte) + up to 23 bytes UTF-8
+ *   24 holder-name reference (long offset into the names file)
+ *   32 balance in cents (long)
+ *   40 overdraft limit in cents (long)
+ *   48 account type ordinal (byte)
+ */
+public class MappedAccountStore implements Closeable {
+    private static final int MAGIC = 0x41435354; // "ACST"
+    private static final int VERSION = 1;
+    
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 64;
+    static final int MAX_ACCOUNT_NUMBER_BYTES = 23;
+    
+    // Header offsets
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int RECORD_SIZE_OFFSET = 8;
+    private static final int SEGMENT_SHIFT_OFFSET = 12;
+    private static final int COUNT_OFFSET = 16;
+    
+    // Record offsets
+    private static final int NUMBER_OFFSET = 0;
+    private static final int NAME_REF_OFFSET = 24;
+    private static final int BALANCE_OFFSET = 32;
+    private static final int OVERDRAFT_OFFSET = 40;
+    private static final int TYPE_OFFSET = 48;
+    
+    // Records are mapped in segments (1 GiB by default) because a single mapping is limited to 2 GiB
+    static final int DEFAULT_SEGMENT_SHIFT = 24;
+    
+    // Atomic long access into direct buffers, used for balance CAS and the published count
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    
+    private final FileChannel channel;
+    private final FileChannel namesChannel;
+    private final MappedByteBuffer header;
+    private int segmentShift;
+    private volatile MappedByteBuffer[] segments = new MappedByteBuffer[0];
+    private long namesLength;
+    
+    private MappedAccountStore(FileChannel channel, FileChannel namesChannel) throws IOException {
+        this.channel = channel;
+        this.namesChannel = namesChannel;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        this.header.order(ByteOrder.LITTLE_ENDIAN);
+        this.namesLength = namesChannel.size();
+    }
+    
+    // Opens the store at path, creating an empty one if the file does not exist
+    public static MappedAccountStore open(Path path) throws IOException {
+        return open(path, DEFAULT_SEGMENT_SHIFT);
+    }
+    
+    // Segment size is fixed when the file is created; tests use small segments to keep files small
+    static MappedAccountStore open(Path path, int segmentShift) throws IOException {
+        Path namesPath = path.resolveSibling(path.getFileName() + ".names");
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel namesChannel = null;
+        try {
+            namesChannel = FileChannel.open(namesPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            boolean fresh = channel.size() == 0;
+            MappedAccountStore store = new MappedAccountStore(channel, namesChannel);
+            if (fresh) {
+                store.segmentShift = segmentShift;
+                store.header.putInt(MAGIC_OFFSET, MAGIC);
+                store.header.putInt(VERSION_OFFSET, VERSION);
+                store.header.putInt(RECORD_SIZE_OFFSET, RECORD_SIZE);
+                store.header.putInt(SEGMENT_SHIFT_OFFSET, segmentShift);
+                store.header.putLong(COUNT_OFFSET, 0);
+            } else {
+                store.checkHeader(path);
+            }
+            return store;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            if (namesChannel != null) {
+                namesChannel.close();
+            }
+            throw e;
+        }
+    }
+    
+    private void checkHeader(Path path) {
+        if (header.getInt(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION
+                || header.getInt(RECORD_SIZE_OFFSET) != RECORD_SIZE) {
+            throw new IllegalStateException("Not an account store: " + path);
+        }
+        segmentShift = header.getInt(SEGMENT_SHIFT_OFFSET);
+    }
+    
+    // Number of accounts in the store
+    public int size() {
+        return (int) (long) LONGS.getAcquire(header, COUNT_OFFSET);
+    }
+    
+    // Appends a new account record and returns its slot
+    public synchronized int add(String accountNumber, String accountHolderName, AccountType type,
+                                long balanceCents, long overdraftLimitCents) throws IOException {
+        byte[] number = accountNumber.getBytes(StandardCharsets.UTF_8);
+        if (number.length > MAX_ACCOUNT_NUMBER_BYTES) {
+            throw new IllegalArgumentException("Account number longer than " + MAX_ACCOUNT_NUMBER_BYTES + " bytes");
+        }
+        int slot = size();
+        if (slot == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Account store is full");
+        }
+        long nameRef = appendName(accountHolderName);
+        
+        ByteBuffer segment = segmentFor(slot);
+        int base = offsetOf(slot);
+        segment.put(base + NUMBER_OFFSET, (byte) number.length);
+        segment.put(base + NUMBER_OFFSET + 1, number);
+        segment.putLong(base + NAME_REF_OFFSET, nameRef);
+        segment.putLong(base + BALANCE_OFFSET, balanceCents);
+        segment.putLong(base + OVERDRAFT_OFFSET, type == AccountType.CURRENT ? overdraftLimitCents : 0);
+        segment.put(base + TYPE_OFFSET, (byte) type.ordinal());
+        
+        // Publish the record only after it is fully written
+        LONGS.setRelease(header, COUNT_OFFSET, (long) slot + 1);
+        return slot;
+    }
+    
+    // Copies an account object into the store
+    public int add(BankAccount account) throws IOException {
+        AccountType type = AccountType.of(account);
+        long overdraft = type == AccountType.CURRENT ? ((CurrentAccount) account).getOverdraftLimitCents() : 0;
+        return add(account.getAccountNumber(), account.getAccountHolderName(), type,
+                account.getBalanceCents(), overdraft);
+    }
+    
+    // Names are stored as [int length][UTF-8 bytes]; the reference is the offset of the length
+    private long appendName(String name) throws IOException {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + bytes.length).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(bytes.length).put(bytes).flip();
+        long ref = namesLength;
+        long position = ref;
+        while (buffer.hasRemaining()) {
+            position += namesChannel.write(buffer, position);
+        }
+        namesLength = position;
+        return ref;
+    }
+    
+    // Record getters
+    public String getAccountNumber(int slot) {
+        ByteBuffer segment = checkedSegment(slot);
+        int base = offsetOf(slot);
+        byte[] number = new byte[segment.get(base + NUMBER_OFFSET)];
+        segment.get(base + NUMBER_OFFSET + 1, number);
+        return new String(number, StandardCharsets.UTF_8);
+    }
+    
+    public String getAccountHolderName(int slot) throws IOException {
+        long ref = checkedSegment(slot).getLong(offsetOf(slot) + NAME_REF_OFFSET);
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(length, ref);
+        ByteBuffer bytes = ByteBuffer.allocate(length.getInt(0));
+        readFully(bytes, ref + Integer.BYTES);
+        return new String(bytes.array(), StandardCharsets.UTF_8);
+    }
+    
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = namesChannel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Truncated names file");
+            }
+            position += read;
+        }
+    }
+    
+    public AccountType getType(int slot) {
+        return AccountType.fromOrdinal(checkedSegment(slot).get(offsetOf(slot) + TYPE_OFFSET));
+    }
+    
+    public long getBalanceCents(int slot) {
+        return (long) LONGS.getVolatile(checkedSegment(slot), offsetOf(slot) + BALANCE_OFFSET);
+    }
+    
+    public long getOverdraftLimitCents(int slot) {
+        return checkedSegment(slot).getLong(offsetOf(slot) + OVERDRAFT_OFFSET);
+    }
+    
+    // Business logic - same rules as BankAccount, SavingsAccount and CurrentAccount
+    public void deposit(int slot, long amountCents) {
+        if (amountCents <= 0) {
+            throw new IllegalArgumentException("Deposit amount must be positive");
+        }
+        LONGS.getAndAdd(checkedSegment(slot), offsetOf(slot) + BALANCE_OFFSET, amountCents);
+    }
+    
+    public void withdraw(int slot, long amountCents) {
+        if (!tryWithdraw(slot, amountCents)) {
+            throw new IllegalArgumentException(getType(slot) == AccountType.CURRENT
+                    ? "Withdrawal exceeds available balance and overdraft limit"
+                    : "Invalid withdrawal amount");
+        }
+    }
+    
+    // Non-throwing withdrawal; current accounts may go down to minus their overdraft limit
+    public boolean tryWithdraw(int slot, long amountCents) {
+        ByteBuffer segment = checkedSegment(slot);
+        int base = offsetOf(slot);
+        long overdraft = segment.getLong(base + OVERDRAFT_OFFSET);
+        long current;
+        do {
+            current = (long) LONGS.getVolatile(segment, base + BALANCE_OFFSET);
+            if (!(amountCents > 0 && current + overdraft >= amountCents)) {
+                return false;
+            }
+        } while (!LONGS.compareAndSet(segment, base + BALANCE_OFFSET, current, current - amountCents));
+        return true;
+    }
+    
+    public long calculateInterestCents(int slot) {
+        return Money.applyRate(getBalanceCents(slot), getType(slot).getInterestRateBps());
+    }
+    
+    // Like SavingsAccount.addInterest(): nothing is credited when the interest rounds to zero
+    public void addInterest(int slot) {
+        long interest = calculateInterestCents(slot);
+        if (interest > 0) {
+            deposit(slot, interest);
+        }
+    }
+    
+    // Flushes mapped records and names to the storage device
+    public void force() throws IOException {
+        header.force();
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+        namesChannel.force(false);
+    }
+    
+    // Closes the files; mappings are released by the JVM once unreachable
+    @Override
+    public void close() throws IOException {
+        try {
+            force();
+        } finally {
+            channel.close();
+            namesChannel.close();
+        }
+    }
+    
+    private int offsetOf(int slot) {
+        return (slot & ((1 << segmentShift) - 1)) * RECORD_SIZE;
+    }
+    
+    private ByteBuffer checkedSegment(int slot) {
+        if (slot < 0 || slot >= size()) {
+            throw new IndexOutOfBoundsException("No account in slot " + slot);
+        }
+        return segmentFor(slot);
+    }
+    
+    // Maps segments on first use; the file grows as new segments are mapped
+    private ByteBuffer segmentFor(int slot) {
+        int index = slot >>> segmentShift;
+        MappedByteBuffer[] current = segments;
+        if (index < current.length) {
+            return current[index];
+        }
+        return mapSegments(index);
+    }
+    
+    private synchronized ByteBuffer mapSegments(int index) {
+        MappedByteBuffer[] current = segments;
+        if (index < current.length) {
+            return current[index];
+        }
+        long segmentBytes = (long) RECORD_SIZE << segmentShift;
+        MappedByteBuffer[] grown = new MappedByteBuffer[index + 1];
+        System.arraycopy(current, 0, grown, 0, current.length);
+        try {
+            for (int i = current.length; i <= index; i++) {
+                grown[i] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + i * segmentBytes, segmentBytes);
+                grown[i].order(ByteOrder.LITTLE_ENDIAN);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot map account segment " + index, e);
+        }
+        segments = grown;
+        return grown[index];
+    }
+}
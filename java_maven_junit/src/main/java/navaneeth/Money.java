@@ -0,0 +1,44 @@
+package navaneeth;
+
+/**
+ * Money class providing FIXED-POINT arithmetic on long cents
+ * - Amounts are plain long values (1 unit = 100 cents), so there is no allocation per operation
+ * - Rates are expressed in basis points (1% = 100 bps) to keep interest math in integers
+ * - Conversions to and from double are only for the legacy double API
+ */
+public final class Money {
+    public static final long CENTS_PER_UNIT = 100;
+    public static final int BASIS_POINTS_PER_UNIT = 10_000; // 100% expressed in basis points
+    
+    // Largest double amount that still fits in long cents
+    private static final double MAX_AMOUNT = Long.MAX_VALUE / (double) CENTS_PER_UNIT;
+    
+    // Utility class - no instances
+    private Money() {
+    }
+    
+    // Converts a double amount to cents, rounding to the nearest cent
+    public static long toCents(double amount) {
+        if (!(Math.abs(amount) < MAX_AMOUNT)) { // Also rejects NaN
+            throw new IllegalArgumentException("Amount out of range: " + amount);
+        }
+        return Math.round(amount * CENTS_PER_UNIT);
+    }
+    
+    // Converts cents back to a double amount for the legacy API
+    public static double toDouble(long cents) {
+        return cents / (double) CENTS_PER_UNIT;
+    }
+    
+    // Applies a rate in basis points, rounding half away from zero
+    // Branch-free: the rounding offset takes the sign of the product
+    // Only the remainder is rounded, so a product near Long.MAX_VALUE cannot overflow
+    public static long applyRate(long cents, int basisPoints) {
+        long product = Math.multiplyExact(cents, (long) basisPoints);
+        long sign = product >> 63; // 0 for positive, -1 for negative
+        long half = ((BASIS_POINTS_PER_UNIT / 2) ^ sign) - sign;
+        long quotient = product / BASIS_POINTS_PER_UNIT;
+        long remainder = product - quotient * BASIS_POINTS_PER_UNIT; // Same sign as the product
+        return quotient + (remainder + half) / BASIS_POINTS_PER_UNIT;
+    }
+}
@@ -0,0 +1,318 @@
+package navaneeth;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.CharBuffer;
+
+/**
+ * NumberFormatter class - allocation-free decimal text for doubles and longs
+ * - Doubles are written exactly as Double.toString writes them: the shortest decimal that
+ *   rounds back to the same double (Schubfach algorithm, as used by the JDK since 19),
+ *   laid out as plain or computerized scientific notation by the same rules
+ * - format() writes into a caller's char[]; append() writes into a StringBuilder, CharBuffer
+ *   or any Appendable through a per-thread scratch array, so nothing is allocated per call
+ *
+ * The 617 power-of-ten multipliers the algorithm needs are computed exactly once at class
+ * initialization (BigInteger), instead of being shipped as a literal table.
+ */
+public final class NumberFormatter {
+    // Longest outputs: "-2.2250738585072014E-308" (24) and Long.MIN_VALUE (20)
+    public static final int MAX_DOUBLE_LENGTH = 24;
+    public static final int MAX_LONG_LENGTH = 20;
+    
+    private static final int P = 53;               // Precision of double, in bits
+    private static final int Q_MIN = -1074;        // Exponent of the smallest subnormal
+    private static final int K_MIN = -324;         // Range of decimal exponents used for scaling
+    private static final int K_MAX = 292;
+    private static final long C_MIN = 1L << (P - 1);
+    private static final long C_TINY = 3;          // Subnormal significands below this get one more digit
+    private static final long MASK_63 = (1L << 63) - 1;
+    private static final int BQ_MASK = (1 << 11) - 1;
+    private static final long T_MASK = (1L << (P - 1)) - 1;
+    
+    // g(k) = floor(10^-k * 2^-r) + 1 with 2^125 <= 10^-k * 2^-r < 2^126, split into 63-bit halves
+    private static final long[] G = new long[2 * (K_MAX - K_MIN + 1)];
+    
+    private static final long[] POW10 = new long[19]; // Up to 10^18
+    
+    private static final int[] POW10_INT = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000};
+    private static final char[] DIGIT_TENS = new char[100];
+    private static final char[] DIGIT_ONES = new char[100];
+    
+    private static final ThreadLocal<char[]> SCRATCH = ThreadLocal.withInitial(() -> new char[MAX_DOUBLE_LENGTH]);
+    
+    static {
+        BigInteger mask63 = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE);
+        for (int k = K_MIN; k <= K_MAX; k++) {
+            BigInteger g;
+            if (k <= 0) {
+                BigInteger pow = BigInteger.TEN.pow(-k);
+                int r = pow.bitLength() - 126;
+                g = r >= 0 ? pow.shiftRight(r) : pow.shiftLeft(-r);
+            } else {
+                BigInteger pow = BigInteger.TEN.pow(k);
+                g = BigInteger.ONE.shiftLeft(pow.bitLength() + 125).divide(pow);
+            }
+            g = g.add(BigInteger.ONE);
+            G[2 * (k - K_MIN)] = g.shiftRight(63).longValue();
+            G[2 * (k - K_MIN) + 1] = g.and(mask63).longValue();
+        }
+        for (int i = 0; i < 100; i++) {
+            DIGIT_TENS[i] = (char) ('0' + i / 10);
+            DIGIT_ONES[i] = (char) ('0' + i % 10);
+        }
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+    
+    // Utility class - no instances
+    private NumberFormatter() {
+    }
+    
+    // Writes Double.toString(value) into buffer at offset; returns the offset after the last char
+    public static int format(double value, char[] buffer, int offset) {
+        long bits = Double.doubleToRawLongBits(value);
+        long t = bits & T_MASK;
+        int bq = (int) (bits >>> (P - 1)) & BQ_MASK;
+        if (bq == BQ_MASK) {
+            return literal(t != 0 ? "NaN" : bits > 0 ? "Infinity" : "-Infinity", buffer, offset);
+        }
+        if (bits < 0) {
+            buffer[offset++] = '-';
+        }
+        if (bq != 0) {
+            int mq = -Q_MIN + 1 - bq;
+            long c = C_MIN | t;
+            // Integers below 2^53 print their own digits
+            if (0 < mq && mq < P) {
+                long f = c >> mq;
+                if (f << mq == c) {
+                    return digits(f, 0, buffer, offset);
+                }
+            }
+            return shortest(-mq, c, 0, buffer, offset);
+        }
+        if (t != 0) {
+            return t < C_TINY ? shortest(Q_MIN, 10 * t, -1, buffer, offset) : shortest(Q_MIN, t, 0, buffer, offset);
+        }
+        return literal("0.0", buffer, offset);
+    }
+    
+    // Writes Long.toString(value) into buffer at offset; returns the offset after the last char
+    public static int format(long value, char[] buffer, int offset) {
+        if (value == Long.MIN_VALUE) {
+            return literal("-9223372036854775808", buffer, offset);
+        }
+        if (value < 0) {
+            buffer[offset++] = '-';
+            value = -value;
+        }
+        return writeDigits(value, length(value), buffer, offset);
+    }
+    
+    public static StringBuilder append(StringBuilder out, double value) {
+        char[] scratch = SCRATCH.get();
+        return out.append(scratch, 0, format(value, scratch, 0));
+    }
+    
+    public static StringBuilder append(StringBuilder out, long value) {
+        char[] scratch = SCRATCH.get();
+        return out.append(scratch, 0, format(value, scratch, 0));
+    }
+    
+    // Throws BufferOverflowException, writing nothing, if the text does not fit
+    public static CharBuffer append(CharBuffer out, double value) {
+        char[] scratch = SCRATCH.get();
+        return out.put(scratch, 0, format(value, scratch, 0));
+    }
+    
+    public static CharBuffer append(CharBuffer out, long value) {
+        char[] scratch = SCRATCH.get();
+        return out.put(scratch, 0, format(value, scratch, 0));
+    }
+    
+    public static <A extends Appendable> A append(A out, double value) throws IOException {
+        char[] scratch = SCRATCH.get();
+        return write(out, scratch, format(value, scratch, 0));
+    }
+    
+    public static <A extends Appendable> A append(A out, long value) throws IOException {
+        char[] scratch = SCRATCH.get();
+        return write(out, scratch, format(value, scratch, 0));
+    }
+    
+    private static <A extends Appendable> A write(A out, char[] chars, int length) throws IOException {
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(chars, 0, length);
+        } else if (out instanceof CharBuffer) {
+            ((CharBuffer) out).put(chars, 0, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                out.append(chars[i]);
+            }
+        }
+        return out;
+    }
+    
+    // Schubfach: the decimal c * 2^q rounds to, with dk = -1 when c was scaled by 10
+    private static int shortest(int q, long c, int dk, char[] buffer, int offset) {
+        int out = (int) c & 0x1;
+        long cb = c << 2;
+        long cbr = cb + 2;
+        long cbl;
+        int k;
+        if (c != C_MIN || q == Q_MIN) {
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            // Lower neighbour is closer at a power of two
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        int h = q + flog2pow10(-k) + 2;
+        long g1 = G[2 * (k - K_MIN)];
+        long g0 = G[2 * (k - K_MIN) + 1];
+        long vb = rop(g1, g0, cb << h);
+        long vbl = rop(g1, g0, cbl << h);
+        long vbr = rop(g1, g0, cbr << h);
+        long s = vb >> 2;
+        if (s >= 100) {
+            // Try one digit less first: s rounded down and up to a multiple of 10
+            long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+            long tp10 = sp10 + 10;
+            boolean upin = vbl + out <= sp10 << 2;
+            boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                return digits(upin ? sp10 : tp10, k, buffer, offset);
+            }
+        }
+        long t = s + 1;
+        boolean uin = vbl + out <= s << 2;
+        boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            return digits(uin ? s : t, k + dk, buffer, offset);
+        }
+        // Both candidates are in the rounding interval: the closer one, ties to even
+        long cmp = vb - ((s + t) << 1);
+        return digits(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, buffer, offset);
+    }
+    
+    // Rounded-to-odd product of g and cp, scaled by 2^-127
+    private static long rop(long g1, long g0, long cp) {
+        long x1 = Math.multiplyHigh(g0, cp);
+        long y0 = g1 * cp;
+        long y1 = Math.multiplyHigh(g1, cp);
+        long z = (y0 >>> 1) + x1;
+        long vbp = y1 + (z >>> 63);
+        return vbp | ((z & MASK_63) + MASK_63) >>> 63;
+    }
+    
+    // Lays out f * 10^e the way Double.toString does
+    private static int digits(long f, int e, char[] buffer, int offset) {
+        int length = length(f);
+        int point = e + length; // Value is 0.d1d2... * 10^point
+        while (length > 1 && f % 10 == 0) {
+            f /= 10;
+            length--;
+        }
+        if (0 < point && point <= 7) {
+            if (length <= point) {
+                // Integral: digits, zero padding, ".0"
+                offset = writeDigits(f, length, buffer, offset);
+                for (int i = length; i < point; i++) {
+                    buffer[offset++] = '0';
+                }
+                buffer[offset++] = '.';
+                buffer[offset++] = '0';
+                return offset;
+            }
+            // Digits one place to the right, then the integer part moved back over the point
+            int end = writeDigits(f, length, buffer, offset + 1);
+            System.arraycopy(buffer, offset + 1, buffer, offset, point);
+            buffer[offset + point] = '.';
+            return end;
+        }
+        if (-3 < point && point <= 0) {
+            buffer[offset++] = '0';
+            buffer[offset++] = '.';
+            for (int i = point; i < 0; i++) {
+                buffer[offset++] = '0';
+            }
+            return writeDigits(f, length, buffer, offset);
+        }
+        // Computerized scientific: d1.d2...E(point - 1)
+        int end = writeDigits(f, length, buffer, offset + 1);
+        buffer[offset] = buffer[offset + 1];
+        buffer[offset + 1] = '.';
+        if (length == 1) {
+            buffer[end++] = '0';
+        }
+        buffer[end++] = 'E';
+        return format((long) (point - 1), buffer, end);
+    }
+    
+    // Writes the length low decimal digits of f, most significant first: eight digits at a time
+    // in int arithmetic, two per table lookup, to keep the chain of divisions short
+    private static int writeDigits(long f, int length, char[] buffer, int offset) {
+        int end = offset + length;
+        int i = end;
+        while (i - offset > 8) {
+            long next = f / 100_000_000;
+            int chunk = (int) (f - next * 100_000_000);
+            f = next;
+            int high = chunk / 10_000;
+            writePairs(chunk - high * 10_000, buffer, i - 4, 2);
+            writePairs(high, buffer, i - 8, 2);
+            i -= 8;
+        }
+        int rest = (int) f;
+        int pairs = (i - offset) / 2;
+        if ((i - offset) % 2 != 0) {
+            // Odd count: the leading digit alone, then pairs
+            writePairs(rest, buffer, offset + 1, pairs);
+            buffer[offset] = (char) ('0' + rest / POW10_INT[2 * pairs]);
+        } else {
+            writePairs(rest, buffer, offset, pairs);
+        }
+        return end;
+    }
+    
+    // Writes the low 2 * pairs digits of value at offset
+    private static void writePairs(int value, char[] buffer, int offset, int pairs) {
+        for (int i = offset + 2 * pairs - 2; i >= offset; i -= 2) {
+            int next = value / 100;
+            int pair = value - next * 100;
+            buffer[i] = DIGIT_TENS[pair];
+            buffer[i + 1] = DIGIT_ONES[pair];
+            value = next;
+        }
+    }
+    
+    // Decimal digits of a non-negative value (1 for 0)
+    private static int length(long value) {
+        int length = flog10pow2(Long.SIZE - Long.numberOfLeadingZeros(value));
+        return value >= POW10[length] ? length + 1 : Math.max(1, length);
+    }
+    
+    private static int literal(String text, char[] buffer, int offset) {
+        text.getChars(0, text.length(), buffer, offset);
+        return offset + text.length();
+    }
+    
+    // floor(q * log10(2))
+    private static int flog10pow2(int q) {
+        return (int) (q * 661_971_961_083L >> 41);
+    }
+    
+    // floor(log10(3/4 * 2^q))
+    private static int flog10threeQuartersPow2(int q) {
+        return (int) (q * 661_971_961_083L - 274_743_187_321L >> 41);
+    }
+    
+    // floor(e * log2(10))
+    private static int flog2pow10(int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+}
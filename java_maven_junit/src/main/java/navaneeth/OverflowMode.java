@@ -0,0 +1,13 @@
+package navaneeth;
+
+/**
+ * OverflowMode enum - what a bulk integer operation does when a result does not fit
+ * - WRAPPING: two's complement wrap-around, like the plain Java operators
+ * - SATURATING: clamps to MIN_VALUE/MAX_VALUE of the element type
+ * - CHECKED: throws ArithmeticException naming the first overflowing index, like Math.addExact
+ */
+public enum OverflowMode {
+    WRAPPING,
+    SATURATING,
+    CHECKED
+}
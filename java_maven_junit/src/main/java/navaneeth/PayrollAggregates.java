@@ -0,0 +1,192 @@
+package navaneeth;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PayrollAggregates class - payroll totals kept current as employees change
+ * - track() subscribes to an Employee or Manager; setSalary and setDepartment then adjust the
+ *   company-wide and per-department totals in O(1) instead of a full recomputation
+ * - Totals are exact (ExactSum): after any sequence of updates they equal a from-scratch sum of
+ *   getSalary() and calculateBonus(), rounded once
+ * - Each scope publishes an immutable Totals view after every update, so reading is a single
+ *   volatile read and always sees a consistent salary/bonus/count combination
+ *
+ * Updates run under the employee's monitor and lock one scope at a time, so concurrent updates to
+ * different employees only meet briefly on the scopes they share.
+ */
+public class PayrollAggregates implements EmployeeListener {
+    
+    // Consistent totals of one scope at one point in time
+    public static final class Totals {
+        static final Totals EMPTY = new Totals(0, 0, 0, 0);
+        
+        private final double totalSalary;
+        private final double totalBonus;
+        private final int employeeCount;
+        private final int managerCount;
+        
+        Totals(double totalSalary, double totalBonus, int employeeCount, int managerCount) {
+            this.totalSalary = totalSalary;
+            this.totalBonus = totalBonus;
+            this.employeeCount = employeeCount;
+            this.managerCount = managerCount;
+        }
+        
+        public double getTotalSalary() {
+            return totalSalary;
+        }
+        
+        public double getTotalBonus() {
+            return totalBonus;
+        }
+        
+        // Employees of any role, managers included
+        public int getEmployeeCount() {
+            return employeeCount;
+        }
+        
+        public int getManagerCount() {
+            return managerCount;
+        }
+        
+        @Override
+        public String toString() {
+            return "Totals{employees=" + employeeCount + ", managers=" + managerCount
+                + ", salary=" + totalSalary + ", bonus=" + totalBonus + "}";
+        }
+    }
+    
+    // Running sums of one scope (the company or a department)
+    private static final class Scope {
+        private final ExactSum salary = new ExactSum();
+        private final ExactSum bonus = new ExactSum();
+        private int employees;
+        private int managers;
+        private volatile Totals totals = Totals.EMPTY;
+        
+        // Adds (sign 1) or removes (sign -1) one member
+        synchronized void join(double salary, double rate, boolean manager, int sign) {
+            if (sign > 0) {
+                this.salary.add(salary);
+                bonus.add(salary * rate);
+            } else {
+                this.salary.subtract(salary);
+                bonus.subtract(salary * rate);
+            }
+            employees += sign;
+            managers += manager ? sign : 0;
+            publish();
+        }
+        
+        synchronized void change(double oldSalary, double newSalary, double rate) {
+            salary.subtract(oldSalary);
+            salary.add(newSalary);
+            bonus.subtract(oldSalary * rate);
+            bonus.add(newSalary * rate);
+            publish();
+        }
+        
+        private void publish() {
+            totals = new Totals(salary.doubleValue(), bonus.doubleValue(), employees, managers);
+        }
+    }
+    
+    private final Scope company = new Scope();
+    private final Map<String, Scope> departments = new ConcurrentHashMap<>();
+    
+    // Starts maintaining totals for an Employee or Manager
+    public void track(Employee employee) {
+        EmployeeRole role = EmployeeRole.of(employee);
+        synchronized (employee) {
+            if (employee.hasListener(this)) {
+                throw new IllegalStateException("Employee " + employee.getEmployeeId() + " is already tracked");
+            }
+            employee.addListener(this);
+            join(employee, role, departmentOf(employee), 1);
+        }
+    }
+    
+    public void trackAll(Collection<? extends Employee> employees) {
+        for (Employee employee : employees) {
+            track(employee);
+        }
+    }
+    
+    // Stops tracking and removes the employee from the totals; returns false if it was not tracked
+    public boolean untrack(Employee employee) {
+        synchronized (employee) {
+            if (!employee.removeListener(this)) {
+                return false;
+            }
+            join(employee, EmployeeRole.of(employee), departmentOf(employee), -1);
+            return true;
+        }
+    }
+    
+    public Totals getTotals() {
+        return company.totals;
+    }
+    
+    public double getTotalSalary() {
+        return company.totals.getTotalSalary();
+    }
+    
+    public double getTotalBonus() {
+        return company.totals.getTotalBonus();
+    }
+    
+    // Totals of the managers in one department (empty if there are none)
+    public Totals getDepartmentTotals(String department) {
+        Scope scope = departments.get(department);
+        return scope == null ? Totals.EMPTY : scope.totals;
+    }
+    
+    // Departments that have had members; some may be empty now
+    public Set<String> getDepartments() {
+        return departments.keySet();
+    }
+    
+    @Override
+    public void employeeIdChanged(Employee employee, int oldId, int newId) {
+        // Totals do not depend on ids
+    }
+    
+    @Override
+    public void salaryChanged(Employee employee, double oldSalary, double newSalary) {
+        double rate = EmployeeRole.of(employee).getBonusRate();
+        String department = departmentOf(employee);
+        if (department != null) {
+            department(department).change(oldSalary, newSalary, rate);
+        }
+        company.change(oldSalary, newSalary, rate);
+    }
+    
+    @Override
+    public void departmentChanged(Manager manager, String oldDepartment, String newDepartment) {
+        if (oldDepartment != null) {
+            department(oldDepartment).join(manager.getSalary(), EmployeeRole.MANAGER.getBonusRate(), true, -1);
+        }
+        if (newDepartment != null) {
+            department(newDepartment).join(manager.getSalary(), EmployeeRole.MANAGER.getBonusRate(), true, 1);
+        }
+    }
+    
+    private void join(Employee employee, EmployeeRole role, String department, int sign) {
+        boolean manager = role == EmployeeRole.MANAGER;
+        if (department != null) {
+            department(department).join(employee.getSalary(), role.getBonusRate(), manager, sign);
+        }
+        company.join(employee.getSalary(), role.getBonusRate(), manager, sign);
+    }
+    
+    private Scope department(String department) {
+        return departments.computeIfAbsent(department, d -> new Scope());
+    }
+    
+    private static String departmentOf(Employee employee) {
+        return employee instanceof Manager ? ((Manager) employee).getDepartment() : null;
+    }
+}
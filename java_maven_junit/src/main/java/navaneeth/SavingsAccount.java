@@ -1,27 +1,66 @@
 package navaneeth;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * SavingsAccount class demonstrating INHERITANCE
  * - Extends BankAccount (inherits all fields and methods)
  * - Overrides methods for specific behavior (POLYMORPHISM)
  */
 public class SavingsAccount extends BankAccount {
-    private static final double INTEREST_RATE = 0.05; // 5% interest rate
+    static final int INTEREST_RATE_BPS = 500; // 5% interest rate, in basis points
+    // Id of the last accrual run that credited interest (see addInterest(long))
+    private final AtomicLong lastInterestRunId = new AtomicLong();
     
     public SavingsAccount(String accountNumber, String accountHolderName, double initialBalance) {
         super(accountNumber, accountHolderName, initialBalance);
     }
     
+    // Factory taking an exact balance in cents
+    public static SavingsAccount ofCents(String accountNumber, String accountHolderName, long initialBalanceCents) {
+        SavingsAccount account = new SavingsAccount(accountNumber, accountHolderName, 0);
+        account.setBalanceCents(initialBalanceCents);
+        return account;
+    }
+    
     // Method Overriding - POLYMORPHISM
     @Override
-    public double calculateInterest() {
-        return getBalance() * INTEREST_RATE;
+    public long calculateInterestCents() {
+        return Money.applyRate(getBalanceCents(), INTEREST_RATE_BPS);
     }
     
     // Additional method specific to SavingsAccount
+    // A balance of a few cents earns less than half a cent, which rounds to no credit at all
     public void addInterest() {
-        double interest = calculateInterest();
-        deposit(interest);
+        long interest = calculateInterestCents();
+        if (interest > 0) {
+            depositCents(interest);
+        }
+    }
+    
+    // Credits interest at most once per accrual run; run ids must increase from run to run
+    // Returns false if this run (or a later one) already credited the account
+    public boolean addInterest(long runId) {
+        long last;
+        do {
+            last = lastInterestRunId.get();
+            if (last >= runId) {
+                return false;
+            }
+        } while (!lastInterestRunId.compareAndSet(last, runId)); // Claim the run before crediting
+        long interest = calculateInterestCents();
+        if (interest > 0) {
+            depositCents(interest);
+        }
+        return true;
+    }
+    
+    public long getLastInterestRunId() {
+        return lastInterestRunId.get();
+    }
+    
+    // For an account rebuilt from its record (e.g. moved between ledger shards)
+    void restoreLastInterestRunId(long runId) {
+        lastInterestRunId.set(runId);
     }
 }
-
@@ -1,5 +1,8 @@
 package navaneeth;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 /**
  * Abstract Shape class demonstrating ABSTRACTION
  * - Cannot be instantiated directly
@@ -21,13 +24,38 @@ public abstract class Shape {
         return color;
     }
     
+    // Shared flyweights are immutable and reject this: recolor them with ShapeFactory.recolor, which
+    // returns the flyweight of the new color (copy-on-write) instead of changing every scene that shares this one
     public void setColor(String color) {
         this.color = color;
     }
     
+    // True for flyweights created by a ShapeFactory
+    public boolean isShared() {
+        return false;
+    }
+    
     // Concrete method
     public String getShapeInfo() {
-        return "Shape color: " + color + ", Area: " + calculateArea() + ", Perimeter: " + calculatePerimeter();
+        return appendShapeInfo(new StringBuilder(64)).toString();
+    }
+    
+    // Appends the getShapeInfo() text to out (e.g. a reused StringBuilder, CharBuffer or Writer)
+    // without building intermediate Strings
+    public <A extends Appendable> A appendShapeInfo(A out) throws IOException {
+        out.append("Shape color: ").append(color).append(", Area: ");
+        NumberFormatter.append(out, calculateArea());
+        out.append(", Perimeter: ");
+        return NumberFormatter.append(out, calculatePerimeter());
+    }
+    
+    public StringBuilder appendShapeInfo(StringBuilder out) {
+        try {
+            appendShapeInfo((Appendable) out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringBuilder never throws
+        }
+        return out;
     }
 }
 
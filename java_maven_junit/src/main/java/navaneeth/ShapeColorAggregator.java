@@ -0,0 +1,369 @@
+package navaneeth;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * ShapeColorAggregator class - per-color area and perimeter statistics over Shape collections
+ * - Colors are dictionary-encoded (StringDictionary) and statistics kept in primitive tables
+ *   indexed by color code: count, min and max in long[]/double[], sums in ExactSum
+ * - aggregate() splits a list over a fork-join pool; every leaf fills its own table and the
+ *   tables are merged on the way back up, so workers never share a counter
+ * - STREAMING: add()/addAll() fold shapes into running statistics as they arrive; addAll()
+ *   aggregates the batch in parallel first and merges it in one step
+ * - Flyweights from a ShapeFactory sharing this dictionary are grouped by their color code
+ *   without a hash lookup
+ * - Sums are built in doubles over at most LEAF_SHAPES shapes and those partial sums are
+ *   added exactly (see ExactSum): the leaves depend only on the list size, so aggregate()
+ *   does not depend on the pool size
+ *
+ * Shapes with a null color are grouped under the null key. A total may differ from the exact
+ * sum of its terms by about LEAF_SHAPES * 2^-53 * sum|x| at most, so feeding the same shapes in
+ * different batches can change the last bits of a sum.
+ */
+public class ShapeColorAggregator {
+    // Shapes per fork-join leaf - large enough that the per-leaf tables are noise
+    static final int LEAF_SHAPES = 1 << 13;
+    
+    private final StringDictionary colors;
+    private final ForkJoinPool pool;
+    private final Table running = new Table(); // Streaming statistics, guarded by this
+    
+    // Statistics of one color
+    public static final class ColorStats {
+        private final String color;
+        private final long count;
+        private final double totalArea;
+        private final double totalPerimeter;
+        private final double minArea;
+        private final double maxArea;
+        private final double minPerimeter;
+        private final double maxPerimeter;
+        
+        ColorStats(String color, long count, double totalArea, double totalPerimeter,
+                   double minArea, double maxArea, double minPerimeter, double maxPerimeter) {
+            this.color = color;
+            this.count = count;
+            this.totalArea = totalArea;
+            this.totalPerimeter = totalPerimeter;
+            this.minArea = minArea;
+            this.maxArea = maxArea;
+            this.minPerimeter = minPerimeter;
+            this.maxPerimeter = maxPerimeter;
+        }
+        
+        public String getColor() {
+            return color;
+        }
+        
+        public long getCount() {
+            return count;
+        }
+        
+        public double getTotalArea() {
+            return totalArea;
+        }
+        
+        public double getTotalPerimeter() {
+            return totalPerimeter;
+        }
+        
+        public double getAverageArea() {
+            return totalArea / count;
+        }
+        
+        public double getAveragePerimeter() {
+            return totalPerimeter / count;
+        }
+        
+        public double getMinArea() {
+            return minArea;
+        }
+        
+        public double getMaxArea() {
+            return maxArea;
+        }
+        
+        public double getMinPerimeter() {
+            return minPerimeter;
+        }
+        
+        public double getMaxPerimeter() {
+            return maxPerimeter;
+        }
+    }
+    
+    public ShapeColorAggregator() {
+        this(new StringDictionary(), ForkJoinPool.commonPool());
+    }
+    
+    // Share the dictionary of a ShapeFactory so its flyweights skip the color lookup
+    public ShapeColorAggregator(StringDictionary colors, ForkJoinPool pool) {
+        this.colors = colors;
+        this.pool = pool;
+    }
+    
+    // One parallel pass over the list; the streaming statistics are not touched
+    public Map<String, ColorStats> aggregate(List<? extends Shape> shapes) {
+        return results(compute(shapes));
+    }
+    
+    // Streaming: folds one shape into the running statistics
+    public void add(Shape shape) {
+        int slot = slot(shape.getColor(), ShapeFactory.sharedColorId(shape));
+        double area = shape.calculateArea();
+        double perimeter = shape.calculatePerimeter();
+        synchronized (this) {
+            running.add(slot, area, perimeter);
+        }
+    }
+    
+    // Streaming: aggregates the batch in parallel, then merges it into the running statistics
+    public void addAll(List<? extends Shape> shapes) {
+        Table batch = compute(shapes);
+        synchronized (this) {
+            running.merge(batch);
+        }
+    }
+    
+    public synchronized ColorStats getStats(String color) {
+        int slot = color == null ? 0 : colors.lookup(color) + 1;
+        return slot > 0 || color == null ? running.stats(slot, color) : null;
+    }
+    
+    // Snapshot of the running statistics, by color code (first-seen order), the null color last
+    public synchronized Map<String, ColorStats> getResults() {
+        return results(running);
+    }
+    
+    public synchronized long getShapeCount() {
+        long total = 0;
+        for (int slot = 0; slot < running.size; slot++) {
+            total += running.counts[slot];
+        }
+        return total;
+    }
+    
+    public synchronized void reset() {
+        running.clear();
+    }
+    
+    public StringDictionary getColors() {
+        return colors;
+    }
+    
+    private Table compute(List<? extends Shape> shapes) {
+        int size = shapes.size();
+        return size <= LEAF_SHAPES ? new AggregateTask(shapes, 0, size).compute()
+            : pool.invoke(new AggregateTask(shapes, 0, size));
+    }
+    
+    private Map<String, ColorStats> results(Table table) {
+        Map<String, ColorStats> results = new LinkedHashMap<>();
+        for (int slot = 1; slot <= table.size; slot++) {
+            int index = slot % table.size; // The null color last
+            if (table.counts[index] > 0) {
+                String color = index == 0 ? null : colors.decode(index - 1);
+                results.put(color, table.stats(index, color));
+            }
+        }
+        return Collections.unmodifiableMap(results);
+    }
+    
+    // Table slot of a color: 0 for null, else dictionary code + 1. A flyweight's code is trusted
+    // only if it decodes to the very same String, i.e. it came from this dictionary
+    private int slot(String color, int colorId) {
+        if (color == null) {
+            return 0;
+        }
+        if (colorId >= 0 && colorId < colors.size() && colors.decode(colorId) == color) {
+            return colorId + 1;
+        }
+        return colors.encode(color) + 1;
+    }
+    
+    // Per-color accumulators, indexed by slot. Sums build up in plain doubles over at most
+    // LEAF_SHAPES shapes and are then moved into exact sums
+    private static final class Table {
+        long[] counts = new long[0];
+        double[] minAreas = new double[0];
+        double[] maxAreas = new double[0];
+        double[] minPerimeters = new double[0];
+        double[] maxPerimeters = new double[0];
+        double[] partialAreas = new double[0];
+        double[] partialPerimeters = new double[0];
+        ExactSum[] areas = new ExactSum[0];
+        ExactSum[] perimeters = new ExactSum[0];
+        int size;
+        int pending; // Shapes in the partial sums
+        
+        void add(int slot, double area, double perimeter) {
+            if (slot >= size) {
+                grow(slot + 1);
+            }
+            if (counts[slot]++ == 0) {
+                minAreas[slot] = area;
+                maxAreas[slot] = area;
+                minPerimeters[slot] = perimeter;
+                maxPerimeters[slot] = perimeter;
+            } else {
+                minAreas[slot] = Math.min(minAreas[slot], area);
+                maxAreas[slot] = Math.max(maxAreas[slot], area);
+                minPerimeters[slot] = Math.min(minPerimeters[slot], perimeter);
+                maxPerimeters[slot] = Math.max(maxPerimeters[slot], perimeter);
+            }
+            partialAreas[slot] += area;
+            partialPerimeters[slot] += perimeter;
+            if (++pending == LEAF_SHAPES) {
+                flush();
+            }
+        }
+        
+        // Moves the partial sums into the exact sums
+        void flush() {
+            for (int slot = 0; slot < size && pending > 0; slot++) {
+                if (partialAreas[slot] != 0 || partialPerimeters[slot] != 0) {
+                    exact(slot);
+                    areas[slot].add(partialAreas[slot]);
+                    perimeters[slot].add(partialPerimeters[slot]);
+                    partialAreas[slot] = 0;
+                    partialPerimeters[slot] = 0;
+                }
+            }
+            pending = 0;
+        }
+        
+        Table merge(Table other) {
+            other.flush();
+            if (other.size > size) {
+                grow(other.size);
+            }
+            for (int slot = 0; slot < other.size; slot++) {
+                long count = other.counts[slot];
+                if (count == 0) {
+                    continue;
+                }
+                if (counts[slot] == 0) {
+                    minAreas[slot] = other.minAreas[slot];
+                    maxAreas[slot] = other.maxAreas[slot];
+                    minPerimeters[slot] = other.minPerimeters[slot];
+                    maxPerimeters[slot] = other.maxPerimeters[slot];
+                } else {
+                    minAreas[slot] = Math.min(minAreas[slot], other.minAreas[slot]);
+                    maxAreas[slot] = Math.max(maxAreas[slot], other.maxAreas[slot]);
+                    minPerimeters[slot] = Math.min(minPerimeters[slot], other.minPerimeters[slot]);
+                    maxPerimeters[slot] = Math.max(maxPerimeters[slot], other.maxPerimeters[slot]);
+                }
+                counts[slot] += count;
+                if (other.areas[slot] != null) {
+                    exact(slot);
+                    areas[slot].add(other.areas[slot]);
+                    perimeters[slot].add(other.perimeters[slot]);
+                }
+            }
+            return this;
+        }
+        
+        ColorStats stats(int slot, String color) {
+            if (slot >= size || counts[slot] == 0) {
+                return null;
+            }
+            flush();
+            exact(slot);
+            return new ColorStats(color, counts[slot], areas[slot].doubleValue(), perimeters[slot].doubleValue(),
+                minAreas[slot], maxAreas[slot], minPerimeters[slot], maxPerimeters[slot]);
+        }
+        
+        void clear() {
+            Arrays.fill(counts, 0);
+            Arrays.fill(partialAreas, 0);
+            Arrays.fill(partialPerimeters, 0);
+            Arrays.fill(areas, null);
+            Arrays.fill(perimeters, null);
+            pending = 0;
+        }
+        
+        private void exact(int slot) {
+            if (areas[slot] == null) {
+                areas[slot] = new ExactSum();
+                perimeters[slot] = new ExactSum();
+            }
+        }
+        
+        private void grow(int minSize) {
+            int capacity = Math.max(minSize, size * 2);
+            counts = Arrays.copyOf(counts, capacity);
+            minAreas = Arrays.copyOf(minAreas, capacity);
+            maxAreas = Arrays.copyOf(maxAreas, capacity);
+            minPerimeters = Arrays.copyOf(minPerimeters, capacity);
+            maxPerimeters = Arrays.copyOf(maxPerimeters, capacity);
+            partialAreas = Arrays.copyOf(partialAreas, capacity);
+            partialPerimeters = Arrays.copyOf(partialPerimeters, capacity);
+            areas = Arrays.copyOf(areas, capacity);
+            perimeters = Arrays.copyOf(perimeters, capacity);
+            size = capacity;
+        }
+    }
+    
+    private final class AggregateTask extends RecursiveTask<Table> {
+        private final List<? extends Shape> shapes;
+        private final int from;
+        private final int to;
+        
+        AggregateTask(List<? extends Shape> shapes, int from, int to) {
+            this.shapes = shapes;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected Table compute() {
+            if (to - from <= LEAF_SHAPES) {
+                return aggregate(from, to);
+            }
+            int middle = (from + to) >>> 1;
+            AggregateTask right = new AggregateTask(shapes, middle, to);
+            right.fork();
+            Table left = new AggregateTask(shapes, from, middle).compute();
+            return left.merge(right.join());
+        }
+        
+        // The hot loop: one table per leaf. Flyweight color codes already verified against the
+        // dictionary are remembered by the leaf, and a repeated plain color reuses the last slot
+        private Table aggregate(int from, int to) {
+            Table table = new Table();
+            String[] verified = new String[16]; // By code: the String that code was verified for
+            String lastColor = null;
+            int lastSlot = -1;
+            for (int i = from; i < to; i++) {
+                Shape shape = shapes.get(i);
+                String color = shape.getColor();
+                int code = ShapeFactory.sharedColorId(shape);
+                int slot;
+                if (code >= 0 && code < verified.length && verified[code] == color && color != null) {
+                    slot = code + 1;
+                } else if (color == lastColor && lastSlot >= 0) {
+                    slot = lastSlot;
+                } else {
+                    slot = slot(color, code);
+                    if (slot == code + 1 && code >= 0) {
+                        if (code >= verified.length) {
+                            verified = Arrays.copyOf(verified, Math.max(code + 1, verified.length * 2));
+                        }
+                        verified[code] = color;
+                    }
+                    lastColor = color;
+                    lastSlot = slot;
+                }
+                table.add(slot, shape.calculateArea(), shape.calculatePerimeter());
+            }
+            table.flush();
+            return table;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package navaneeth;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * ShapeColumns class - Circles and Rectangles stored as typed primitive columns
+ * - Circles: one radius column; Rectangles: a length and a width column
+ * - Areas, perimeters and totals run as GeometryKernel loops over the columns instead of one
+ *   abstract calculateArea()/calculatePerimeter() dispatch per heap object
+ * - Per-shape results are bit-identical to the objects; totals follow GeometryKernel's bound
+ *
+ * Circles and rectangles are numbered separately, in the order they were added.
+ * Not thread-safe while it is being filled.
+ */
+public class ShapeColumns {
+    private double[] radii = new double[16];
+    private int circles;
+    private double[] lengths = new double[16];
+    private double[] widths = new double[16];
+    private int rectangles;
+    
+    public static ShapeColumns of(Collection<? extends Shape> shapes) {
+        ShapeColumns columns = new ShapeColumns();
+        for (Shape shape : shapes) {
+            columns.add(shape);
+        }
+        return columns;
+    }
+    
+    // Appends a Circle or Rectangle; other subclasses have their own geometry
+    public void add(Shape shape) {
+        Class<?> type = ShapeFactory.shapeClass(shape);
+        if (type == Circle.class) {
+            addCircle(((Circle) shape).getRadius());
+        } else if (type == Rectangle.class) {
+            Rectangle rectangle = (Rectangle) shape;
+            addRectangle(rectangle.getLength(), rectangle.getWidth());
+        } else {
+            throw new IllegalArgumentException("Unsupported shape class: " + shape.getClass().getName());
+        }
+    }
+    
+    public int addCircle(double radius) {
+        if (circles == radii.length) {
+            radii = Arrays.copyOf(radii, circles * 2);
+        }
+        radii[circles] = radius;
+        return circles++;
+    }
+    
+    public int addRectangle(double length, double width) {
+        if (rectangles == lengths.length) {
+            lengths = Arrays.copyOf(lengths, rectangles * 2);
+            widths = Arrays.copyOf(widths, rectangles * 2);
+        }
+        lengths[rectangles] = length;
+        widths[rectangles] = width;
+        return rectangles++;
+    }
+    
+    public int getCircleCount() {
+        return circles;
+    }
+    
+    public int getRectangleCount() {
+        return rectangles;
+    }
+    
+    public double getRadius(int circle) {
+        return radii[checkIndex(circle, circles)];
+    }
+    
+    public double getLength(int rectangle) {
+        return lengths[checkIndex(rectangle, rectangles)];
+    }
+    
+    public double getWidth(int rectangle) {
+        return widths[checkIndex(rectangle, rectangles)];
+    }
+    
+    // out[i] = area of circle i; out needs getCircleCount() slots
+    public void circleAreas(double[] out) {
+        GeometryKernel.circleAreas(radii, out, 0, circles);
+    }
+    
+    public void circlePerimeters(double[] out) {
+        GeometryKernel.circlePerimeters(radii, out, 0, circles);
+    }
+    
+    // out[i] = area of rectangle i; out needs getRectangleCount() slots
+    public void rectangleAreas(double[] out) {
+        GeometryKernel.rectangleAreas(lengths, widths, out, 0, rectangles);
+    }
+    
+    public void rectanglePerimeters(double[] out) {
+        GeometryKernel.rectanglePerimeters(lengths, widths, out, 0, rectangles);
+    }
+    
+    public double totalArea() {
+        return GeometryKernel.sumCircleAreas(radii, 0, circles)
+            + GeometryKernel.sumRectangleAreas(lengths, widths, 0, rectangles);
+    }
+    
+    public double totalPerimeter() {
+        return GeometryKernel.sumCirclePerimeters(radii, 0, circles)
+            + GeometryKernel.sumRectanglePerimeters(lengths, widths, 0, rectangles);
+    }
+    
+    private static int checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of range for " + size + " shapes");
+        }
+        return index;
+    }
+}
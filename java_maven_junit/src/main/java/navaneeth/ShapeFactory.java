@@ -0,0 +1,193 @@
+package navaneeth;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ShapeFactory class - shares Circle and Rectangle instances to cut scene memory
+ * - Colors are interned into a StringDictionary: every shape of a color references one String,
+ *   and flyweights carry the small color code (used for per-color aggregation)
+ * - FLYWEIGHTS: one immutable instance per (type, color, dimensions) tuple, so a scene of millions
+ *   of shapes with a few dozen colors and repeated sizes holds only the distinct ones
+ * - Flyweights reject setColor(); recolor() is the copy-on-write replacement and returns the
+ *   flyweight of the new color, leaving every other holder of the old instance untouched
+ * - Flyweights are private subclasses of Circle and Rectangle, so only they carry the color code
+ *   and the immutability; plain shapes stay as small as before
+ * - Null colors are rejected: a flyweight's color is a dictionary entry
+ * - Thread-safe; concurrent requests for the same tuple get the same instance
+ *
+ * The cache grows with the number of distinct tuples and is never evicted.
+ */
+public class ShapeFactory {
+    private static final byte CIRCLE = 0;
+    private static final byte RECTANGLE = 1;
+    
+    private final StringDictionary colors;
+    private final ConcurrentHashMap<Key, Shape> flyweights = new ConcurrentHashMap<>();
+    
+    // Identity of a flyweight; dimensions compared by bit pattern
+    private static final class Key {
+        final byte type;
+        final int color;
+        final long first;
+        final long second;
+        
+        Key(byte type, int color, double first, double second) {
+            this.type = type;
+            this.color = color;
+            this.first = Double.doubleToLongBits(first);
+            this.second = Double.doubleToLongBits(second);
+        }
+        
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return type == key.type && color == key.color && first == key.first && second == key.second;
+        }
+        
+        @Override
+        public int hashCode() {
+            long h = (first * 31 + second) * 31 + color * 2L + type;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+    
+    // Marks a shared instance; the code is from the creating factory's dictionary
+    private interface Flyweight {
+        int colorId();
+    }
+    
+    private static final class SharedCircle extends Circle implements Flyweight {
+        private final int colorId;
+        
+        SharedCircle(String color, double radius, int colorId) {
+            super(color, radius);
+            this.colorId = colorId;
+        }
+        
+        @Override
+        public int colorId() {
+            return colorId;
+        }
+        
+        @Override
+        public void setColor(String color) {
+            throw new UnsupportedOperationException("Shape is a shared flyweight; recolor it with ShapeFactory.recolor");
+        }
+        
+        @Override
+        public boolean isShared() {
+            return true;
+        }
+    }
+    
+    private static final class SharedRectangle extends Rectangle implements Flyweight {
+        private final int colorId;
+        
+        SharedRectangle(String color, double length, double width, int colorId) {
+            super(color, length, width);
+            this.colorId = colorId;
+        }
+        
+        @Override
+        public int colorId() {
+            return colorId;
+        }
+        
+        @Override
+        public void setColor(String color) {
+            throw new UnsupportedOperationException("Shape is a shared flyweight; recolor it with ShapeFactory.recolor");
+        }
+        
+        @Override
+        public boolean isShared() {
+            return true;
+        }
+    }
+    
+    public ShapeFactory() {
+        this(new StringDictionary());
+    }
+    
+    // Shares color codes with other structures using the same dictionary
+    public ShapeFactory(StringDictionary colors) {
+        this.colors = colors;
+    }
+    
+    public Circle circle(String color, double radius) {
+        int code = encode(color);
+        return (Circle) flyweights.computeIfAbsent(new Key(CIRCLE, code, radius, 0),
+            key -> new SharedCircle(colors.decode(code), radius, code));
+    }
+    
+    public Rectangle rectangle(String color, double length, double width) {
+        int code = encode(color);
+        return (Rectangle) flyweights.computeIfAbsent(new Key(RECTANGLE, code, length, width),
+            key -> new SharedRectangle(colors.decode(code), length, width, code));
+    }
+    
+    // The shared equivalent of a Circle or Rectangle (itself if it already is one of ours)
+    public <S extends Shape> S intern(S shape) {
+        return recolor(shape, shape.getColor());
+    }
+    
+    // Copy-on-write setColor: the flyweight with the same type and dimensions in the new color
+    public <S extends Shape> S recolor(S shape, String color) {
+        Shape result;
+        Class<?> type = shapeClass(shape);
+        if (type == Circle.class) {
+            result = circle(color, ((Circle) shape).getRadius());
+        } else if (type == Rectangle.class) {
+            Rectangle rectangle = (Rectangle) shape;
+            result = rectangle(color, rectangle.getLength(), rectangle.getWidth());
+        } else {
+            throw new IllegalArgumentException("Unsupported shape class: " + shape.getClass().getName());
+        }
+        @SuppressWarnings("unchecked")
+        S typed = (S) result;
+        return typed;
+    }
+    
+    public StringDictionary getColors() {
+        return colors;
+    }
+    
+    // Color code of a flyweight from this factory's dictionary, or StringDictionary.UNKNOWN
+    public int colorIdOf(Shape shape) {
+        if (shape instanceof Flyweight) {
+            return ((Flyweight) shape).colorId();
+        }
+        String color = shape.getColor();
+        return color == null ? StringDictionary.UNKNOWN : colors.lookup(color);
+    }
+    
+    // The color code a flyweight carries (from whichever factory made it), else StringDictionary.UNKNOWN
+    static int sharedColorId(Shape shape) {
+        return shape instanceof Flyweight ? ((Flyweight) shape).colorId() : StringDictionary.UNKNOWN;
+    }
+    
+    // The exact class of a shape, reporting flyweights as the Circle or Rectangle they stand for
+    static Class<?> shapeClass(Shape shape) {
+        if (shape instanceof SharedCircle) {
+            return Circle.class;
+        }
+        if (shape instanceof SharedRectangle) {
+            return Rectangle.class;
+        }
+        return shape.getClass();
+    }
+    
+    // Distinct shapes held by the factory
+    public int getFlyweightCount() {
+        return flyweights.size();
+    }
+    
+    private int encode(String color) {
+        if (color == null) {
+            throw new IllegalArgumentException("Shared shape color must not be null");
+        }
+        return colors.encode(color);
+    }
+}
@@ -0,0 +1,311 @@
+package navaneeth;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * ShardedLedger class - one account book spread over several LedgerShards
+ * - CONSISTENT HASHING: every shard owns VIRTUAL_NODES points on a 64-bit ring and an account
+ *   belongs to the first point at or after the hash of its number, so adding or removing a shard
+ *   only moves the accounts in the ring ranges it gains or loses (about 1/n of them)
+ * - Shards are reached through a pluggable LedgerTransport (in-process or local sockets)
+ * - Cross-shard transfers debit the source shard, then credit the destination; if the credit
+ *   is rejected or fails the debit is compensated by crediting the source back, and if that
+ *   compensation fails too, IllegalStateException reports the amount as unaccounted for
+ *
+ * Operations run under a shared read lock; adding or removing a shard takes the write lock while
+ * the affected accounts move, so no operation can reach an account halfway through a move. An
+ * account is dropped from its old shard only once its new shard holds it, and a rebalance that
+ * fails part way moves the accounts it already moved back, leaving shards and ring as they were.
+ * Like TransferService, a cross-shard transfer is briefly in flight between its two legs.
+ */
+public class ShardedLedger implements Closeable {
+    static final int VIRTUAL_NODES = 128;
+    
+    private final LedgerTransport transport;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, LedgerTransport.Channel> shards = new LinkedHashMap<>(); // Guarded by lock
+    private volatile TreeMap<Long, String> ring = new TreeMap<>();
+    
+    public ShardedLedger(LedgerTransport transport) {
+        this.transport = transport;
+    }
+    
+    // Joins a shard to the ring and moves to it the accounts it now owns; the shard is registered
+    // only once every move succeeded
+    public void addShard(LedgerShard shard) throws IOException {
+        lock.writeLock().lock();
+        try {
+            if (shards.containsKey(shard.getName())) {
+                throw new IllegalArgumentException("Shard " + shard.getName() + " is already part of the ledger");
+            }
+            LedgerTransport.Channel channel = transport.connect(shard);
+            TreeMap<Long, String> next = new TreeMap<>(ring);
+            addVirtualNodes(next, shard.getName());
+            List<Move> moved = new ArrayList<>();
+            try {
+                for (LedgerTransport.Channel from : shards.values()) {
+                    for (String number : from.call(LedgerRequest.list()).getAccountNumbers()) {
+                        if (owner(next, number).equals(shard.getName()) && move(number, from, channel)) {
+                            moved.add(new Move(number, from, channel));
+                        }
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                undo(moved, e);
+                try {
+                    channel.close();
+                } catch (IOException closeFailure) {
+                    e.addSuppressed(closeFailure);
+                }
+                throw e;
+            }
+            shards.put(shard.getName(), channel);
+            ring = next;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    // Takes a shard out of the ring, moving its accounts to the remaining shards
+    public void removeShard(String name) throws IOException {
+        lock.writeLock().lock();
+        try {
+            LedgerTransport.Channel channel = shards.get(name);
+            if (channel == null) {
+                throw new IllegalArgumentException("Unknown shard " + name);
+            }
+            List<String> numbers = channel.call(LedgerRequest.list()).getAccountNumbers();
+            if (shards.size() == 1 && !numbers.isEmpty()) {
+                throw new IllegalStateException("Cannot remove the last shard while it holds accounts");
+            }
+            TreeMap<Long, String> next = new TreeMap<>(ring);
+            next.values().removeIf(name::equals);
+            List<Move> moved = new ArrayList<>();
+            try {
+                for (String number : numbers) {
+                    LedgerTransport.Channel to = shards.get(owner(next, number));
+                    if (move(number, channel, to)) {
+                        moved.add(new Move(number, channel, to));
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                undo(moved, e);
+                throw e;
+            }
+            ring = next;
+            shards.remove(name);
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public TransactionStatus openAccount(String accountNumber, String holderName, AccountType type,
+                                         long balanceCents, long overdraftCents) throws IOException {
+        return execute(LedgerRequest.open(accountNumber, holderName, type, balanceCents, overdraftCents));
+    }
+    
+    public TransactionStatus deposit(String accountNumber, long amountCents) throws IOException {
+        return execute(LedgerRequest.deposit(accountNumber, amountCents));
+    }
+    
+    public TransactionStatus withdraw(String accountNumber, long amountCents) throws IOException {
+        return execute(LedgerRequest.withdraw(accountNumber, amountCents));
+    }
+    
+    public TransactionStatus transfer(String fromAccountNumber, String toAccountNumber, long amountCents) throws IOException {
+        lock.readLock().lock();
+        try {
+            if (amountCents <= 0 || fromAccountNumber.equals(toAccountNumber)) {
+                return TransactionStatus.INVALID_AMOUNT;
+            }
+            LedgerTransport.Channel from = channelFor(fromAccountNumber);
+            LedgerTransport.Channel to = channelFor(toAccountNumber);
+            if (from == to) {
+                return from.call(LedgerRequest.transfer(fromAccountNumber, toAccountNumber, amountCents)).getStatus();
+            }
+            TransactionStatus debit = from.call(LedgerRequest.withdraw(fromAccountNumber, amountCents)).getStatus();
+            if (debit != TransactionStatus.APPLIED) {
+                return debit;
+            }
+            TransactionStatus credit;
+            try {
+                credit = to.call(LedgerRequest.deposit(toAccountNumber, amountCents)).getStatus();
+            } catch (IOException | RuntimeException e) {
+                compensate(from, fromAccountNumber, amountCents, e);
+                throw e;
+            }
+            if (credit != TransactionStatus.APPLIED) {
+                compensate(from, fromAccountNumber, amountCents, null);
+            }
+            return credit;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Exact balance of one account
+    public long getBalanceCents(String accountNumber) throws IOException {
+        lock.readLock().lock();
+        try {
+            LedgerResponse response = channelFor(accountNumber).call(LedgerRequest.balance(accountNumber));
+            if (response.getStatus() != TransactionStatus.APPLIED) {
+                throw new IllegalArgumentException("Unknown account " + accountNumber);
+            }
+            return response.getBalanceCents();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Name of the shard that owns an account number
+    public String shardOf(String accountNumber) {
+        return owner(ring, accountNumber);
+    }
+    
+    public int getShardCount() {
+        lock.readLock().lock();
+        try {
+            return shards.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            for (LedgerTransport.Channel channel : shards.values()) {
+                channel.close();
+            }
+            shards.clear();
+            ring = new TreeMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private TransactionStatus execute(LedgerRequest request) throws IOException {
+        lock.readLock().lock();
+        try {
+            return channelFor(request.getAccountNumber()).call(request).getStatus();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // Caller holds the lock
+    private LedgerTransport.Channel channelFor(String accountNumber) {
+        return shards.get(owner(ring, accountNumber));
+    }
+    
+    // Credits a debit back to its source; if that fails the money is in neither account
+    private static void compensate(LedgerTransport.Channel from, String accountNumber, long amountCents,
+                                   Exception creditFailure) {
+        String lost = amountCents + " cents debited from " + accountNumber + " could not be credited back";
+        IllegalStateException failure;
+        try {
+            TransactionStatus status = from.call(LedgerRequest.deposit(accountNumber, amountCents)).getStatus();
+            if (status == TransactionStatus.APPLIED) {
+                return;
+            }
+            failure = new IllegalStateException(lost + ": " + status);
+        } catch (IOException | RuntimeException e) {
+            failure = new IllegalStateException(lost, e);
+        }
+        if (creditFailure != null) {
+            failure.addSuppressed(creditFailure);
+        }
+        throw failure;
+    }
+    
+    // Copies an account record to its new shard and drops it from the old one only once the copy
+    // is in place, so a failed move leaves the account on the old shard. False if it was gone
+    private static boolean move(String accountNumber, LedgerTransport.Channel from, LedgerTransport.Channel to) throws IOException {
+        LedgerResponse record = from.call(LedgerRequest.read(accountNumber));
+        if (record.getStatus() != TransactionStatus.APPLIED) {
+            return false; // Gone meanwhile
+        }
+        LedgerResponse opened = to.call(LedgerRequest.open(accountNumber, record.getHolderName(), record.getAccountType(),
+                record.getBalanceCents(), record.getOverdraftCents(), record.getLastInterestRunId()));
+        if (opened.getStatus() != TransactionStatus.APPLIED) {
+            throw new IllegalStateException("Account " + accountNumber + " already exists on the target shard");
+        }
+        try {
+            from.call(LedgerRequest.export(accountNumber));
+        } catch (IOException | RuntimeException e) {
+            // Drop the copy only if the old shard still holds the account: never on neither shard
+            try {
+                if (from.call(LedgerRequest.read(accountNumber)).getStatus() == TransactionStatus.APPLIED) {
+                    to.call(LedgerRequest.export(accountNumber));
+                }
+            } catch (IOException | RuntimeException cleanup) {
+                e.addSuppressed(cleanup);
+            }
+            throw e;
+        }
+        return true;
+    }
+    
+    // Moves accounts back to where they came from, newest first; failures are added to the cause
+    private static void undo(List<Move> moved, Exception cause) {
+        for (int i = moved.size() - 1; i >= 0; i--) {
+            Move move = moved.get(i);
+            try {
+                move(move.accountNumber, move.to, move.from);
+            } catch (IOException | RuntimeException e) {
+                cause.addSuppressed(e);
+            }
+        }
+    }
+    
+    private static void addVirtualNodes(TreeMap<Long, String> ring, String shardName) {
+        for (int i = 0; i < VIRTUAL_NODES; i++) {
+            ring.put(hash(shardName + '#' + i), shardName);
+        }
+    }
+    
+    private static String owner(TreeMap<Long, String> ring, String accountNumber) {
+        if (ring.isEmpty()) {
+            throw new IllegalStateException("The ledger has no shards");
+        }
+        Map.Entry<Long, String> entry = ring.ceilingEntry(hash(accountNumber));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue(); // Wrap around the ring
+    }
+    
+    // An account a rebalance has moved, so a failed rebalance can move it back
+    private static final class Move {
+        final String accountNumber;
+        final LedgerTransport.Channel from;
+        final LedgerTransport.Channel to;
+        
+        Move(String accountNumber, LedgerTransport.Channel from, LedgerTransport.Channel to) {
+            this.accountNumber = accountNumber;
+            this.from = from;
+            this.to = to;
+        }
+    }
+    
+    // 64-bit FNV-1a over the characters, finished with a MurmurHash3 mixer for an even spread
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,265 @@
+package navaneeth;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * StatementExporter class - streams account statements to a file without building strings
+ * - Each record is encoded straight into one reusable direct ByteBuffer (UTF-8 by hand, balances
+ *   digit by digit), which is written through a FileChannel whenever it fills up
+ * - Memory use is the buffer, whatever the number of accounts; no per-record allocation
+ * - Two formats: CSV for people and spreadsheets, BINARY for compact machine-readable files
+ *
+ * CSV: header "account_number,holder_name,type,balance", one line per account, balance as exact
+ * decimal units ("-12.05"); fields holding , " CR or LF are quoted with "" escaping.
+ * BINARY (little-endian): [int MAGIC][byte VERSION], then per account
+ *   [byte AccountType ordinal][long balanceCents][varint length][number UTF-8][varint length][name UTF-8]
+ */
+public class StatementExporter implements Closeable {
+    
+    public enum Format {
+        CSV,
+        BINARY
+    }
+    
+    public static final int MAGIC = 0x544D5453; // "STMT" in little-endian byte order
+    public static final byte VERSION = 1;
+    
+    static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+    static final int MIN_BUFFER_SIZE = 64;  // Largest indivisible piece (header, balance) fits easily
+    
+    private static final byte[] CSV_HEADER = "account_number,holder_name,type,balance\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[][] TYPE_NAMES = new byte[AccountType.values().length][];
+    
+    static {
+        for (AccountType type : AccountType.values()) {
+            TYPE_NAMES[type.ordinal()] = type.name().getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+    
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final Format format;
+    private long records;
+    private long bytesWritten;
+    
+    private StatementExporter(FileChannel channel, ByteBuffer buffer, Format format) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.format = format;
+    }
+    
+    // Creates (or replaces) the statement file, using a fresh direct buffer
+    public static StatementExporter open(Path path, Format format) throws IOException {
+        return open(path, format, ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE));
+    }
+    
+    // Same, but encodes through a caller-owned buffer so repeated exports allocate nothing
+    public static StatementExporter open(Path path, Format format, ByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException("Buffer must hold at least " + MIN_BUFFER_SIZE + " bytes");
+        }
+        buffer.clear().order(ByteOrder.LITTLE_ENDIAN);
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        StatementExporter exporter = new StatementExporter(channel, buffer, format);
+        if (format == Format.CSV) {
+            buffer.put(CSV_HEADER);
+        } else {
+            buffer.putInt(MAGIC).put(VERSION);
+        }
+        return exporter;
+    }
+    
+    // Appends one account's statement record
+    public void write(BankAccount account) throws IOException {
+        if (format == Format.CSV) {
+            writeCsv(account);
+        } else {
+            writeBinary(account);
+        }
+        records++;
+    }
+    
+    public void writeAll(Iterable<? extends BankAccount> accounts) throws IOException {
+        for (BankAccount account : accounts) {
+            write(account);
+        }
+    }
+    
+    public long getRecordCount() {
+        return records;
+    }
+    
+    // Bytes handed to the channel so far (buffered bytes are counted once flushed)
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+    
+    // Writes out everything buffered so far
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            bytesWritten += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+    
+    private void writeCsv(BankAccount account) throws IOException {
+        putCsvField(account.getAccountNumber());
+        put((byte) ',');
+        putCsvField(account.getAccountHolderName());
+        put((byte) ',');
+        byte[] type = TYPE_NAMES[AccountType.of(account).ordinal()];
+        ensure(type.length);
+        buffer.put(type);
+        put((byte) ',');
+        putDecimal(account.getBalanceCents());
+        put((byte) '\n');
+    }
+    
+    private void writeBinary(BankAccount account) throws IOException {
+        String number = account.getAccountNumber();
+        String name = account.getAccountHolderName();
+        ensure(1 + Long.BYTES + 5);
+        buffer.put((byte) AccountType.of(account).ordinal());
+        buffer.putLong(account.getBalanceCents());
+        putVarint(utf8Length(number));
+        putUtf8(number, false);
+        ensure(5);
+        putVarint(utf8Length(name));
+        putUtf8(name, false);
+    }
+    
+    // Makes room for n more bytes, flushing the buffer if needed
+    private void ensure(int n) throws IOException {
+        if (buffer.remaining() < n) {
+            flush();
+        }
+    }
+    
+    private void put(byte b) throws IOException {
+        ensure(1);
+        buffer.put(b);
+    }
+    
+    private void putCsvField(String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (quote) {
+            put((byte) '"');
+        }
+        putUtf8(value, quote);
+        if (quote) {
+            put((byte) '"');
+        }
+    }
+    
+    // Encodes UTF-8 without an intermediate byte[]; lone surrogates become '?' like String.getBytes
+    private void putUtf8(String value, boolean doubleQuotes) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            ensure(4);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+                if (c == '"' && doubleQuotes) {
+                    buffer.put((byte) '"');
+                }
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, value.charAt(++i));
+                    buffer.put((byte) (0xF0 | (cp >> 18)));
+                    buffer.put((byte) (0x80 | ((cp >> 12) & 0x3F)));
+                    buffer.put((byte) (0x80 | ((cp >> 6) & 0x3F)));
+                    buffer.put((byte) (0x80 | (cp & 0x3F)));
+                } else {
+                    buffer.put((byte) '?');
+                }
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+    
+    static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    i++;
+                    length += 4;
+                } else {
+                    length += 1;
+                }
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+    
+    private void putVarint(int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+    
+    // Exact units.cents decimal, e.g. -1205 -> "-12.05", written right to left in place
+    private void putDecimal(long cents) throws IOException {
+        boolean negative = cents < 0;
+        long units = Math.abs(cents / Money.CENTS_PER_UNIT); // Safe even for Long.MIN_VALUE
+        int fraction = (int) Math.abs(cents % Money.CENTS_PER_UNIT);
+        int digits = 1;
+        for (long rest = units / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+        int length = (negative ? 1 : 0) + digits + 3;
+        ensure(length);
+        int start = buffer.position();
+        int end = start + length;
+        buffer.put(end - 1, (byte) ('0' + fraction % 10));
+        buffer.put(end - 2, (byte) ('0' + fraction / 10));
+        buffer.put(end - 3, (byte) '.');
+        int at = end - 4;
+        do {
+            buffer.put(at--, (byte) ('0' + units % 10));
+            units /= 10;
+        } while (units != 0);
+        if (negative) {
+            buffer.put(start, (byte) '-');
+        }
+        buffer.position(end);
+    }
+}
@@ -0,0 +1,58 @@
+package navaneeth;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * StringDictionary class - encodes repeated strings (department names, colors) as small dense ints
+ * - Codes are handed out 0, 1, 2... in first-seen order and never change
+ * - encode/lookup are a hash lookup; decode is an array read
+ * - Thread-safe; readers never lock
+ */
+public class StringDictionary {
+    public static final int UNKNOWN = -1;
+    
+    private final ConcurrentHashMap<String, Integer> codes = new ConcurrentHashMap<>();
+    private volatile String[] values = new String[8];
+    private volatile int size;
+    
+    // Code of the string, assigning the next one if it is new
+    public int encode(String value) {
+        Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+        synchronized (this) {
+            code = codes.get(value);
+            if (code == null) {
+                code = size;
+                String[] current = values;
+                if (code == current.length) {
+                    current = Arrays.copyOf(current, current.length * 2);
+                }
+                current[code] = value;
+                values = current;
+                size = code + 1;
+                codes.put(value, code); // Published last, so decode() of a known code always works
+            }
+            return code;
+        }
+    }
+    
+    // Code of the string, or UNKNOWN if it was never encoded
+    public int lookup(String value) {
+        Integer code = codes.get(value);
+        return code == null ? UNKNOWN : code;
+    }
+    
+    public String decode(int code) {
+        if (code < 0 || code >= size) {
+            throw new IllegalArgumentException("Unknown dictionary code: " + code);
+        }
+        return values[code];
+    }
+    
+    public int size() {
+        return size;
+    }
+}
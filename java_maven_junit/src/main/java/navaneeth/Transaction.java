@@ -0,0 +1,61 @@
+package navaneeth;
+
+/**
+ * Transaction class - an immutable (accountNumber, type, amount) record
+ * - Amount is in cents (see Money)
+ * - Used as input to bulk processing such as BatchTransactionEngine
+ */
+public final class Transaction {
+    private final String accountNumber;
+    private final TransactionType type;
+    private final long amountCents;
+    
+    public Transaction(String accountNumber, TransactionType type, long amountCents) {
+        if (type == null) {
+            throw new IllegalArgumentException("Transaction type is required");
+        }
+        this.accountNumber = accountNumber;
+        this.type = type;
+        this.amountCents = amountCents;
+    }
+    
+    public static Transaction deposit(String accountNumber, long amountCents) {
+        return new Transaction(accountNumber, TransactionType.DEPOSIT, amountCents);
+    }
+    
+    public static Transaction withdrawal(String accountNumber, long amountCents) {
+        return new Transaction(accountNumber, TransactionType.WITHDRAWAL, amountCents);
+    }
+    
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+    
+    public TransactionType getType() {
+        return type;
+    }
+    
+    public long getAmountCents() {
+        return amountCents;
+    }
+    
+    // Applies this transaction to an account and reports the outcome without throwing
+    public TransactionStatus applyTo(BankAccount account) {
+        if (account == null) {
+            return TransactionStatus.UNKNOWN_ACCOUNT;
+        }
+        if (amountCents <= 0) {
+            return TransactionStatus.INVALID_AMOUNT;
+        }
+        if (type == TransactionType.DEPOSIT) {
+            account.depositCents(amountCents);
+            return TransactionStatus.APPLIED;
+        }
+        return account.tryWithdrawCents(amountCents) ? TransactionStatus.APPLIED : TransactionStatus.INSUFFICIENT_FUNDS;
+    }
+    
+    @Override
+    public String toString() {
+        return "Transaction{account=" + accountNumber + ", type=" + type + ", amountCents=" + amountCents + "}";
+    }
+}
@@ -0,0 +1,306 @@
+package navaneeth;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * TransactionIngestor class - reactive (java.util.concurrent.Flow) entry point for transactions
+ * - ingest() subscribes to any number of Transaction publishers
+ * - Transactions are queued per account and applied in batches, at most one batch per account
+ *   at a time (so per-account order is kept) and at most 'parallelism' batches overall
+ * - An account's queue exists only while it has work, and the account is looked up for every
+ *   batch, so accounts added to the map later are found and unknown numbers leave nothing behind
+ * - A run of deposits inside a batch is credited with one balance update
+ * - Every outcome is published downstream as a TransactionResult (subscribe()); a transaction
+ *   whose account throws completes as FAILED, so its demand and pending count are still returned
+ *
+ * BACKPRESSURE: each source may have at most 'window' transactions requested but not yet applied,
+ * and demand is only renewed as they are applied. A slow downstream subscriber blocks the workers
+ * when its buffer fills, which stops new demand, so memory stays bounded however bursty the input.
+ * Results are delivered on threads of the ingestor's own, released by close(); a subscriber must
+ * therefore request more from onNext() (as usual) to receive the results still buffered then.
+ */
+public class TransactionIngestor implements Flow.Publisher<TransactionResult>, AutoCloseable {
+    private static final long PARK_NANOS = 100_000;
+    
+    private final Map<String, ? extends BankAccount> accounts;
+    private final int maxBatch;
+    private final int window;
+    private final ExecutorService workers;
+    private final ExecutorService delivery;
+    private final SubmissionPublisher<TransactionResult> downstream;
+    private final ConcurrentHashMap<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final Queue<Source> sources = new ConcurrentLinkedQueue<>();
+    
+    private final AtomicLong pending = new AtomicLong();   // Received and not yet applied, all sources
+    private final AtomicLong maxPending = new AtomicLong();
+    private final LongAdder applied = new LongAdder();
+    private volatile boolean closed;
+    
+    // One queued transaction and the source it came from
+    private static final class Entry {
+        final Transaction transaction;
+        final Source source;
+        
+        Entry(Transaction transaction, Source source) {
+            this.transaction = transaction;
+            this.source = source;
+        }
+    }
+    
+    public TransactionIngestor(Map<String, ? extends BankAccount> accounts, int parallelism, int maxBatch, int window) {
+        this(accounts, parallelism, maxBatch, window, Flow.defaultBufferSize());
+    }
+    
+    // downstreamBuffer: results buffered per downstream subscriber before workers block
+    public TransactionIngestor(Map<String, ? extends BankAccount> accounts, int parallelism, int maxBatch,
+                               int window, int downstreamBuffer) {
+        if (parallelism < 1 || maxBatch < 1 || window < 1) {
+            throw new IllegalArgumentException("Parallelism, batch size and window must be positive");
+        }
+        this.accounts = accounts;
+        this.maxBatch = maxBatch;
+        this.window = window;
+        AtomicInteger threadIds = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(parallelism, r -> {
+            Thread thread = new Thread(r, "transaction-ingestor-" + threadIds.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Results are delivered on their own threads so a slow subscriber never runs on a worker
+        this.delivery = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "transaction-results");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.downstream = new SubmissionPublisher<>(delivery, downstreamBuffer);
+    }
+    
+    // Subscribes to a source; the future completes once the source completed and all it sent is applied
+    public CompletableFuture<Void> ingest(Flow.Publisher<Transaction> publisher) {
+        if (closed) {
+            throw new IllegalStateException("Ingestor is closed");
+        }
+        Source source = new Source();
+        publisher.subscribe(source);
+        return source.done;
+    }
+    
+    @Override
+    public void subscribe(Flow.Subscriber<? super TransactionResult> subscriber) {
+        downstream.subscribe(subscriber);
+    }
+    
+    // Transactions received but not yet applied, across all sources
+    public long getPendingCount() {
+        return pending.get();
+    }
+    
+    // Highest pending count seen - the queue depth the pipeline actually needed
+    public long getMaxPendingCount() {
+        return maxPending.get();
+    }
+    
+    public long getAppliedCount() {
+        return applied.sum();
+    }
+    
+    // Cancels all sources, applies what was already received, then completes downstream
+    // (waits for downstream subscribers to accept every result)
+    @Override
+    public void close() {
+        closed = true;
+        for (Source source : sources) {
+            source.cancel();
+        }
+        while (pending.get() > 0) {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        workers.shutdown();
+        try {
+            workers.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        downstream.close();
+        delivery.shutdown(); // Delivery already under way finishes on the running threads
+    }
+    
+    // Accounts with queued or running work
+    int getLaneCount() {
+        return lanes.size();
+    }
+    
+    private void enqueue(Transaction transaction, Source source) {
+        long depth = pending.incrementAndGet();
+        if (depth > maxPending.get()) {
+            maxPending.accumulateAndGet(depth, Math::max);
+        }
+        String number = transaction.getAccountNumber();
+        Entry entry = new Entry(transaction, source);
+        // Offered under the map's lock for this key, so an idle lane is never removed with work in it
+        Lane lane = lanes.compute(number == null ? "" : number, (key, existing) -> {
+            Lane target = existing != null ? existing : new Lane(key);
+            target.queue.offer(entry);
+            return target;
+        });
+        if (lane.scheduled.compareAndSet(false, true)) {
+            workers.execute(lane);
+        }
+    }
+    
+    // Per-account queue; 'scheduled' guarantees at most one batch of an account runs at a time
+    private final class Lane implements Runnable {
+        final String accountNumber;
+        final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        
+        Lane(String accountNumber) {
+            this.accountNumber = accountNumber;
+        }
+        
+        @Override
+        public void run() {
+            Entry[] batch = new Entry[maxBatch];
+            int size = 0;
+            Entry entry;
+            while (size < maxBatch && (entry = queue.poll()) != null) {
+                batch[size++] = entry;
+            }
+            apply(accountNumber.isEmpty() ? null : accounts.get(accountNumber), batch, size);
+            
+            // Idle: leave the map; later transactions of this account start a new lane
+            if (queue.isEmpty() && lanes.computeIfPresent(accountNumber,
+                    (key, lane) -> lane.queue.isEmpty() ? null : lane) == null) {
+                return;
+            }
+            scheduled.set(false);
+            // Entries offered after our last poll would otherwise wait for the next arrival
+            if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                workers.execute(this);
+            }
+        }
+        
+        private void apply(BankAccount account, Entry[] batch, int size) {
+            int i = 0;
+            while (i < size) {
+                Transaction first = batch[i].transaction;
+                if (account != null && isDeposit(first)) {
+                    // Coalesce the run of valid deposits into one credit
+                    long sum = 0;
+                    int end = i;
+                    while (end < size && isDeposit(batch[end].transaction)
+                            && sum <= Long.MAX_VALUE - batch[end].transaction.getAmountCents()) {
+                        sum += batch[end].transaction.getAmountCents();
+                        end++;
+                    }
+                    TransactionStatus status = TransactionStatus.APPLIED;
+                    try {
+                        account.depositCents(sum);
+                    } catch (RuntimeException e) {
+                        status = TransactionStatus.FAILED; // The whole run: none of it was credited
+                    }
+                    for (; i < end; i++) {
+                        complete(batch[i], status);
+                    }
+                } else {
+                    TransactionStatus status;
+                    try {
+                        status = first.applyTo(account);
+                    } catch (RuntimeException e) {
+                        status = TransactionStatus.FAILED;
+                    }
+                    complete(batch[i], status);
+                    i++;
+                }
+            }
+        }
+    }
+    
+    private static boolean isDeposit(Transaction transaction) {
+        return transaction.getType() == TransactionType.DEPOSIT && transaction.getAmountCents() > 0;
+    }
+    
+    private void complete(Entry entry, TransactionStatus status) {
+        try {
+            downstream.submit(new TransactionResult(entry.transaction, status)); // Blocks while a subscriber is full
+        } finally {
+            applied.increment();
+            pending.decrementAndGet();
+            entry.source.release();
+        }
+    }
+    
+    // One upstream subscription with its own demand window
+    private final class Source implements Flow.Subscriber<Transaction> {
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        final AtomicLong inFlight = new AtomicLong();   // Received from this source, not yet applied
+        final AtomicInteger credits = new AtomicInteger(); // Applied but not yet re-requested
+        final int refill = Math.max(1, window / 4);       // Renew demand in chunks, not one by one
+        volatile Flow.Subscription subscription;
+        volatile boolean completed;
+        
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            sources.add(this);
+            if (closed) {
+                subscription.cancel();
+                done.complete(null);
+                return;
+            }
+            subscription.request(window);
+        }
+        
+        @Override
+        public void onNext(Transaction transaction) {
+            inFlight.incrementAndGet();
+            enqueue(transaction, this);
+        }
+        
+        @Override
+        public void onError(Throwable error) {
+            sources.remove(this);
+            done.completeExceptionally(error);
+        }
+        
+        @Override
+        public void onComplete() {
+            completed = true;
+            sources.remove(this);
+            if (inFlight.get() == 0) {
+                done.complete(null);
+            }
+        }
+        
+        void release() {
+            if (inFlight.decrementAndGet() == 0 && completed) {
+                done.complete(null);
+            }
+            if (credits.incrementAndGet() >= refill && !completed && !closed) {
+                int n = credits.getAndSet(0);
+                if (n > 0) {
+                    subscription.request(n);
+                }
+            }
+        }
+        
+        void cancel() {
+            subscription.cancel();
+            done.complete(null);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package navaneeth;
+
+/**
+ * TransactionResult class - a transaction paired with its outcome
+ * - Published downstream by TransactionIngestor, one per ingested transaction
+ */
+public final class TransactionResult {
+    private final Transaction transaction;
+    private final TransactionStatus status;
+    
+    public TransactionResult(Transaction transaction, TransactionStatus status) {
+        this.transaction = transaction;
+        this.status = status;
+    }
+    
+    public Transaction getTransaction() {
+        return transaction;
+    }
+    
+    public TransactionStatus getStatus() {
+        return status;
+    }
+    
+    @Override
+    public String toString() {
+        return "TransactionResult{" + transaction + ", status=" + status + "}";
+    }
+}
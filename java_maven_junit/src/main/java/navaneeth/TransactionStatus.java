@@ -0,0 +1,14 @@
+package navaneeth;
+
+/**
+ * TransactionStatus enum - per-record outcome reported by bulk transaction processing
+ * - Returned instead of throwing IllegalArgumentException for each rejected record
+ */
+public enum TransactionStatus {
+    APPLIED,
+    INVALID_AMOUNT,     // Amount was zero or negative
+    INSUFFICIENT_FUNDS, // Withdrawal exceeds balance (and overdraft limit for current accounts)
+    UNKNOWN_ACCOUNT,    // No account with that account number
+    DUPLICATE_ACCOUNT,  // Opening an account whose number is already taken
+    FAILED              // The account threw while the transaction was applied
+}
@@ -0,0 +1,9 @@
+package navaneeth;
+
+/**
+ * TransactionType enum - the kind of balance change a Transaction requests
+ */
+public enum TransactionType {
+    DEPOSIT,
+    WITHDRAWAL
+}
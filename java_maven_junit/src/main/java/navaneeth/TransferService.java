@@ -0,0 +1,100 @@
+package navaneeth;
+
+/**
+ * TransferService class - moves funds between any two accounts
+ * - All-or-nothing: the debit is a single CAS-checked withdrawal (respecting each account's
+ *   own rules, e.g. CurrentAccount overdraft); if the credit then throws, the debit is put back.
+ *   The credit does not check the destination balance for overflow
+ * - Deadlock-free by construction: no locks are taken, so opposite-direction transfers cannot
+ *   wait on each other, and hot accounts only see short CAS retries instead of lock convoys
+ * - Accounts can be given directly or looked up by number through an AccountIndex
+ * 
+ * The transfer is a withdrawal followed by a deposit, not one atomic step: between the two the
+ * amount is in flight, so a reader summing plain balances at that instant sees it on neither
+ * side. Snapshots are the consistent view: both legs count as one write in the BalanceSnapshots
+ * of each registered account (either or both), so a snapshot never sees the transfer half-applied.
+ */
+public class TransferService {
+    private final AccountIndex index;
+    
+    public TransferService() {
+        this(null);
+    }
+    
+    public TransferService(AccountIndex index) {
+        this.index = index;
+    }
+    
+    // Throwing variant, consistent with withdraw/deposit
+    public void transfer(BankAccount from, BankAccount to, long amountCents) {
+        TransactionStatus status = tryTransfer(from, to, amountCents);
+        if (status == TransactionStatus.INVALID_AMOUNT) {
+            throw new IllegalArgumentException("Transfer amount must be positive and between different accounts");
+        }
+        if (status == TransactionStatus.INSUFFICIENT_FUNDS) {
+            throw new IllegalArgumentException("Insufficient funds for transfer");
+        }
+        if (status == TransactionStatus.UNKNOWN_ACCOUNT) {
+            throw new IllegalArgumentException("Unknown account");
+        }
+    }
+    
+    public void transfer(String fromAccountNumber, String toAccountNumber, long amountCents) {
+        transfer(lookup(fromAccountNumber), lookup(toAccountNumber), amountCents);
+    }
+    
+    // Non-throwing variant for bulk callers
+    public TransactionStatus tryTransfer(BankAccount from, BankAccount to, long amountCents) {
+        if (from == null || to == null) {
+            return TransactionStatus.UNKNOWN_ACCOUNT;
+        }
+        if (amountCents <= 0 || from == to) {
+            return TransactionStatus.INVALID_AMOUNT;
+        }
+        BalanceSnapshots fromSnapshots = from.snapshots;
+        BalanceSnapshots toSnapshots = to.snapshots;
+        if (toSnapshots == fromSnapshots) {
+            toSnapshots = null; // Same group (or none): one write covers both legs
+        }
+        if (fromSnapshots == null && toSnapshots == null) {
+            return move(from, to, amountCents);
+        }
+        long fromToken = fromSnapshots != null ? fromSnapshots.beginWrite() : 0;
+        long toToken = toSnapshots != null ? toSnapshots.beginWrite() : 0;
+        try {
+            return move(from, to, amountCents);
+        } finally {
+            if (toSnapshots != null) {
+                toSnapshots.endWrite(toToken);
+            }
+            if (fromSnapshots != null) {
+                fromSnapshots.endWrite(fromToken);
+            }
+        }
+    }
+    
+    private static TransactionStatus move(BankAccount from, BankAccount to, long amountCents) {
+        if (!from.tryWithdrawCents(amountCents)) {
+            return TransactionStatus.INSUFFICIENT_FUNDS;
+        }
+        try {
+            to.depositCents(amountCents);
+        } catch (RuntimeException e) {
+            long restored = from.addToBalanceCents(amountCents); // Put the debit back
+            from.publishEvent(AccountEventType.REVERSAL, amountCents, restored);
+            throw e;
+        }
+        return TransactionStatus.APPLIED;
+    }
+    
+    public TransactionStatus tryTransfer(String fromAccountNumber, String toAccountNumber, long amountCents) {
+        return tryTransfer(lookup(fromAccountNumber), lookup(toAccountNumber), amountCents);
+    }
+    
+    private BankAccount lookup(String accountNumber) {
+        if (index == null) {
+            throw new IllegalStateException("TransferService was created without an AccountIndex");
+        }
+        return index.get(accountNumber);
+    }
+}
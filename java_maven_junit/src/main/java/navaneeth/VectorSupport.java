@@ -0,0 +1,17 @@
+package navaneeth;
+
+/**
+ * VectorSupport class - detects whether the JDK Vector API can be used at runtime
+ * - The API lives in the incubator module jdk.incubator.vector, which is only resolved
+ *   when the JVM is started with --add-modules jdk.incubator.vector
+ * - Kernels that use it live in separate *Vector classes that are only touched when AVAILABLE,
+ *   so the rest of the code runs unchanged without the module
+ * - -Dnavaneeth.vector.disabled=true forces the scalar fallbacks
+ */
+final class VectorSupport {
+    static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+            && !Boolean.getBoolean("navaneeth.vector.disabled");
+    
+    private VectorSupport() {
+    }
+}
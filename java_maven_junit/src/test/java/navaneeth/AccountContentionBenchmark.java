@@ -0,0 +1,104 @@
+package navaneeth;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Contention benchmark for concurrent balance updates
+ * - Compares the lock-free CAS account with a synchronized baseline
+ * - Runs 1 to 64 threads hammering a single shared account
+ * - Not a JUnit test: run with
+ *   java -cp target/classes:target/test-classes navaneeth.AccountContentionBenchmark [opsPerThread]
+ */
+public class AccountContentionBenchmark {
+    
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32, 64};
+    
+    // Baseline: the original read-modify-write made safe with a monitor per operation
+    static class SynchronizedAccount {
+        private double balance;
+        
+        SynchronizedAccount(double initialBalance) {
+            this.balance = initialBalance;
+        }
+        
+        synchronized void deposit(double amount) {
+            if (amount > 0) {
+                balance += amount;
+            } else {
+                throw new IllegalArgumentException("Deposit amount must be positive");
+            }
+        }
+        
+        synchronized void withdraw(double amount) {
+            if (amount > 0 && amount <= balance) {
+                balance -= amount;
+            } else {
+                throw new IllegalArgumentException("Invalid withdrawal amount");
+            }
+        }
+        
+        synchronized double getBalance() {
+            return balance;
+        }
+    }
+    
+    public static void main(String[] args) throws InterruptedException {
+        int opsPerThread = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        
+        System.out.printf("%-8s %18s %18s %8s%n", "threads", "synchronized ops/s", "CAS ops/s", "ratio");
+        for (int threads : THREAD_COUNTS) {
+            // Warm up both paths before measuring
+            runSynchronized(threads, opsPerThread / 10);
+            runLockFree(threads, opsPerThread / 10);
+            
+            double syncOps = runSynchronized(threads, opsPerThread);
+            double casOps = runLockFree(threads, opsPerThread);
+            System.out.printf("%-8d %18.0f %18.0f %8.2f%n", threads, syncOps, casOps, casOps / syncOps);
+        }
+    }
+    
+    private static double runSynchronized(int threads, int opsPerThread) throws InterruptedException {
+        SynchronizedAccount account = new SynchronizedAccount(1_000_000.0);
+        return run(threads, opsPerThread, () -> {
+            for (int i = 0; i < opsPerThread; i++) {
+                account.deposit(2.0);
+                account.withdraw(1.0);
+            }
+        });
+    }
+    
+    private static double runLockFree(int threads, int opsPerThread) throws InterruptedException {
+        BankAccount account = new BankAccount("BENCH", "Benchmark", 1_000_000.0);
+        return run(threads, opsPerThread, () -> {
+            for (int i = 0; i < opsPerThread; i++) {
+                account.deposit(2.0);
+                account.withdraw(1.0);
+            }
+        });
+    }
+    
+    // Starts all workers together and returns operations per second (deposit + withdraw = 2 ops)
+    private static double run(int threads, int opsPerThread, Runnable work) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                work.run();
+            });
+            workers[t].start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long elapsed = System.nanoTime() - begin;
+        return 2.0 * threads * opsPerThread / (elapsed / 1e9);
+    }
+}
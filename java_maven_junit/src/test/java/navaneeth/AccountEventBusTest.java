@@ -0,0 +1,150 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for AccountEventBus and account event publishing
+ * 
+ * Demonstrates:
+ * - CurrentAccount overdrafts become events instead of console output
+ * - Every subscriber sees every event in order under BLOCK backpressure
+ * - DROP and SAMPLE policies shed load when subscribers fall behind, and only then
+ */
+@DisplayName("Account Event Bus Test Suite")
+public class AccountEventBusTest {
+    
+    @Test
+    @DisplayName("Test: Account operations publish balance-change events")
+    void testAccountEvents() {
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        ByteArrayOutputStream console = new ByteArrayOutputStream();
+        AccountEventBus bus = new AccountEventBus(64, AccountEventBus.Backpressure.BLOCK);
+        bus.subscribe(event -> received.add(event.getType() + ":" + event.getAmountCents() + ":" + event.getBalanceCents()));
+        bus.subscribe(AccountEventSubscriber.overdraftLogger(new PrintStream(console, true)));
+        bus.start();
+        
+        CurrentAccount account = CurrentAccount.ofCents("CUR001", "Bob", 1_000, 5_000);
+        account.setEventBus(bus);
+        account.depositCents(500);
+        account.withdrawCents(1_000);
+        account.withdrawCents(2_000);
+        assertThrows(IllegalArgumentException.class, () -> account.withdrawCents(10_000)); // Rejected: no event
+        bus.close();
+        
+        assertEquals(List.of("DEPOSIT:500:1500", "WITHDRAWAL:1000:500", "OVERDRAFT:2000:-1500"), received);
+        assertEquals("Overdraft used: 15.0", console.toString().trim());
+        assertEquals(0, bus.getDroppedCount());
+    }
+    
+    @Test
+    @DisplayName("Test: BLOCK delivers every event to every subscriber in order")
+    void testBlockDeliversAll() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 20_000;
+        long[] counts = new long[2];
+        long[] lastSequence = {-1, -1};
+        boolean[] ordered = {true, true};
+        AccountEventBus bus = new AccountEventBus(256, AccountEventBus.Backpressure.BLOCK);
+        for (int s = 0; s < 2; s++) {
+            int id = s;
+            bus.subscribe(event -> {
+                ordered[id] &= event.getSequence() == lastSequence[id] + 1;
+                lastSequence[id] = event.getSequence();
+                counts[id]++;
+            });
+        }
+        bus.start();
+        
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    bus.publish(AccountEventType.DEPOSIT, "ACC", 1, i);
+                }
+            });
+            threads[p].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        bus.close();
+        
+        assertEquals(producers * perProducer, counts[0]);
+        assertEquals(producers * perProducer, counts[1]);
+        assertTrue(ordered[0] && ordered[1]);
+        assertEquals(0, bus.getDroppedCount());
+    }
+    
+    @Test
+    @DisplayName("Test: SAMPLE keeps every event while the subscriber keeps up")
+    void testSampleKeepsUp() {
+        AtomicLong delivered = new AtomicLong();
+        AccountEventBus bus = new AccountEventBus(16, AccountEventBus.Backpressure.SAMPLE, 10);
+        bus.subscribe(event -> delivered.incrementAndGet());
+        bus.start();
+        
+        // Many wraps of the ring, each event handled before the next one is published
+        for (int i = 0; i < 500; i++) {
+            assertTrue(bus.publish(AccountEventType.DEPOSIT, "ACC", 1, i), "event " + i);
+            while (delivered.get() <= i) {
+                Thread.onSpinWait();
+            }
+        }
+        bus.close();
+        assertEquals(500, delivered.get());
+        assertEquals(0, bus.getDroppedCount());
+    }
+    
+    @Test
+    @DisplayName("Test: DROP and SAMPLE shed events when a subscriber is stuck")
+    void testDropAndSample() throws InterruptedException {
+        for (AccountEventBus.Backpressure policy : new AccountEventBus.Backpressure[] {
+                AccountEventBus.Backpressure.DROP, AccountEventBus.Backpressure.SAMPLE}) {
+            CountDownLatch release = new CountDownLatch(1);
+            long[] delivered = new long[1];
+            AccountEventBus bus = new AccountEventBus(16, policy, 4);
+            bus.subscribe(event -> {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                delivered[0]++;
+            });
+            bus.start();
+            
+            int accepted = 0;
+            for (int i = 0; i < 1_000; i++) {
+                if (bus.publish(AccountEventType.WITHDRAWAL, "ACC", 1, 0)) {
+                    accepted++;
+                }
+            }
+            release.countDown();
+            bus.close();
+            
+            assertTrue(accepted <= 17, policy + " accepted " + accepted); // Ring size plus the event in flight
+            assertEquals(1_000 - accepted, bus.getDroppedCount());
+            assertEquals(accepted, delivered[0]);
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Invalid configuration is rejected")
+    void testConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new AccountEventBus(100, AccountEventBus.Backpressure.DROP));
+        assertThrows(IllegalArgumentException.class, () -> new AccountEventBus(64, AccountEventBus.Backpressure.SAMPLE, 0));
+        AccountEventBus bus = new AccountEventBus(64, AccountEventBus.Backpressure.DROP);
+        bus.start();
+        assertThrows(IllegalStateException.class, () -> bus.subscribe(event -> { }));
+        bus.close();
+    }
+}
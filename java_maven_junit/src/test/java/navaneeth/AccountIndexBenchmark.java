@@ -0,0 +1,71 @@
+package navaneeth;
+
+import java.util.Random;
+
+/**
+ * Lookup latency benchmark for AccountIndex
+ * - Builds indexes of 1M and 10M accounts and times random exact and prefix lookups
+ * - Not a JUnit test: run with
+ *   java -Xmx8g -cp target/classes:target/test-classes navaneeth.AccountIndexBenchmark [sizes...]
+ */
+public class AccountIndexBenchmark {
+    
+    private static final int LOOKUPS = 5_000_000;
+    private static final int PREFIX_LOOKUPS = 200_000;
+    private static final String[] FIRST_NAMES = {"Alice", "Bob", "Carol", "Dave", "Eve", "Frank", "Grace", "Heidi"};
+    
+    public static void main(String[] args) {
+        int[] sizes = args.length > 0 ? parse(args) : new int[] {1_000_000, 10_000_000};
+        for (int size : sizes) {
+            run(size);
+        }
+    }
+    
+    private static int[] parse(String[] args) {
+        int[] sizes = new int[args.length];
+        for (int i = 0; i < args.length; i++) {
+            sizes[i] = Integer.parseInt(args[i]);
+        }
+        return sizes;
+    }
+    
+    private static void run(int size) {
+        AccountIndex index = new AccountIndex();
+        String[] numbers = new String[size];
+        long buildStart = System.nanoTime();
+        for (int i = 0; i < size; i++) {
+            numbers[i] = "ACC" + i;
+            String holder = FIRST_NAMES[i % FIRST_NAMES.length] + " " + Integer.toString(i, 36);
+            index.add(BankAccount.ofCents(numbers[i], holder, 0));
+        }
+        double buildSeconds = (System.nanoTime() - buildStart) / 1e9;
+        
+        Random random = new Random(1);
+        String[] probes = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            probes[i] = numbers[random.nextInt(size)];
+        }
+        
+        long sink = 0;
+        for (int warmup = 0; warmup < 2; warmup++) {
+            for (String probe : probes) {
+                sink += index.get(probe).getBalanceCents();
+            }
+        }
+        long start = System.nanoTime();
+        for (String probe : probes) {
+            sink += index.get(probe).getBalanceCents();
+        }
+        double exactNanos = (System.nanoTime() - start) / (double) LOOKUPS;
+        
+        start = System.nanoTime();
+        for (int i = 0; i < PREFIX_LOOKUPS; i++) {
+            String prefix = FIRST_NAMES[i % FIRST_NAMES.length].substring(0, 3) + " " + Integer.toString(random.nextInt(size), 36).charAt(0);
+            sink += index.findByHolderPrefix(prefix, 10).size();
+        }
+        double prefixNanos = (System.nanoTime() - start) / (double) PREFIX_LOOKUPS;
+        
+        System.out.printf("%,d accounts: build %.2f s, exact get %.1f ns/op, prefix(10) %.0f ns/op (sink %d)%n",
+            size, buildSeconds, exactNanos, prefixNanos, sink);
+    }
+}
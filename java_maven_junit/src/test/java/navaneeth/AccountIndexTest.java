@@ -0,0 +1,121 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for AccountIndex
+ * 
+ * Demonstrates:
+ * - Exact lookups by account number, replacement and removal
+ * - Case-insensitive holder-name prefix queries
+ * - Lock-free readers always see indexed accounts while a writer grows the table
+ */
+@DisplayName("Account Index Test Suite")
+public class AccountIndexTest {
+    
+    private AccountIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new AccountIndex();
+    }
+    
+    @Test
+    @DisplayName("Test: Lookup, replace and remove by account number")
+    void testExactLookup() {
+        SavingsAccount alice = new SavingsAccount("SAV001", "Alice", 100.0);
+        CurrentAccount bob = new CurrentAccount("CUR001", "Bob", 100.0, 50.0);
+        index.add(alice);
+        index.add(bob);
+        
+        assertSame(alice, index.get("SAV001"));
+        assertSame(bob, index.get("CUR001"));
+        assertNull(index.get("MISSING"));
+        assertEquals(2, index.size());
+        
+        SavingsAccount replacement = new SavingsAccount("SAV001", "Alicia", 200.0);
+        index.add(replacement);
+        assertSame(replacement, index.get("SAV001"));
+        assertEquals(2, index.size());
+        
+        assertTrue(index.remove("SAV001"));
+        assertFalse(index.remove("SAV001"));
+        assertNull(index.get("SAV001"));
+        assertSame(bob, index.get("CUR001"));
+        assertEquals(1, index.size());
+    }
+    
+    @Test
+    @DisplayName("Test: Holder-name prefix queries")
+    void testPrefixQueries() {
+        index.add(new BankAccount("ACC1", "Alice Smith", 0));
+        index.add(new BankAccount("ACC2", "alice jones", 0));
+        index.add(new BankAccount("ACC3", "Alan", 0));
+        index.add(new BankAccount("ACC4", "Bob", 0));
+        
+        List<BankAccount> alices = index.findByHolderPrefix("ALICE", 10);
+        assertEquals(List.of("ACC2", "ACC1"), alices.stream().map(BankAccount::getAccountNumber).toList());
+        assertEquals(3, index.findByHolderPrefix("al", 10).size());
+        assertEquals(1, index.findByHolderPrefix("al", 1).size());
+        assertTrue(index.findByHolderPrefix("carol", 10).isEmpty());
+        
+        index.remove("ACC1");
+        assertEquals(1, index.findByHolderPrefix("alice", 10).size());
+    }
+    
+    @Test
+    @DisplayName("Test: Many accounts with removals keep every lookup correct")
+    void testGrowthAndTombstones() {
+        for (int i = 0; i < 50_000; i++) {
+            index.add(new BankAccount("ACC" + i, "Holder " + i, 0));
+        }
+        for (int i = 0; i < 50_000; i += 2) {
+            assertTrue(index.remove("ACC" + i));
+        }
+        for (int i = 50_000; i < 60_000; i++) {
+            index.add(new BankAccount("ACC" + i, "Holder " + i, 0));
+        }
+        
+        assertEquals(35_000, index.size());
+        for (int i = 0; i < 60_000; i++) {
+            BankAccount found = index.get("ACC" + i);
+            if (i < 50_000 && i % 2 == 0) {
+                assertNull(found);
+            } else {
+                assertEquals("ACC" + i, found.getAccountNumber());
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Readers see published accounts while the writer resizes")
+    void testConcurrentReads() throws InterruptedException {
+        int total = 100_000;
+        index.add(new BankAccount("ACC0", "Holder 0", 0));
+        AtomicBoolean done = new AtomicBoolean();
+        AtomicReference<String> failure = new AtomicReference<>();
+        
+        Thread reader = new Thread(() -> {
+            while (!done.get()) {
+                // ACC0 was added before the reader started and must never disappear
+                if (index.get("ACC0") == null) {
+                    failure.set("ACC0 missing during resize");
+                    return;
+                }
+            }
+        });
+        reader.start();
+        for (int i = 1; i < total; i++) {
+            index.add(new BankAccount("ACC" + i, "Holder " + i, 0));
+        }
+        done.set(true);
+        reader.join();
+        
+        assertNull(failure.get());
+        assertEquals(total, index.size());
+    }
+}
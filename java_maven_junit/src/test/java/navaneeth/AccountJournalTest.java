@@ -0,0 +1,166 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the write-ahead AccountJournal
+ * 
+ * Demonstrates:
+ * - Journaled operations change the account and become durable
+ * - Replay rebuilds the same balances from starting state
+ * - Concurrent commits share flushes (group commit)
+ * - A torn tail is ignored by recovery and truncated on reopen
+ * - An operation that cannot be journaled leaves the account unchanged
+ * - A withdrawal undone after a failed commit is followed by a REVERSAL event
+ */
+@DisplayName("Account Journal Test Suite")
+public class AccountJournalTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    private Path journalPath;
+    
+    @BeforeEach
+    void setUp() {
+        journalPath = tempDir.resolve("accounts.journal");
+    }
+    
+    private static Map<String, BankAccount> freshAccounts() {
+        Map<String, BankAccount> accounts = new HashMap<>();
+        accounts.put("SAV001", SavingsAccount.ofCents("SAV001", "Alice", 100_000));
+        accounts.put("CUR001", CurrentAccount.ofCents("CUR001", "Bob", 10_000, 50_000));
+        return accounts;
+    }
+    
+    @Test
+    @DisplayName("Test: Replay rebuilds journaled balances")
+    void testReplay() throws IOException {
+        Map<String, BankAccount> live = freshAccounts();
+        try (AccountJournal journal = AccountJournal.open(journalPath)) {
+            journal.deposit(live.get("SAV001"), 2_500);
+            journal.addInterest((SavingsAccount) live.get("SAV001"));
+            journal.withdraw(live.get("CUR001"), 40_000); // Into the overdraft
+            assertThrows(IllegalArgumentException.class, () -> journal.withdraw(live.get("CUR001"), 30_000));
+            SavingsAccount tiny = SavingsAccount.ofCents("SAV009", "Tiny", 9);
+            journal.addInterest(tiny); // Rounds to no interest: nothing credited or journaled
+            assertEquals(9, tiny.getBalanceCents());
+            assertTrue(journal.getDurablePosition() > 0);
+        }
+        
+        Map<String, BankAccount> recovered = freshAccounts();
+        assertEquals(3, AccountJournal.replay(journalPath, recovered));
+        for (String number : live.keySet()) {
+            assertEquals(live.get(number).getBalanceCents(), recovered.get(number).getBalanceCents(), number);
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Concurrent commits are all durable and replayable")
+    void testConcurrentCommits() throws Exception {
+        BankAccount live = BankAccount.ofCents("ACC001", "Shared", 0);
+        int threads = 8;
+        int commitsPerThread = 500;
+        
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (AccountJournal journal = AccountJournal.open(journalPath, 4096)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < commitsPerThread; i++) {
+                        journal.deposit(live, 1);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        
+        Map<String, BankAccount> recovered = new HashMap<>();
+        recovered.put("ACC001", BankAccount.ofCents("ACC001", "Shared", 0));
+        assertEquals(threads * commitsPerThread, AccountJournal.replay(journalPath, recovered));
+        assertEquals(threads * commitsPerThread, recovered.get("ACC001").getBalanceCents());
+    }
+    
+    @Test
+    @DisplayName("Test: Torn tail is ignored and truncated on reopen")
+    void testTornTail() throws IOException {
+        try (AccountJournal journal = AccountJournal.open(journalPath)) {
+            journal.commit(AccountJournal.DEPOSIT, "SAV001", 100);
+            journal.commit(AccountJournal.DEPOSIT, "SAV001", 200);
+        }
+        long validLength = Files.size(journalPath);
+        
+        // Simulate a crash in the middle of writing a third entry
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.APPEND)) {
+            channel.write(java.nio.ByteBuffer.wrap(new byte[] {30, 0, 0, 0, 1, 7}));
+        }
+        Map<String, BankAccount> recovered = freshAccounts();
+        assertEquals(2, AccountJournal.replay(journalPath, recovered));
+        assertEquals(100_300, recovered.get("SAV001").getBalanceCents());
+        
+        try (AccountJournal journal = AccountJournal.open(journalPath)) {
+            assertEquals(validLength, Files.size(journalPath));
+            journal.commit(AccountJournal.WITHDRAWAL, "SAV001", 50);
+        }
+        recovered = freshAccounts();
+        assertEquals(3, AccountJournal.replay(journalPath, recovered));
+        assertEquals(100_250, recovered.get("SAV001").getBalanceCents());
+    }
+    
+    @Test
+    @DisplayName("Test: Closed journal rejects appends and leaves balances unchanged")
+    void testClosed() throws IOException {
+        AccountJournal journal = AccountJournal.open(journalPath);
+        journal.close();
+        assertThrows(IOException.class, () -> journal.commit(AccountJournal.DEPOSIT, "SAV001", 1));
+        
+        // Nothing reaches an account without its entry
+        Map<String, BankAccount> accounts = freshAccounts();
+        assertThrows(IOException.class, () -> journal.deposit(accounts.get("SAV001"), 500));
+        assertThrows(IOException.class, () -> journal.addInterest((SavingsAccount) accounts.get("SAV001")));
+        assertThrows(IOException.class, () -> journal.withdraw(accounts.get("CUR001"), 20_000));
+        assertEquals(100_000, accounts.get("SAV001").getBalanceCents());
+        assertEquals(10_000, accounts.get("CUR001").getBalanceCents());
+        assertThrows(IllegalArgumentException.class, () -> AccountJournal.open(journalPath, 16));
+    }
+    
+    @Test
+    @DisplayName("Test: A withdrawal rolled back by a failed commit publishes a reversal")
+    void testRollbackEvent() throws IOException {
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        AccountEventBus bus = new AccountEventBus(64, AccountEventBus.Backpressure.BLOCK);
+        bus.subscribe(event -> received.add(event.getType() + ":" + event.getAmountCents() + ":" + event.getBalanceCents()));
+        bus.start();
+        
+        BankAccount account = freshAccounts().get("CUR001");
+        account.setEventBus(bus);
+        AccountJournal journal = AccountJournal.open(journalPath);
+        journal.withdraw(account, 4_000);
+        journal.close();
+        assertThrows(IOException.class, () -> journal.withdraw(account, 20_000));
+        bus.close();
+        
+        assertEquals(6_000, account.getBalanceCents());
+        assertEquals(List.of("WITHDRAWAL:4000:6000", "OVERDRAFT:20000:-14000", "REVERSAL:20000:6000"), received);
+    }
+}
@@ -0,0 +1,134 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for BalanceSnapshots
+ * 
+ * Demonstrates:
+ * - A snapshot keeps the balances of the moment it was taken, not later writes
+ * - Snapshots taken while transfers run always see the same total
+ * - A transfer from an unregistered account still counts as one write for the destination's group
+ * - An account can only join one snapshot group
+ */
+@DisplayName("Balance Snapshots Test Suite")
+public class BalanceSnapshotsTest {
+    
+    @Test
+    @DisplayName("Test: Snapshot balances and total")
+    void testSnapshotValues() {
+        BalanceSnapshots snapshots = new BalanceSnapshots();
+        SavingsAccount savings = SavingsAccount.ofCents("SAV001", "Alice", 10_000);
+        CurrentAccount current = CurrentAccount.ofCents("CUR001", "Bob", 500, 1_000);
+        snapshots.register(savings);
+        snapshots.register(current);
+        
+        current.withdrawCents(1_200); // Into the overdraft
+        BalanceSnapshots.Snapshot first = snapshots.snapshot();
+        savings.depositCents(2_000);
+        BalanceSnapshots.Snapshot second = snapshots.snapshot();
+        
+        assertEquals(2, first.size());
+        assertEquals(10_000, first.getBalanceCents(0));
+        assertEquals(-700, first.getBalanceCents(1));
+        assertEquals(9_300, first.getTotalCents());
+        assertEquals(11_300, second.getTotalCents());
+        assertTrue(second.getEpoch() > first.getEpoch());
+    }
+    
+    @Test
+    @DisplayName("Test: Registering an account twice is rejected")
+    void testRegisterTwice() {
+        BankAccount account = BankAccount.ofCents("ACC001", "Alice", 100);
+        new BalanceSnapshots().register(account);
+        assertThrows(IllegalStateException.class, () -> new BalanceSnapshots().register(account));
+    }
+    
+    @Test
+    @DisplayName("Test: Snapshots during concurrent transfers see a constant total")
+    void testConsistentTotalUnderTransfers() throws Exception {
+        BalanceSnapshots snapshots = new BalanceSnapshots();
+        BankAccount[] accounts = new BankAccount[16];
+        for (int i = 0; i < accounts.length; i++) {
+            accounts[i] = i % 2 == 0
+                ? SavingsAccount.ofCents("SAV" + i, "Holder " + i, 100_000)
+                : CurrentAccount.ofCents("CUR" + i, "Holder " + i, 100_000, 50_000);
+            snapshots.register(accounts[i]);
+        }
+        long expectedTotal = 16 * 100_000L;
+        TransferService service = new TransferService();
+        AtomicBoolean running = new AtomicBoolean(true);
+        
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (running.get()) {
+                    service.tryTransfer(accounts[random.nextInt(accounts.length)],
+                        accounts[random.nextInt(accounts.length)], 1 + random.nextInt(5_000));
+                }
+            }));
+        }
+        try {
+            for (int i = 0; i < 2_000; i++) {
+                assertEquals(expectedTotal, snapshots.snapshot().getTotalCents());
+            }
+        } finally {
+            running.set(false);
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+        }
+        assertEquals(expectedTotal, snapshots.snapshot().getTotalCents());
+    }
+    
+    @Test
+    @DisplayName("Test: Transfer into a registered account from an unregistered one is one write")
+    void testTransferFromUnregistered() throws Exception {
+        BalanceSnapshots snapshots = new BalanceSnapshots();
+        CountDownLatch inDebit = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BankAccount from = new BankAccount("EXT001", "Outside", 0) {
+            @Override
+            public boolean tryWithdrawCents(long amount) {
+                inDebit.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true; // An external source of funds
+            }
+        };
+        BankAccount to = BankAccount.ofCents("ACC001", "Inside", 1_000);
+        snapshots.register(to);
+        
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<TransactionStatus> transfer = executor.submit(() -> new TransferService().tryTransfer(from, to, 500));
+            assertTrue(inDebit.await(10, TimeUnit.SECONDS));
+            Future<BalanceSnapshots.Snapshot> snapshot = executor.submit(snapshots::snapshot);
+            Thread.sleep(100);
+            assertFalse(snapshot.isDone()); // Waits for the in-flight transfer instead of splitting it
+            release.countDown();
+            assertEquals(TransactionStatus.APPLIED, transfer.get(10, TimeUnit.SECONDS));
+            assertEquals(1_500, snapshot.get(10, TimeUnit.SECONDS).getTotalCents());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for BatchTransactionEngine
+ * 
+ * Demonstrates:
+ * - Per-record status codes instead of exceptions
+ * - Per-account ordering is preserved while partitions run in parallel
+ * - Parallel results equal a sequential application of the same batch
+ */
+@DisplayName("Batch Transaction Engine Test Suite")
+public class BatchTransactionEngineTest {
+    
+    private static ForkJoinPool pool;
+    
+    @BeforeAll
+    static void setUpPool() {
+        pool = new ForkJoinPool(4);
+    }
+    
+    @AfterAll
+    static void tearDownPool() {
+        pool.shutdown();
+    }
+    
+    @Test
+    @DisplayName("Test: Status codes for each kind of outcome")
+    void testStatusCodes() {
+        Map<String, BankAccount> accounts = new HashMap<>();
+        accounts.put("SAV001", SavingsAccount.ofCents("SAV001", "Alice", 1000));
+        accounts.put("CUR001", CurrentAccount.ofCents("CUR001", "Bob", 1000, 500));
+        BatchTransactionEngine engine = new BatchTransactionEngine(accounts, pool);
+        
+        TransactionStatus[] results = engine.apply(new Transaction[] {
+            Transaction.withdrawal("SAV001", 2000),   // More than the balance
+            Transaction.deposit("SAV001", 1000),
+            Transaction.withdrawal("SAV001", 2000),   // Succeeds after the earlier deposit
+            Transaction.withdrawal("CUR001", 1500),   // Uses the overdraft
+            Transaction.withdrawal("CUR001", 1),      // Overdraft exhausted
+            Transaction.deposit("SAV001", 0),
+            Transaction.deposit("MISSING", 100),
+            Transaction.deposit(null, 100)
+        });
+        
+        assertArrayEquals(new TransactionStatus[] {
+            TransactionStatus.INSUFFICIENT_FUNDS,
+            TransactionStatus.APPLIED,
+            TransactionStatus.APPLIED,
+            TransactionStatus.APPLIED,
+            TransactionStatus.INSUFFICIENT_FUNDS,
+            TransactionStatus.INVALID_AMOUNT,
+            TransactionStatus.UNKNOWN_ACCOUNT,
+            TransactionStatus.UNKNOWN_ACCOUNT
+        }, results);
+        assertEquals(0, accounts.get("SAV001").getBalanceCents());
+        assertEquals(-500, accounts.get("CUR001").getBalanceCents());
+    }
+    
+    @Test
+    @DisplayName("Test: Parallel batch matches sequential application")
+    void testMatchesSequential() {
+        int accountCount = 500;
+        Map<String, BankAccount> parallelAccounts = new HashMap<>();
+        Map<String, BankAccount> sequentialAccounts = new HashMap<>();
+        for (int a = 0; a < accountCount; a++) {
+            String number = "ACC" + a;
+            parallelAccounts.put(number, BankAccount.ofCents(number, "Holder " + a, 10_000));
+            sequentialAccounts.put(number, BankAccount.ofCents(number, "Holder " + a, 10_000));
+        }
+        
+        Random random = new Random(42);
+        Transaction[] batch = new Transaction[200_000];
+        for (int i = 0; i < batch.length; i++) {
+            String number = "ACC" + random.nextInt(accountCount);
+            long amount = 1 + random.nextInt(5_000);
+            batch[i] = random.nextBoolean() ? Transaction.deposit(number, amount) : Transaction.withdrawal(number, amount);
+        }
+        
+        TransactionStatus[] results = new BatchTransactionEngine(parallelAccounts, pool).apply(batch);
+        
+        for (int i = 0; i < batch.length; i++) {
+            TransactionStatus expected = batch[i].applyTo(sequentialAccounts.get(batch[i].getAccountNumber()));
+            assertEquals(expected, results[i], "Record " + i);
+        }
+        for (String number : sequentialAccounts.keySet()) {
+            assertEquals(sequentialAccounts.get(number).getBalanceCents(), parallelAccounts.get(number).getBalanceCents());
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Empty batch returns no results")
+    void testEmptyBatch() {
+        BatchTransactionEngine engine = new BatchTransactionEngine(new HashMap<String, BankAccount>(), pool);
+        assertEquals(0, engine.apply(new Transaction[0]).length);
+    }
+}
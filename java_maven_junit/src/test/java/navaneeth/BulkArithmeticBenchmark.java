@@ -0,0 +1,104 @@
+package navaneeth;
+
+import java.util.Random;
+
+/**
+ * Benchmark for the bulk Calculator operations against per-element calls
+ * - Inputs are 16-bit ints, so no mode overflows and all three modes do the same work
+ * - loop: Calculator.add/isEven called once per element
+ * - bulk: BulkArithmetic into a reused output array, per overflow mode (Vector API when available)
+ * - scalar: the BulkArithmetic scalar fallback
+ * - A main()-based harness in the style of the other benchmarks (no JMH in this build)
+ * - Not a JUnit test: run with
+ *   java --add-modules jdk.incubator.vector -cp target/classes:target/test-classes navaneeth.BulkArithmeticBenchmark [elements] [rounds]
+ */
+public class BulkArithmeticBenchmark {
+    
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1 << 20;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        
+        Random random = new Random(1);
+        int[] a = new int[count];
+        int[] b = new int[count];
+        long[] c = new long[count];
+        long[] d = new long[count];
+        for (int i = 0; i < count; i++) {
+            a[i] = random.nextInt(1 << 16) - (1 << 15);
+            b[i] = random.nextInt(1 << 16) - (1 << 15);
+            c[i] = a[i] * 1_000L;
+            d[i] = b[i];
+        }
+        int[] out = new int[count];
+        long[] longOut = new long[count];
+        long[] bits = new long[(count + 63) >>> 6];
+        Calculator calculator = new Calculator();
+        System.out.println("Vector API: " + (VectorSupport.AVAILABLE ? "on" : "off"));
+        
+        long sink = 0;
+        for (int round = 0; round < rounds; round++) {
+            boolean report = round == rounds - 1; // Earlier rounds warm up
+            
+            long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                out[i] = calculator.add(a[i], b[i]);
+            }
+            long loopAdd = System.nanoTime() - start;
+            
+            long[] bulkAdd = new long[3];
+            long[] bulkMultiply = new long[3];
+            long[] longMultiply = new long[3];
+            for (OverflowMode mode : OverflowMode.values()) {
+                start = System.nanoTime();
+                BulkArithmetic.add(a, b, out, 0, count, mode);
+                bulkAdd[mode.ordinal()] = System.nanoTime() - start;
+                start = System.nanoTime();
+                BulkArithmetic.multiply(a, b, out, 0, count, mode);
+                bulkMultiply[mode.ordinal()] = System.nanoTime() - start;
+                start = System.nanoTime();
+                BulkArithmetic.multiply(c, d, longOut, 0, count, mode);
+                longMultiply[mode.ordinal()] = System.nanoTime() - start;
+                sink += out[count / 2] + longOut[count / 2];
+            }
+            
+            start = System.nanoTime();
+            BulkArithmetic.addScalar(a, b, out, 0, count, OverflowMode.SATURATING);
+            long scalarAdd = System.nanoTime() - start;
+            start = System.nanoTime();
+            BulkArithmetic.multiplyScalar(c, d, longOut, 0, count, OverflowMode.CHECKED);
+            long scalarLongMultiply = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            int evens = 0;
+            for (int i = 0; i < count; i++) {
+                if (calculator.isEven(a[i])) {
+                    evens++;
+                }
+            }
+            long loopEven = System.nanoTime() - start;
+            start = System.nanoTime();
+            BulkArithmetic.evenBits(a, bits);
+            long bulkEven = System.nanoTime() - start;
+            sink += evens + bits[0];
+            
+            if (report) {
+                System.out.printf("int add:       loop %.2f ns | wrapping %.2f, saturating %.2f, checked %.2f | scalar saturating %.2f ns%n",
+                    per(loopAdd, count), per(bulkAdd[0], count), per(bulkAdd[1], count), per(bulkAdd[2], count),
+                    per(scalarAdd, count));
+                System.out.printf("int multiply:  wrapping %.2f, saturating %.2f, checked %.2f ns%n",
+                    per(bulkMultiply[0], count), per(bulkMultiply[1], count), per(bulkMultiply[2], count));
+                System.out.printf("long multiply: wrapping %.2f, saturating %.2f, checked %.2f | scalar checked %.2f ns%n",
+                    per(longMultiply[0], count), per(longMultiply[1], count), per(longMultiply[2], count),
+                    per(scalarLongMultiply, count));
+                System.out.printf("isEven:        loop %.2f ns, bitset %.2f ns%n", per(loopEven, count), per(bulkEven, count));
+            }
+        }
+        if (sink == 42) {
+            System.out.println(sink);
+        }
+    }
+    
+    private static double per(long nanos, int count) {
+        return nanos / (double) count;
+    }
+}
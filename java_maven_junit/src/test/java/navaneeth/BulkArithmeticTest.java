@@ -0,0 +1,191 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import java.math.BigInteger;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for BulkArithmetic and the Calculator bulk methods
+ * 
+ * Demonstrates:
+ * - Wrapping, saturating and checked results match per-element Math reference code
+ * - Vector and scalar kernels agree (the vector path runs when the module is present)
+ * - CHECKED stops at the first overflowing index; in-place updates work
+ * - isEven over an array packs the parity into a bitset
+ */
+@DisplayName("Bulk Arithmetic Test Suite")
+public class BulkArithmeticTest {
+    
+    private static final int SIZE = 1_003; // Not a multiple of any vector length
+    
+    // Mostly small values, with extremes mixed in so every mode overflows somewhere
+    private static int[] ints(long seed) {
+        Random random = new Random(seed);
+        int[] values = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            switch (random.nextInt(4)) {
+                case 0:
+                    values[i] = random.nextInt();
+                    break;
+                case 1:
+                    values[i] = random.nextBoolean() ? Integer.MAX_VALUE - random.nextInt(3) : Integer.MIN_VALUE + random.nextInt(3);
+                    break;
+                default:
+                    values[i] = random.nextInt(2_001) - 1_000;
+                    break;
+            }
+        }
+        return values;
+    }
+    
+    private static long[] longs(long seed) {
+        Random random = new Random(seed);
+        long[] values = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            switch (random.nextInt(4)) {
+                case 0:
+                    values[i] = random.nextLong();
+                    break;
+                case 1:
+                    values[i] = random.nextBoolean() ? Long.MAX_VALUE - random.nextInt(3) : Long.MIN_VALUE + random.nextInt(3);
+                    break;
+                default:
+                    values[i] = random.nextInt(2_001) - 1_000;
+                    break;
+            }
+        }
+        return values;
+    }
+    
+    private static int saturate(long value) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
+    }
+    
+    private static long saturate(BigInteger value) {
+        return value.max(BigInteger.valueOf(Long.MIN_VALUE)).min(BigInteger.valueOf(Long.MAX_VALUE)).longValue();
+    }
+    
+    @Test
+    @DisplayName("Test: Int operations match the reference in every mode")
+    void testInts() {
+        int[] a = ints(1);
+        int[] b = ints(2);
+        Calculator calculator = new Calculator();
+        int[] sums = calculator.add(a, b, OverflowMode.SATURATING);
+        int[] differences = calculator.subtract(a, b, OverflowMode.SATURATING);
+        int[] products = calculator.multiply(a, b, OverflowMode.SATURATING);
+        int[] wrapped = calculator.multiply(a, b, OverflowMode.WRAPPING);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(saturate((long) a[i] + b[i]), sums[i]);
+            assertEquals(saturate((long) a[i] - b[i]), differences[i]);
+            assertEquals(saturate((long) a[i] * b[i]), products[i]);
+            assertEquals(calculator.multiply(a[i], b[i]), wrapped[i]);
+        }
+        assertArrayEquals(wrapped, calculator.multiply(a, b, OverflowMode.WRAPPING));
+        assertEquals(calculator.add(a[0], b[0]), calculator.add(a, b, OverflowMode.WRAPPING)[0]);
+    }
+    
+    @Test
+    @DisplayName("Test: Long operations match the reference in every mode")
+    void testLongs() {
+        long[] a = longs(3);
+        long[] b = longs(4);
+        long[] sums = new long[SIZE];
+        long[] differences = new long[SIZE];
+        long[] products = new long[SIZE];
+        BulkArithmetic.add(a, b, sums, 0, SIZE, OverflowMode.SATURATING);
+        BulkArithmetic.subtract(a, b, differences, 0, SIZE, OverflowMode.SATURATING);
+        BulkArithmetic.multiply(a, b, products, 0, SIZE, OverflowMode.SATURATING);
+        long[] wrapped = new Calculator().multiply(a, b, OverflowMode.WRAPPING);
+        for (int i = 0; i < SIZE; i++) {
+            BigInteger x = BigInteger.valueOf(a[i]);
+            BigInteger y = BigInteger.valueOf(b[i]);
+            assertEquals(saturate(x.add(y)), sums[i]);
+            assertEquals(saturate(x.subtract(y)), differences[i]);
+            assertEquals(saturate(x.multiply(y)), products[i]);
+            assertEquals(a[i] * b[i], wrapped[i]);
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Vector and scalar kernels agree")
+    void testScalarAgreement() {
+        int[] a = ints(5);
+        int[] b = ints(6);
+        long[] c = longs(7);
+        long[] d = longs(8);
+        for (OverflowMode mode : new OverflowMode[] {OverflowMode.WRAPPING, OverflowMode.SATURATING}) {
+            int[] vector = new int[SIZE];
+            int[] scalar = new int[SIZE];
+            BulkArithmetic.multiply(a, b, vector, 0, SIZE, mode);
+            BulkArithmetic.multiplyScalar(a, b, scalar, 0, SIZE, mode);
+            assertArrayEquals(scalar, vector);
+            BulkArithmetic.subtract(a, b, vector, 0, SIZE, mode);
+            BulkArithmetic.subtractScalar(a, b, scalar, 0, SIZE, mode);
+            assertArrayEquals(scalar, vector);
+            
+            long[] longVector = new long[SIZE];
+            long[] longScalar = new long[SIZE];
+            BulkArithmetic.add(c, d, longVector, 0, SIZE, mode);
+            BulkArithmetic.addScalar(c, d, longScalar, 0, SIZE, mode);
+            assertArrayEquals(longScalar, longVector);
+            BulkArithmetic.multiply(c, d, longVector, 0, SIZE, mode);
+            BulkArithmetic.multiplyScalar(c, d, longScalar, 0, SIZE, mode);
+            assertArrayEquals(longScalar, longVector);
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Checked mode stops at the first overflow; in-place updates work")
+    void testCheckedAndInPlace() {
+        int[] a = new int[SIZE];
+        int[] b = new int[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            a[i] = i;
+            b[i] = 1;
+        }
+        BulkArithmetic.add(a, b, a, 0, SIZE, OverflowMode.CHECKED); // In place, no overflow
+        assertEquals(1, a[0]);
+        assertEquals(SIZE, a[SIZE - 1]);
+        
+        a[700] = Integer.MAX_VALUE;
+        a[900] = Integer.MAX_VALUE;
+        int[] out = new int[SIZE];
+        ArithmeticException e = assertThrows(ArithmeticException.class,
+            () -> BulkArithmetic.add(a, b, out, 0, SIZE, OverflowMode.CHECKED));
+        assertTrue(e.getMessage().contains("index 700"));
+        assertEquals(701, out[699]); // a[699] became 700 in place above
+        assertEquals(0, out[700]);
+        assertEquals(0, out[701]);
+        
+        long[] big = {1L << 40, 3, 1L << 40};
+        long[] factors = {1L << 30, 5, 1L << 20};
+        ArithmeticException longOverflow = assertThrows(ArithmeticException.class,
+            () -> new Calculator().multiply(big, factors, OverflowMode.CHECKED));
+        assertTrue(longOverflow.getMessage().contains("index 0"));
+        assertArrayEquals(new long[] {Long.MAX_VALUE, 15, 1L << 60},
+            new Calculator().multiply(big, factors, OverflowMode.SATURATING));
+        
+        assertThrows(IllegalArgumentException.class, () -> new Calculator().add(new int[2], new int[3], OverflowMode.WRAPPING));
+        assertThrows(IndexOutOfBoundsException.class, () -> BulkArithmetic.add(a, b, new int[10], 0, SIZE, OverflowMode.WRAPPING));
+    }
+    
+    @Test
+    @DisplayName("Test: isEven over an array fills a packed bitset")
+    void testEvenBits() {
+        Calculator calculator = new Calculator();
+        int[] numbers = ints(9);
+        long[] bits = calculator.isEven(numbers);
+        assertEquals((SIZE + 63) / 64, bits.length);
+        for (int i = 0; i < SIZE; i++) {
+            assertEquals(calculator.isEven(numbers[i]), (bits[i >>> 6] & (1L << i)) != 0);
+        }
+        assertEquals(0, bits[bits.length - 1] >>> (SIZE % 64)); // No bits past the end
+        
+        long[] scalar = new long[bits.length];
+        BulkArithmetic.evenBitsScalar(numbers, scalar, 0);
+        assertArrayEquals(scalar, bits);
+        assertEquals(0, calculator.isEven(new int[0]).length);
+    }
+}
@@ -0,0 +1,126 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Concurrency tests for lock-free balance updates
+ * 
+ * Demonstrates:
+ * - No lost updates when many threads deposit/withdraw at once
+ * - Withdrawal and overdraft limits hold under contention
+ */
+@DisplayName("Concurrent Account Test Suite")
+public class ConcurrentAccountTest {
+    
+    private static final int THREADS = 8;
+    private static final int OPS_PER_THREAD = 10_000;
+    
+    private ExecutorService executor;
+    
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+    
+    // Runs the same task on every thread, all released at the same moment
+    private void runConcurrently(Runnable task) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    task.run();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS), "Workers should finish");
+    }
+    
+    @Test
+    @DisplayName("Test: Concurrent deposits are never lost")
+    void testConcurrentDeposits() throws InterruptedException {
+        BankAccount account = new BankAccount("ACC100", "Concurrent", 0.0);
+        
+        runConcurrently(() -> {
+            for (int i = 0; i < OPS_PER_THREAD; i++) {
+                account.deposit(1.0);
+            }
+        });
+        
+        assertEquals(THREADS * OPS_PER_THREAD, account.getBalance(), 0.0);
+    }
+    
+    @Test
+    @DisplayName("Test: Concurrent withdrawals never overdraw a plain account")
+    void testConcurrentWithdrawals() throws InterruptedException {
+        BankAccount account = new BankAccount("ACC101", "Concurrent", 5000.0);
+        AtomicInteger succeeded = new AtomicInteger();
+        
+        runConcurrently(() -> {
+            for (int i = 0; i < OPS_PER_THREAD; i++) {
+                try {
+                    account.withdraw(1.0);
+                    succeeded.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    // Rejected - balance exhausted
+                }
+            }
+        });
+        
+        assertEquals(5000, succeeded.get());
+        assertEquals(0.0, account.getBalance(), 0.0);
+    }
+    
+    @Test
+    @DisplayName("Test: Concurrent withdrawals respect the overdraft limit")
+    void testConcurrentOverdraft() throws InterruptedException {
+        CurrentAccount account = new CurrentAccount("CUR100", "Concurrent", 1000.0, 500.0);
+        AtomicInteger succeeded = new AtomicInteger();
+        
+        runConcurrently(() -> {
+            for (int i = 0; i < OPS_PER_THREAD / 100; i++) {
+                try {
+                    account.withdraw(10.0);
+                    succeeded.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    // Rejected - overdraft limit reached
+                }
+            }
+        });
+        
+        assertEquals(150, succeeded.get());
+        assertEquals(-500.0, account.getBalance(), 0.0);
+    }
+    
+    @Test
+    @DisplayName("Test: Mixed deposits and withdrawals balance out exactly")
+    void testMixedOperations() throws InterruptedException {
+        SavingsAccount account = new SavingsAccount("SAV100", "Concurrent", 100.0);
+        
+        runConcurrently(() -> {
+            for (int i = 0; i < OPS_PER_THREAD; i++) {
+                account.deposit(2.0);
+                account.withdraw(2.0);
+            }
+        });
+        
+        assertEquals(100.0, account.getBalance(), 0.0);
+    }
+}
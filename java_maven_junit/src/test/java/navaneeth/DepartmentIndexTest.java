@@ -0,0 +1,135 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for DepartmentIndex and StringDictionary
+ * 
+ * Demonstrates:
+ * - Department names get small, stable codes
+ * - The index follows setDepartment, also under concurrent moves
+ * - Per-department queries agree with a full scan
+ */
+@DisplayName("Department Index Test Suite")
+public class DepartmentIndexTest {
+    
+    private static final String[] DEPARTMENTS = {"IT", "Sales", "HR", "Finance"};
+    
+    private static List<Manager> managers(int count) {
+        List<Manager> managers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            managers.add(new Manager("Manager " + i, i, 60_000 + i * 3.3, DEPARTMENTS[i % DEPARTMENTS.length]));
+        }
+        return managers;
+    }
+    
+    // The index must agree with scanning every manager
+    private static void assertMatchesScan(List<Manager> managers, DepartmentIndex index) {
+        for (String department : DEPARTMENTS) {
+            List<Integer> expected = new ArrayList<>();
+            BigDecimal bonus = BigDecimal.ZERO;
+            for (Manager manager : managers) {
+                if (department.equals(manager.getDepartment())) {
+                    expected.add(manager.getEmployeeId());
+                    bonus = bonus.add(new BigDecimal(manager.calculateBonus()));
+                }
+            }
+            int[] ids = index.getMemberIds(department);
+            Arrays.sort(ids);
+            assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), ids);
+            assertEquals(bonus.doubleValue(), index.bonusPool(department));
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Dictionary codes are dense and stable")
+    void testDictionary() {
+        StringDictionary dictionary = new StringDictionary();
+        assertEquals(0, dictionary.encode("IT"));
+        assertEquals(1, dictionary.encode("Sales"));
+        assertEquals(0, dictionary.encode("IT"));
+        assertEquals(StringDictionary.UNKNOWN, dictionary.lookup("HR"));
+        assertEquals("Sales", dictionary.decode(1));
+        assertThrows(IllegalArgumentException.class, () -> dictionary.decode(2));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i + 2, dictionary.encode("Dept " + i));
+        }
+        assertEquals(102, dictionary.size());
+    }
+    
+    @Test
+    @DisplayName("Test: Index follows setDepartment")
+    void testFollowsDepartmentChanges() {
+        Manager jane = new Manager("Jane Smith", 2, 80000, "IT");
+        Manager bob = new Manager("Bob Lee", 3, 90000, "IT");
+        DepartmentIndex index = new DepartmentIndex();
+        index.trackAll(List.of(new Employee("John Doe", 1, 50000), jane, bob));
+        
+        assertEquals(2, index.size("IT"));
+        jane.setDepartment("Sales");
+        assertEquals(List.of(bob), index.getMembers("IT"));
+        assertEquals(List.of(jane), index.getMembers("Sales"));
+        assertEquals(16000, index.bonusPool("Sales"), 0.0001);
+        
+        bob.setDepartment(null);
+        assertEquals(0, index.size("IT"));
+        assertEquals(List.of("Sales"), index.getDepartments());
+        
+        assertTrue(index.untrack(jane));
+        jane.setDepartment("IT");
+        assertEquals(0, index.size("IT"));
+        assertEquals(0, index.size("Sales"));
+        assertThrows(IllegalStateException.class, () -> index.track(bob));
+    }
+    
+    @Test
+    @DisplayName("Test: Queries agree with a full scan after random moves")
+    void testMatchesScan() {
+        List<Manager> managers = managers(1_000);
+        DepartmentIndex index = new DepartmentIndex();
+        index.trackAll(managers);
+        
+        Random random = new Random(5);
+        for (int i = 0; i < 10_000; i++) {
+            managers.get(random.nextInt(managers.size())).setDepartment(DEPARTMENTS[random.nextInt(DEPARTMENTS.length)]);
+        }
+        assertMatchesScan(managers, index);
+    }
+    
+    @Test
+    @DisplayName("Test: Concurrent moves keep the index consistent")
+    void testConcurrentMoves() throws InterruptedException {
+        List<Manager> managers = managers(500);
+        DepartmentIndex index = new DepartmentIndex();
+        index.trackAll(managers);
+        
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            long seed = t;
+            threads[t] = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < 20_000; i++) {
+                    Manager manager = managers.get(random.nextInt(managers.size()));
+                    manager.setDepartment(DEPARTMENTS[random.nextInt(DEPARTMENTS.length)]);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        
+        int total = 0;
+        for (String department : DEPARTMENTS) {
+            total += index.size(department);
+        }
+        assertEquals(managers.size(), total);
+        assertMatchesScan(managers, index);
+    }
+}
@@ -0,0 +1,126 @@
+package navaneeth;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Benchmark for EmployeeIdMap against HashMap<Integer, Employee>
+ * - Memory: heap retained by the map alone (the Employee objects are shared), per entry
+ * - put: ns per insert into a presized map; get: ns per random lookup of a present id
+ * - concurrent: ns per ConcurrentEmployeeIdMap.get (optimistic read)
+ * - A main()-based harness in the style of the other benchmarks (no JMH in this build)
+ * - Not a JUnit test: run with
+ *   java -cp target/classes:target/test-classes navaneeth.EmployeeIdMapBenchmark [employees] [rounds]
+ */
+public class EmployeeIdMapBenchmark {
+    
+    private static Object retained; // Keeps the measured map reachable
+    
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        
+        Employee[] staff = new Employee[count];
+        Random random = new Random(1);
+        for (int i = 0; i < count; i++) {
+            staff[i] = new Employee("E" + i, random.nextInt(Integer.MAX_VALUE), i); // Sparse ids
+        }
+        int[] probes = new int[1 << 20];
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = staff[random.nextInt(count)].getEmployeeId();
+        }
+        
+        System.out.printf("HashMap:       %.1f bytes/entry%n", footprint(() -> {
+            Map<Integer, Employee> map = new HashMap<>();
+            for (Employee employee : staff) {
+                map.put(employee.getEmployeeId(), employee);
+            }
+            return map;
+        }) / count);
+        System.out.printf("EmployeeIdMap: %.1f bytes/entry%n", footprint(() -> {
+            EmployeeIdMap map = new EmployeeIdMap();
+            for (Employee employee : staff) {
+                map.put(employee);
+            }
+            return map;
+        }) / count);
+        retained = null;
+        
+        long sink = 0;
+        for (int round = 0; round < rounds; round++) {
+            boolean report = round == rounds - 1; // Earlier rounds warm up
+            
+            long start = System.nanoTime();
+            Map<Integer, Employee> hashMap = new HashMap<>(count * 2);
+            for (Employee employee : staff) {
+                hashMap.put(employee.getEmployeeId(), employee);
+            }
+            long hashPut = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            EmployeeIdMap idMap = new EmployeeIdMap(count);
+            for (Employee employee : staff) {
+                idMap.put(employee);
+            }
+            long idPut = System.nanoTime() - start;
+            
+            ConcurrentEmployeeIdMap concurrentMap = new ConcurrentEmployeeIdMap(count);
+            for (Employee employee : staff) {
+                concurrentMap.add(employee);
+            }
+            
+            start = System.nanoTime();
+            for (int probe : probes) {
+                sink += hashMap.get(probe).getEmployeeId();
+            }
+            long hashGet = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            for (int probe : probes) {
+                sink += idMap.get(probe).getEmployeeId();
+            }
+            long idGet = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            for (int probe : probes) {
+                sink += concurrentMap.get(probe).getEmployeeId();
+            }
+            long concurrentGet = System.nanoTime() - start;
+            
+            for (Employee employee : staff) {
+                concurrentMap.remove(employee); // Unsubscribe before the next round adds again
+            }
+            if (report) {
+                System.out.printf("put: HashMap %.1f ns, EmployeeIdMap %.1f ns%n",
+                    hashPut / (double) count, idPut / (double) count);
+                System.out.printf("get: HashMap %.1f ns, EmployeeIdMap %.1f ns, ConcurrentEmployeeIdMap %.1f ns%n",
+                    hashGet / (double) probes.length, idGet / (double) probes.length,
+                    concurrentGet / (double) probes.length);
+            }
+        }
+        if (sink == 42) {
+            System.out.println(sink);
+        }
+    }
+    
+    private interface Builder {
+        Object build();
+    }
+    
+    // Heap growth while the built map is the only new reachable object
+    private static double footprint(Builder builder) {
+        retained = null;
+        long before = usedHeap();
+        retained = builder.build();
+        return usedHeap() - before;
+    }
+    
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,177 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for EmployeeIdMap and ConcurrentEmployeeIdMap
+ * 
+ * Demonstrates:
+ * - The primitive map behaves like HashMap<Integer, Employee> under random puts and removes
+ * - Negative, zero and colliding ids work
+ * - setEmployeeId re-keys tracked employees; readers never see a wrong employee
+ * - The documented window between an id change and the re-key
+ */
+@DisplayName("Employee Id Map Test Suite")
+public class EmployeeIdMapTest {
+    
+    @Test
+    @DisplayName("Test: Matches HashMap under random operations")
+    void testMatchesHashMap() {
+        EmployeeIdMap map = new EmployeeIdMap();
+        Map<Integer, Employee> expected = new HashMap<>();
+        Random random = new Random(3);
+        for (int i = 0; i < 200_000; i++) {
+            int id = random.nextInt(5_000) - 2_500;
+            if (random.nextInt(3) == 0) {
+                assertSame(expected.remove(id), map.remove(id));
+            } else {
+                Employee employee = new Employee("E" + id, id, i);
+                assertSame(expected.put(id, employee), map.put(employee));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (int id = -2_500; id < 2_500; id++) {
+            assertSame(expected.get(id), map.get(id));
+        }
+        AtomicInteger visited = new AtomicInteger();
+        map.forEach(employee -> {
+            assertSame(expected.get(employee.getEmployeeId()), employee);
+            visited.incrementAndGet();
+        });
+        assertEquals(expected.size(), visited.get());
+    }
+    
+    @Test
+    @DisplayName("Test: Colliding probe runs survive removal")
+    void testCollidingIds() {
+        EmployeeIdMap map = new EmployeeIdMap(4);
+        // Small table and many entries: long probe runs that removal must keep intact
+        for (int i = 0; i < 100; i++) {
+            map.put(new Employee("E" + i, i << 16, i));
+        }
+        for (int i = 0; i < 100; i += 2) {
+            assertNotNull(map.remove(i << 16));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 == 1, map.containsKey(i << 16), "id " + (i << 16));
+        }
+        assertEquals(50, map.size());
+        assertThrows(IllegalArgumentException.class, () -> map.put(1, null));
+        
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(Integer.MIN_VALUE));
+    }
+    
+    @Test
+    @DisplayName("Test: setEmployeeId re-keys tracked employees")
+    void testRekeying() {
+        ConcurrentEmployeeIdMap map = new ConcurrentEmployeeIdMap();
+        Employee john = new Employee("John Doe", 1, 50000);
+        Manager jane = new Manager("Jane Smith", 2, 80000, "IT");
+        map.add(john);
+        map.add(jane);
+        assertThrows(IllegalStateException.class, () -> map.add(john));
+        
+        john.setEmployeeId(10);
+        assertNull(map.get(1));
+        assertSame(john, map.get(10));
+        
+        jane.setEmployeeId(10); // Takes the id; john drops out until his id changes
+        assertSame(jane, map.get(10));
+        assertNull(map.get(2));
+        assertEquals(1, map.size());
+        john.setEmployeeId(11);
+        assertSame(john, map.get(11));
+        assertSame(jane, map.get(10));
+        
+        assertTrue(map.remove(john));
+        assertFalse(map.remove(john));
+        john.setEmployeeId(12);
+        assertNull(map.get(12));
+        assertEquals(1, map.size());
+    }
+    
+    @Test
+    @DisplayName("Test: Lookups between an id change and the re-key")
+    void testRekeyWindow() {
+        ConcurrentEmployeeIdMap map = new ConcurrentEmployeeIdMap();
+        Employee john = new Employee("John Doe", 1, 50000);
+        AtomicInteger observed = new AtomicInteger();
+        // Registered before the map, so it runs after the id field changed but before the re-key
+        john.addListener(new EmployeeListener() {
+            @Override
+            public void employeeIdChanged(Employee employee, int oldId, int newId) {
+                assertSame(john, map.get(oldId));
+                assertEquals(newId, john.getEmployeeId());
+                assertNull(map.get(newId));
+                observed.incrementAndGet();
+            }
+            
+            @Override
+            public void salaryChanged(Employee employee, double oldSalary, double newSalary) {
+            }
+            
+            @Override
+            public void departmentChanged(Manager manager, String oldDepartment, String newDepartment) {
+            }
+        });
+        map.add(john);
+        
+        john.setEmployeeId(2);
+        assertEquals(1, observed.get());
+        assertNull(map.get(1));
+        assertSame(john, map.get(2));
+    }
+    
+    @Test
+    @DisplayName("Test: Concurrent readers never see a wrong employee")
+    void testConcurrentReaders() throws InterruptedException {
+        ConcurrentEmployeeIdMap map = new ConcurrentEmployeeIdMap();
+        Employee[] staff = new Employee[1_000];
+        for (int i = 0; i < staff.length; i++) {
+            staff[i] = new Employee("E" + i, i, i);
+            map.add(staff[i]);
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger wrong = new AtomicInteger();
+        Thread[] readers = new Thread[3];
+        for (int t = 0; t < readers.length; t++) {
+            readers[t] = new Thread(() -> {
+                Random random = new Random();
+                while (running.get()) {
+                    int id = random.nextInt(100_000);
+                    Employee found = map.get(id);
+                    // A hit is the employee with this id or, in the documented re-key window, the
+                    // one that had it until just now. Re-keying here keeps id % 1000, so any
+                    // employee with another remainder is a wrong hit
+                    if (found != null && found.getEmployeeId() != id && found.getEmployeeId() % 1_000 != id % 1_000) {
+                        wrong.incrementAndGet();
+                    }
+                }
+            });
+            readers[t].start();
+        }
+        Random random = new Random(9);
+        for (int i = 0; i < 50_000; i++) {
+            Employee employee = staff[random.nextInt(staff.length)];
+            employee.setEmployeeId(employee.getEmployeeId() % 1_000 + 1_000 * random.nextInt(100));
+        }
+        running.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        
+        assertEquals(0, wrong.get());
+        assertEquals(staff.length, map.size());
+        for (Employee employee : staff) {
+            assertSame(employee, map.get(employee.getEmployeeId()));
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for EmployeeRoster
+ * 
+ * Demonstrates:
+ * - Per-record bonuses match calculateBonus() bit for bit
+ * - Parallel totals equal the exact sum of the object path, whatever the pool size
+ * - Rows round-trip back to equivalent objects
+ */
+@DisplayName("Employee Roster Test Suite")
+public class EmployeeRosterTest {
+    
+    private static List<Employee> staff(int count, long seed) {
+        Random random = new Random(seed);
+        List<Employee> staff = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            double salary = random.nextInt(20_000_000) / 100.0 + random.nextDouble();
+            staff.add(i % 7 == 0
+                ? new Manager("Manager " + i, i, salary, "Dept " + (i % 5))
+                : new Employee("Employee " + i, i, salary));
+        }
+        return staff;
+    }
+    
+    @Test
+    @DisplayName("Test: Per-record bonus is identical to calculateBonus()")
+    void testBonusMatchesObjects() {
+        List<Employee> staff = staff(1_000, 1);
+        EmployeeRoster roster = EmployeeRoster.of(staff);
+        
+        assertEquals(staff.size(), roster.size());
+        for (int row = 0; row < staff.size(); row++) {
+            assertEquals(Double.doubleToLongBits(staff.get(row).calculateBonus()),
+                Double.doubleToLongBits(roster.bonusAt(row)));
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Totals equal the exact sum of the object path")
+    void testTotalsAreExact() {
+        List<Employee> staff = staff(100_000, 2);
+        BigDecimal salary = BigDecimal.ZERO;
+        BigDecimal bonus = BigDecimal.ZERO;
+        int managers = 0;
+        for (Employee employee : staff) {
+            salary = salary.add(new BigDecimal(employee.getSalary()));
+            bonus = bonus.add(new BigDecimal(employee.calculateBonus()));
+            managers += employee instanceof Manager ? 1 : 0;
+        }
+        
+        EmployeeRoster.PayrollTotals totals = EmployeeRoster.of(staff).computeTotals();
+        assertEquals(salary.doubleValue(), totals.getTotalSalary());
+        assertEquals(bonus.doubleValue(), totals.getTotalBonus());
+        assertEquals(managers, totals.getManagerCount());
+        assertEquals(staff.size() - managers, totals.getEmployeeCount());
+    }
+    
+    @Test
+    @DisplayName("Test: Totals do not depend on the pool size")
+    void testDeterministicAcrossPools() {
+        List<Employee> staff = staff(200_000, 3);
+        double salary = Double.NaN;
+        double bonus = Double.NaN;
+        for (int parallelism : new int[] {1, 2, 7}) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                EmployeeRoster roster = new EmployeeRoster(16, pool);
+                staff.forEach(roster::add);
+                EmployeeRoster.PayrollTotals totals = roster.computeTotals();
+                if (parallelism > 1) {
+                    assertEquals(salary, totals.getTotalSalary());
+                    assertEquals(bonus, totals.getTotalBonus());
+                }
+                salary = totals.getTotalSalary();
+                bonus = totals.getTotalBonus();
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Rows round-trip to equivalent objects")
+    void testRoundTrip() {
+        EmployeeRoster roster = new EmployeeRoster();
+        roster.add(new Employee("John Doe", 1, 50000));
+        roster.add(new Manager("Jane Smith", 2, 80000, "IT"));
+        roster.add(new Manager("Bob Lee", 3, 90000, "IT"));
+        
+        assertEquals(EmployeeRole.MANAGER, roster.getRole(1));
+        assertEquals(roster.getDepartmentId(1), roster.getDepartmentId(2));
+        assertEquals(EmployeeRoster.NO_DEPARTMENT, roster.getDepartmentId(0));
+        assertEquals("Employee{id=1, name='John Doe', salary=50000.0}", roster.toEmployee(0).toString());
+        assertEquals(new Manager("Jane Smith", 2, 80000, "IT").toString(), roster.toEmployee(1).toString());
+        assertThrows(IndexOutOfBoundsException.class, () -> roster.getSalary(3));
+    }
+    
+    @Test
+    @DisplayName("Test: Unknown subclasses are rejected")
+    void testUnsupportedSubclass() {
+        Employee contractor = new Employee("Contractor", 9, 1000) {
+            @Override
+            public double calculateBonus() {
+                return 0;
+            }
+        };
+        assertThrows(IllegalArgumentException.class, () -> new EmployeeRoster().add(contractor));
+    }
+    
+    @Test
+    @DisplayName("Test: Exact summation survives cancellation")
+    void testExactSumCancellation() {
+        ExactSum sum = new ExactSum();
+        sum.add(1e308);
+        sum.add(1.0);
+        sum.add(1e308);
+        sum.subtract(1e308);
+        sum.subtract(1e308);
+        assertEquals(1.0, sum.doubleValue());
+        
+        sum.reset();
+        sum.add(0.1);
+        sum.add(0.2);
+        assertEquals(new BigDecimal(0.1).add(new BigDecimal(0.2)).doubleValue(), sum.doubleValue());
+        sum.add(-0.3);
+        assertEquals(new BigDecimal(0.1).add(new BigDecimal(0.2)).subtract(new BigDecimal(0.3)).doubleValue(),
+            sum.doubleValue());
+    }
+}
@@ -0,0 +1,125 @@
+package navaneeth;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Benchmark for EntitySnapshotReader against rebuilding from text
+ * - text: reads a CSV-like dump line by line, splits and parses it into objects (today's startup)
+ * - open: maps the binary snapshot; objects are built on first access
+ * - open+touch 1%: open, then materialize a spread-out 1% of the records
+ * - open+all: open, then materialize every record (the worst case for the lazy reader)
+ * - Not a JUnit test: run with
+ *   java -cp target/classes:target/test-classes navaneeth.EntitySnapshotBenchmark [records] [rounds]
+ */
+public class EntitySnapshotBenchmark {
+    
+    public static void main(String[] args) throws IOException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        
+        Path dir = Files.createTempDirectory("entity-snapshot-bench");
+        Path text = dir.resolve("entities.csv");
+        Path snapshot = dir.resolve("entities.snap");
+        try (BufferedWriter out = Files.newBufferedWriter(text);
+             EntitySnapshotWriter writer = EntitySnapshotWriter.open(snapshot)) {
+            for (int i = 0; i < count; i++) {
+                switch (i % 4) {
+                    case 0:
+                        Employee employee = new Employee("Employee " + i, i, 30_000 + i % 50_000);
+                        out.write("E," + i + "," + employee.getName() + "," + employee.getSalary() + "\n");
+                        writer.write(employee);
+                        break;
+                    case 1:
+                        Manager manager = new Manager("Manager " + i, i, 90_000, "Dept " + (i % 40));
+                        out.write("M," + i + "," + manager.getName() + "," + manager.getSalary() + ","
+                            + manager.getDepartment() + "\n");
+                        writer.write(manager);
+                        break;
+                    case 2:
+                        out.write("S,SAV" + i + ",Holder " + i + "," + i * 13L + "\n");
+                        writer.write(SavingsAccount.ofCents("SAV" + i, "Holder " + i, i * 13L));
+                        break;
+                    default:
+                        out.write("C,CUR" + i + ",Holder " + i + "," + -i + ",100000\n");
+                        writer.write(CurrentAccount.ofCents("CUR" + i, "Holder " + i, -i, 100_000));
+                        break;
+                }
+            }
+        }
+        System.out.printf("%,d records: text %,d bytes, snapshot %,d bytes%n", count, Files.size(text), Files.size(snapshot));
+        
+        long sink = 0;
+        for (int round = 0; round < rounds; round++) {
+            boolean report = round == rounds - 1; // Earlier rounds warm up
+            
+            long start = System.nanoTime();
+            Object[] rebuilt = rebuild(text, count);
+            long textNanos = System.nanoTime() - start;
+            sink += rebuilt.length;
+            rebuilt = null;
+            
+            start = System.nanoTime();
+            EntitySnapshotReader reader = EntitySnapshotReader.open(snapshot);
+            long openNanos = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            reader = EntitySnapshotReader.open(snapshot);
+            for (int i = 0; i < count; i += 100) {
+                sink += reader.get(i).hashCode();
+            }
+            long touchNanos = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            reader = EntitySnapshotReader.open(snapshot);
+            for (int i = 0; i < count; i++) {
+                sink += reader.get(i).hashCode();
+            }
+            long allNanos = System.nanoTime() - start;
+            
+            if (report) {
+                System.out.printf("text rebuild:      %8.1f ms%n", textNanos / 1e6);
+                System.out.printf("open:              %8.3f ms (%.0fx faster)%n", openNanos / 1e6, textNanos / (double) openNanos);
+                System.out.printf("open + touch 1%%:   %8.1f ms (%.1fx faster)%n", touchNanos / 1e6, textNanos / (double) touchNanos);
+                System.out.printf("open + all:        %8.1f ms (%.1fx faster)%n", allNanos / 1e6, textNanos / (double) allNanos);
+            }
+        }
+        if (sink == 42) {
+            System.out.println(sink);
+        }
+        Files.deleteIfExists(text);
+        Files.deleteIfExists(snapshot);
+        Files.deleteIfExists(dir);
+    }
+    
+    private static Object[] rebuild(Path text, int count) throws IOException {
+        Object[] entities = new Object[count];
+        try (BufferedReader in = Files.newBufferedReader(text)) {
+            String line;
+            int i = 0;
+            while ((line = in.readLine()) != null) {
+                String[] fields = line.split(",");
+                switch (fields[0]) {
+                    case "E":
+                        entities[i++] = new Employee(fields[2], Integer.parseInt(fields[1]), Double.parseDouble(fields[3]));
+                        break;
+                    case "M":
+                        entities[i++] = new Manager(fields[2], Integer.parseInt(fields[1]),
+                            Double.parseDouble(fields[3]), fields[4]);
+                        break;
+                    case "S":
+                        entities[i++] = SavingsAccount.ofCents(fields[1], fields[2], Long.parseLong(fields[3]));
+                        break;
+                    default:
+                        entities[i++] = CurrentAccount.ofCents(fields[1], fields[2], Long.parseLong(fields[3]),
+                            Long.parseLong(fields[4]));
+                        break;
+                }
+            }
+        }
+        return entities;
+    }
+}
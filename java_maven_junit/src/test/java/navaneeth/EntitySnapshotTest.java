@@ -0,0 +1,146 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for EntitySnapshotWriter and EntitySnapshotReader
+ * 
+ * Demonstrates:
+ * - Employees, Managers and every account class round-trip exactly
+ * - Records are materialized lazily and cached; strings are stored once
+ * - Wrong or newer files are rejected
+ */
+@DisplayName("Entity Snapshot Test Suite")
+public class EntitySnapshotTest {
+    
+    @TempDir
+    Path dir;
+    
+    private static List<Object> entities(int count) {
+        List<Object> entities = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int kind = i % 5;
+            if (kind == 0) {
+                entities.add(new Employee("Employee " + i, i - 50, 30_000 + i * 0.37));
+            } else if (kind == 1) {
+                entities.add(new Manager("Manager " + i, i, 80_000.5, i % 3 == 0 ? null : "Dept " + (i % 4)));
+            } else if (kind == 2) {
+                entities.add(SavingsAccount.ofCents("SAV" + i, "Holder " + (i % 10), i * 131L));
+            } else if (kind == 3) {
+                entities.add(CurrentAccount.ofCents("CUR" + i, "Holder " + (i % 10), -i * 7L, 100_000 + i));
+            } else {
+                entities.add(BankAccount.ofCents("BAS" + i, "Hölder ✓ " + (i % 10), Long.MIN_VALUE + i));
+            }
+        }
+        return entities;
+    }
+    
+    private Path write(List<Object> entities) throws IOException {
+        Path file = dir.resolve("entities.snap");
+        try (EntitySnapshotWriter writer = EntitySnapshotWriter.open(file)) {
+            for (Object entity : entities) {
+                if (entity instanceof Employee) {
+                    writer.write((Employee) entity);
+                } else {
+                    writer.write((BankAccount) entity);
+                }
+            }
+            assertEquals(entities.size(), writer.getRecordCount());
+        }
+        return file;
+    }
+    
+    private static String describe(Object entity) {
+        if (entity instanceof CurrentAccount) {
+            CurrentAccount account = (CurrentAccount) entity;
+            return account.getClass().getSimpleName() + account.getAccountNumber() + account.getAccountHolderName()
+                + account.getBalanceCents() + "/" + account.getOverdraftLimitCents();
+        }
+        if (entity instanceof BankAccount) {
+            BankAccount account = (BankAccount) entity;
+            return account.getClass().getSimpleName() + account.getAccountNumber() + account.getAccountHolderName()
+                + account.getBalanceCents();
+        }
+        return entity.toString();
+    }
+    
+    @Test
+    @DisplayName("Test: Every entity class round-trips")
+    void testRoundTrip() throws IOException {
+        List<Object> entities = entities(1_000);
+        EntitySnapshotReader reader = EntitySnapshotReader.open(write(entities));
+        
+        assertEquals(entities.size(), reader.size());
+        for (int i = entities.size() - 1; i >= 0; i--) { // Backwards, so every block is entered cold
+            assertEquals(describe(entities.get(i)), describe(reader.get(i)));
+            assertEquals(entities.get(i) instanceof Employee, reader.isEmployee(i));
+        }
+        assertEquals(80_000.5, reader.getEmployee(1).calculateBonus() / 0.2, 1e-9);
+        assertThrows(IllegalStateException.class, () -> reader.getAccount(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> reader.get(1_000));
+    }
+    
+    @Test
+    @DisplayName("Test: Records are materialized lazily and cached")
+    void testLazy() throws IOException {
+        EntitySnapshotReader reader = EntitySnapshotReader.open(write(entities(10_000)));
+        assertEquals(0, reader.getMaterializedCount());
+        
+        Employee employee = reader.getEmployee(5_000);
+        assertEquals(1, reader.getMaterializedCount());
+        assertSame(employee, reader.getEmployee(5_000));
+        assertEquals(1, reader.getMaterializedCount());
+        
+        // Holder names repeat, so they share one dictionary entry and one String
+        assertSame(reader.getAccount(2).getAccountHolderName(), reader.getAccount(12).getAccountHolderName());
+    }
+    
+    @Test
+    @DisplayName("Test: Repeated strings are stored once")
+    void testCompact() throws IOException {
+        List<Object> entities = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            entities.add(new Manager("Same Name", i, 1000, "Sales"));
+        }
+        Path file = write(entities);
+        EntitySnapshotReader reader = EntitySnapshotReader.open(file);
+        assertEquals(2, reader.getDictionarySize());
+        assertTrue(Files.size(file) < 10_000 * 16L, "Size " + Files.size(file));
+    }
+    
+    @Test
+    @DisplayName("Test: Foreign and newer files are rejected")
+    void testHeaderChecks() throws IOException {
+        Path file = write(entities(10));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, 2), 4);
+        }
+        assertThrows(IllegalStateException.class, () -> EntitySnapshotReader.open(file));
+        
+        Path text = dir.resolve("text.snap");
+        Files.writeString(text, "E,1,John Doe,50000.0\n".repeat(10));
+        assertThrows(IllegalStateException.class, () -> EntitySnapshotReader.open(text));
+    }
+    
+    @Test
+    @DisplayName("Test: Empty snapshot and rejected classes")
+    void testEdgeCases() throws IOException {
+        Path file = dir.resolve("empty.snap");
+        try (EntitySnapshotWriter writer = EntitySnapshotWriter.open(file)) {
+            assertThrows(IllegalArgumentException.class,
+                () -> writer.write(new Employee("X", 1, 1) { }));
+        }
+        assertEquals(0, EntitySnapshotReader.open(file).size());
+    }
+}
@@ -0,0 +1,78 @@
+package navaneeth;
+
+import java.util.Random;
+
+/**
+ * Benchmark for ShapeColumns/GeometryKernel against the Shape object path
+ * - objects: sums calculateArea() and calculatePerimeter() over a Shape[] (virtual calls)
+ * - columns: ShapeColumns.totalArea() and totalPerimeter() (Vector API when available)
+ * - scalar: the GeometryKernel scalar fallback over the same columns
+ * - A main()-based harness in the style of the other benchmarks (no JMH in this build)
+ * - Not a JUnit test: run with
+ *   java --add-modules jdk.incubator.vector -cp target/classes:target/test-classes navaneeth.GeometryBenchmark [shapes] [rounds]
+ */
+public class GeometryBenchmark {
+    
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        
+        Random random = new Random(1);
+        Shape[] shapes = new Shape[count];
+        ShapeColumns columns = new ShapeColumns();
+        for (int i = 0; i < count; i++) {
+            shapes[i] = random.nextBoolean()
+                ? new Circle("red", random.nextDouble() * 100)
+                : new Rectangle("blue", random.nextDouble() * 100, random.nextDouble() * 100);
+            columns.add(shapes[i]);
+        }
+        double[] radii = new double[columns.getCircleCount()];
+        double[] lengths = new double[columns.getRectangleCount()];
+        double[] widths = new double[columns.getRectangleCount()];
+        for (int i = 0; i < radii.length; i++) {
+            radii[i] = columns.getRadius(i);
+        }
+        for (int i = 0; i < lengths.length; i++) {
+            lengths[i] = columns.getLength(i);
+            widths[i] = columns.getWidth(i);
+        }
+        System.out.println("Vector API: " + (VectorSupport.AVAILABLE ? "on" : "off"));
+        
+        double sink = 0;
+        for (int round = 0; round < rounds; round++) {
+            boolean report = round == rounds - 1; // Earlier rounds warm up
+            
+            long start = System.nanoTime();
+            double area = 0;
+            double perimeter = 0;
+            for (Shape shape : shapes) {
+                area += shape.calculateArea();
+                perimeter += shape.calculatePerimeter();
+            }
+            long objects = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            double columnArea = columns.totalArea();
+            double columnPerimeter = columns.totalPerimeter();
+            long kernel = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            double scalarArea = GeometryKernel.sumCircleAreasScalar(radii, 0, radii.length)
+                + GeometryKernel.sumRectangleAreasScalar(lengths, widths, 0, lengths.length);
+            double scalarPerimeter = GeometryKernel.sumCirclePerimetersScalar(radii, 0, radii.length)
+                + GeometryKernel.sumRectanglePerimetersScalar(lengths, widths, 0, lengths.length);
+            long scalar = System.nanoTime() - start;
+            
+            sink += area + perimeter + columnArea + columnPerimeter + scalarArea + scalarPerimeter;
+            if (report) {
+                System.out.printf("objects: %.1f M shapes/s%n", count / 1e6 / (objects / 1e9));
+                System.out.printf("columns: %.1f M shapes/s (relative difference %.1e)%n",
+                    count / 1e6 / (kernel / 1e9), Math.abs(columnArea - area) / area);
+                System.out.printf("scalar:  %.1f M shapes/s%n", count / 1e6 / (scalar / 1e9));
+            }
+        }
+        if (sink == 42) {
+            System.out.println(sink);
+        }
+    }
+}
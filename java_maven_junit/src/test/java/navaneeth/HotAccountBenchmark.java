@@ -0,0 +1,69 @@
+package navaneeth;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark for hot-account deposits
+ * - Many threads deposit into one account; compares a single AtomicLong balance (the pre-striping
+ *   behaviour) with BankAccount, which switches itself to striped cells under contention
+ * - Not a JUnit test: run with
+ *   java -cp target/classes:target/test-classes navaneeth.HotAccountBenchmark [seconds]
+ */
+public class HotAccountBenchmark {
+    
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32};
+    
+    public static void main(String[] args) throws InterruptedException {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 2;
+        
+        System.out.printf("%-8s %18s %18s %6s%n", "threads", "AtomicLong ops/s", "BankAccount ops/s", "hot");
+        for (int threads : THREAD_COUNTS) {
+            AtomicLong single = new AtomicLong();
+            double atomic = run(threads, seconds, () -> single.addAndGet(1));
+            
+            BankAccount account = BankAccount.ofCents("HOT001", "Merchant", 0);
+            double striped = run(threads, seconds, () -> account.depositCents(1));
+            boolean hot = account.isHotMode();
+            if (account.getBalanceCents() <= 0) {
+                throw new IllegalStateException("Deposits lost");
+            }
+            System.out.printf("%-8d %18.0f %18.0f %6s%n", threads, atomic, striped, hot);
+        }
+    }
+    
+    private static double run(int threads, int seconds, Runnable deposit) throws InterruptedException {
+        long[] operations = new long[threads];
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            workers[t] = new Thread(() -> {
+                long ops = 0;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (System.nanoTime() < deadline) {
+                    for (int i = 0; i < 100; i++) {
+                        deposit.run();
+                    }
+                    ops += 100;
+                }
+                operations[id] = ops;
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long total = 0;
+        for (long ops : operations) {
+            total += ops;
+        }
+        return total / (double) seconds;
+    }
+}
@@ -0,0 +1,89 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the hot-account (striped deposit) mode of BankAccount
+ * 
+ * Demonstrates:
+ * - Deposits spread over cells are exact once getBalance or a withdrawal folds them
+ * - Repeated deposit contention switches an account into hot mode
+ * - Folds that see no concurrent deposits switch it back
+ */
+@DisplayName("Hot Account Test Suite")
+public class HotAccountTest {
+    
+    @Test
+    @DisplayName("Test: Concurrent deposits and withdrawals stay exact in hot mode")
+    void testHotModeIsExact() throws Exception {
+        CurrentAccount account = CurrentAccount.ofCents("CUR001", "Merchant", 0, 10_000);
+        account.enterHotMode();
+        assertTrue(account.isHotMode());
+        
+        int threads = 8;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            futures.add(executor.submit(() -> {
+                int withdrawn = 0;
+                for (int i = 0; i < perThread; i++) {
+                    account.depositCents(3);
+                    if (id == 0 && i % 100 == 0 && account.tryWithdrawCents(50)) {
+                        withdrawn++;
+                    }
+                }
+                return withdrawn;
+            }));
+        }
+        long withdrawn = 0;
+        for (Future<Integer> future : futures) {
+            withdrawn += future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        
+        assertEquals(threads * perThread * 3L - withdrawn * 50, account.getBalanceCents());
+        assertTrue(account.getBalanceCents() >= -account.getOverdraftLimitCents());
+    }
+    
+    @Test
+    @DisplayName("Test: Contention switches hot mode on, quiet folds switch it off")
+    void testAutomaticSwitching() {
+        SavingsAccount account = SavingsAccount.ofCents("SAV001", "Merchant", 1_000);
+        // Retries cover a contention window expiring mid-loop on a slow or busy machine
+        for (int i = 0; i < BankAccount.HOT_CONTENTION_THRESHOLD * 1_000 && !account.isHotMode(); i++) {
+            account.recordContendedDeposit();
+        }
+        assertTrue(account.isHotMode());
+        
+        // One depositor at a time: every fold finds at most one busy cell
+        for (int i = 0; i < BankAccount.COOL_DOWN_FOLDS; i++) {
+            account.depositCents(100);
+            assertEquals(1_100 + i * 100L, account.getBalanceCents());
+        }
+        assertFalse(account.isHotMode());
+        account.withdrawCents(800);
+        assertEquals(1_000, account.getBalanceCents());
+        assertEquals(50, account.calculateInterestCents());
+    }
+    
+    @Test
+    @DisplayName("Test: Leaving hot mode keeps pending deposits")
+    void testLeaveHotMode() {
+        BankAccount account = BankAccount.ofCents("ACC001", "Merchant", 0);
+        account.enterHotMode();
+        account.deposit(12.34);
+        account.leaveHotMode();
+        assertFalse(account.isHotMode());
+        account.deposit(0.66);
+        assertEquals(13.0, account.getBalance(), 0.001);
+    }
+}
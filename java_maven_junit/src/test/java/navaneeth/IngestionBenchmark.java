@@ -0,0 +1,91 @@
+package navaneeth;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Benchmark for TransactionIngestor under a bursty target rate
+ * - A producer offers bursts of transactions every 10 ms to reach targetRate per second
+ * - Reports the achieved rate, the highest pending count (queue depth) and heap in use
+ * - Not a JUnit test: run with
+ *   java -cp target/classes:target/test-classes navaneeth.IngestionBenchmark [targetRate] [seconds] [window]
+ */
+public class IngestionBenchmark {
+    
+    private static final int ACCOUNTS = 10_000;
+    private static final int BURSTS_PER_SECOND = 100;
+    
+    public static void main(String[] args) throws Exception {
+        int targetRate = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        int window = args.length > 2 ? Integer.parseInt(args[2]) : 4_096;
+        
+        Map<String, BankAccount> accounts = new HashMap<>();
+        String[] numbers = new String[ACCOUNTS];
+        for (int i = 0; i < ACCOUNTS; i++) {
+            numbers[i] = "ACC" + i;
+            accounts.put(numbers[i], CurrentAccount.ofCents(numbers[i], "Holder " + i, 1_000_000, 100_000));
+        }
+        TransactionIngestor ingestor = new TransactionIngestor(accounts,
+            Runtime.getRuntime().availableProcessors(), 64, window);
+        LongAdder results = new LongAdder();
+        ingestor.subscribe(new Flow.Subscriber<TransactionResult>() {
+            private Flow.Subscription subscription;
+            
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(Long.MAX_VALUE);
+            }
+            
+            @Override
+            public void onNext(TransactionResult item) {
+                results.increment();
+            }
+            
+            @Override
+            public void onError(Throwable throwable) {
+            }
+            
+            @Override
+            public void onComplete() {
+            }
+        });
+        
+        SubmissionPublisher<Transaction> source = new SubmissionPublisher<>();
+        CompletableFuture<Void> done = ingestor.ingest(source);
+        int burst = Math.max(1, targetRate / BURSTS_PER_SECOND);
+        long start = System.nanoTime();
+        long nextBurst = start;
+        long offered = 0;
+        for (int b = 0; b < seconds * BURSTS_PER_SECOND; b++) {
+            LockSupport.parkNanos(nextBurst - System.nanoTime());
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = 0; i < burst; i++) {
+                String number = numbers[random.nextInt(ACCOUNTS)];
+                source.submit(random.nextInt(3) == 0
+                    ? Transaction.withdrawal(number, 1 + random.nextInt(1_000))
+                    : Transaction.deposit(number, 1 + random.nextInt(1_000)));
+            }
+            offered += burst;
+            nextBurst += TimeUnit.SECONDS.toNanos(1) / BURSTS_PER_SECOND;
+        }
+        source.close();
+        done.get();
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        Runtime runtime = Runtime.getRuntime();
+        long heapMb = (runtime.totalMemory() - runtime.freeMemory()) >> 20;
+        ingestor.close();
+        
+        System.out.printf("target %,d/s: applied %,d of %,d in %.1f s = %,.0f/s, max pending %,d (window %,d), heap %d MB%n",
+            targetRate, ingestor.getAppliedCount(), offered, elapsed, ingestor.getAppliedCount() / elapsed,
+            ingestor.getMaxPendingCount(), window, heapMb);
+    }
+}
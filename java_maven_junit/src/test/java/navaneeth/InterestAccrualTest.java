@@ -0,0 +1,104 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for bulk InterestAccrual
+ * 
+ * Demonstrates:
+ * - Column results equal addInterest()/depositCents(calculateInterestCents()) per object
+ * - Vector and scalar kernels agree, including huge balances and column tails
+ */
+@DisplayName("Interest Accrual Test Suite")
+public class InterestAccrualTest {
+    
+    private static final int SIZE = 10_007; // Not a multiple of any vector length
+    
+    private long[] balances;
+    private byte[] types;
+    
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(7);
+        balances = new long[SIZE];
+        types = new byte[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            types[i] = (byte) random.nextInt(AccountType.values().length);
+            int kind = random.nextInt(100);
+            if (kind < 10) {
+                balances[i] = random.nextInt(100);                      // Tiny, interest may round to 0
+            } else if (kind < 30) {
+                balances[i] = -random.nextInt(1_000_000);               // Overdrawn
+            } else if (kind < 31) {
+                balances[i] = random.nextLong(Long.MAX_VALUE / 10_000); // Huge - handled by the scalar loop
+            } else {
+                balances[i] = random.nextLong(100_000_000_000L);
+            }
+        }
+    }
+    
+    // The per-object path: SavingsAccount.addInterest, and the same deposit for other types
+    private static long perObject(long balance, AccountType type) {
+        BankAccount account = switch (type) {
+            case SAVINGS -> SavingsAccount.ofCents("SAV", "Holder", balance);
+            case CURRENT -> CurrentAccount.ofCents("CUR", "Holder", balance, 1_000_000);
+            default -> BankAccount.ofCents("ACC", "Holder", balance);
+        };
+        try {
+            if (account instanceof SavingsAccount savings) {
+                savings.addInterest();
+            } else {
+                account.depositCents(account.calculateInterestCents());
+            }
+        } catch (IllegalArgumentException e) {
+            // Other types: zero or negative interest is rejected by deposit - balance unchanged
+        }
+        return account.getBalanceCents();
+    }
+    
+    @Test
+    @DisplayName("Test: Bulk accrual matches the per-object path exactly")
+    void testMatchesPerObject() {
+        long[] expected = new long[SIZE];
+        long expectedTotal = 0;
+        for (int i = 0; i < SIZE; i++) {
+            expected[i] = perObject(balances[i], AccountType.fromOrdinal(types[i]));
+            expectedTotal += expected[i] - balances[i];
+        }
+        
+        long total = InterestAccrual.accrue(balances, types);
+        
+        assertArrayEquals(expected, balances);
+        assertEquals(expectedTotal, total);
+    }
+    
+    @Test
+    @DisplayName("Test: Vector kernel agrees with scalar fallback")
+    void testVectorMatchesScalar() {
+        Assumptions.assumeTrue(VectorSupport.AVAILABLE, "Vector API not available");
+        long[] scalar = balances.clone();
+        
+        long vectorTotal = InterestAccrualVector.accrue(balances, types, 3, SIZE - 5);
+        long scalarTotal = InterestAccrual.accrueScalar(scalar, types, 3, SIZE - 5);
+        
+        assertArrayEquals(scalar, balances);
+        assertEquals(scalarTotal, vectorTotal);
+    }
+    
+    @Test
+    @DisplayName("Test: Known rates and invalid ranges")
+    void testRatesAndRanges() {
+        long[] column = {100_000, 100_000, 100_000, -100_000};
+        byte[] columnTypes = {
+            (byte) AccountType.SAVINGS.ordinal(), (byte) AccountType.CURRENT.ordinal(),
+            (byte) AccountType.BASIC.ordinal(), (byte) AccountType.CURRENT.ordinal()
+        };
+        assertEquals(7_000, InterestAccrual.accrue(column, columnTypes));
+        assertArrayEquals(new long[] {105_000, 102_000, 100_000, -100_000}, column);
+        
+        assertThrows(IndexOutOfBoundsException.class, () -> InterestAccrual.accrue(column, columnTypes, 2, 5));
+        assertThrows(IllegalArgumentException.class, () -> InterestAccrual.accrue(column, new byte[2]));
+    }
+}
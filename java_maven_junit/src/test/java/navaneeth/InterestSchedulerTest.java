@@ -0,0 +1,105 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for InterestScheduler
+ * 
+ * Demonstrates:
+ * - A run credits every savings account exactly once, even when started again
+ * - A stopped run resumes from its cursors and ends with the same balances as an uninterrupted run
+ * - The rate limit spreads a run over time, also at rates below one chunk per time bucket
+ */
+@DisplayName("Interest Scheduler Test Suite")
+public class InterestSchedulerTest {
+    
+    private static List<SavingsAccount> accounts(int count) {
+        List<SavingsAccount> accounts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            accounts.add(SavingsAccount.ofCents("SAV" + i, "Holder " + i, 10_000 + i));
+        }
+        return accounts;
+    }
+    
+    private static long expectedAfterOneRun(int i) {
+        long balance = 10_000 + i;
+        return balance + Money.applyRate(balance, SavingsAccount.INTEREST_RATE_BPS);
+    }
+    
+    @Test
+    @DisplayName("Test: Exactly one credit per account per run")
+    void testExactlyOnce() throws InterruptedException {
+        List<SavingsAccount> accounts = accounts(10_000);
+        InterestScheduler scheduler = new InterestScheduler(accounts, 4, 0);
+        
+        InterestScheduler.Run run = scheduler.start(20260101L);
+        run.await();
+        assertTrue(run.isComplete());
+        assertEquals(10_000, run.getCreditedCount());
+        assertEquals(1.0, run.getProgress(), 0.0001);
+        
+        // Another scheduler repeating the same run id credits nothing
+        InterestScheduler.Run repeat = new InterestScheduler(accounts, 2, 0).start(20260101L);
+        repeat.await();
+        assertEquals(10_000, repeat.getProcessedCount());
+        assertEquals(0, repeat.getCreditedCount());
+        for (int i = 0; i < accounts.size(); i++) {
+            assertEquals(expectedAfterOneRun(i), accounts.get(i).getBalanceCents());
+        }
+        
+        assertFalse(accounts.get(0).addInterest(20260101L));
+        assertTrue(accounts.get(0).addInterest(20260102L));
+    }
+    
+    @Test
+    @DisplayName("Test: Stopped run resumes without double credit")
+    void testStopAndResume() throws InterruptedException {
+        List<SavingsAccount> accounts = accounts(5_000);
+        InterestScheduler scheduler = new InterestScheduler(accounts, 2, 20_000); // About 0.25 s in total
+        
+        InterestScheduler.Run run = scheduler.start(7L);
+        Thread.sleep(60);
+        run.stop();
+        assertFalse(run.isComplete());
+        long creditedBeforeResume = run.getCreditedCount();
+        assertTrue(creditedBeforeResume > 0 && creditedBeforeResume < 5_000, "credited " + creditedBeforeResume);
+        
+        assertSame(run, scheduler.start(7L));
+        run.await();
+        assertTrue(run.isComplete());
+        assertEquals(5_000, run.getCreditedCount());
+        assertEquals(5_000, run.getProcessedCount()); // Resumed from the cursors, nothing rescanned
+        for (int i = 0; i < accounts.size(); i++) {
+            assertEquals(expectedAfterOneRun(i), accounts.get(i).getBalanceCents());
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Rate limit spreads the run over time")
+    void testThrottle() throws InterruptedException {
+        InterestScheduler scheduler = new InterestScheduler(accounts(6_000), 4, 30_000);
+        long start = System.nanoTime();
+        InterestScheduler.Run run = scheduler.start(1L);
+        run.await();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        assertTrue(seconds >= 0.15, "took " + seconds + " s");
+        assertTrue(run.getThroughput() < 45_000, "throughput " + run.getThroughput());
+    }
+    
+    @Test
+    @DisplayName("Test: Low rate limit holds for chunks larger than a time bucket")
+    void testLowRateThrottle() throws InterruptedException {
+        // 5 permits per 10 ms bucket against 256-account chunks
+        InterestScheduler scheduler = new InterestScheduler(accounts(500), 2, 500);
+        long start = System.nanoTime();
+        InterestScheduler.Run run = scheduler.start(1L);
+        run.await();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        assertTrue(run.isComplete());
+        assertTrue(seconds >= 0.9, "took " + seconds + " s");
+        assertTrue(run.getThroughput() < 600, "throughput " + run.getThroughput());
+    }
+}
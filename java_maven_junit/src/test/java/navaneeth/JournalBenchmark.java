@@ -0,0 +1,95 @@
+package navaneeth;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Benchmark for AccountJournal group commit and recovery
+ * - Phase 1: many threads commit deposits concurrently; reports commits/s
+ * - Phase 2: appends a large journal without waiting, then times replay()
+ * - Not a JUnit test: run with
+ *   java -cp target/classes:target/test-classes navaneeth.JournalBenchmark [threads] [commitsPerThread] [replayEntries]
+ *   e.g. replayEntries = 100000000 for a 100M-entry recovery run (about 2.5 GB of journal)
+ */
+public class JournalBenchmark {
+    
+    private static final int ACCOUNTS = 10_000;
+    
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int commitsPerThread = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+        long replayEntries = args.length > 2 ? Long.parseLong(args[2]) : 10_000_000L;
+        
+        Path dir = Files.createTempDirectory("journal-bench");
+        try {
+            benchmarkCommits(dir.resolve("commits.journal"), threads, commitsPerThread);
+            benchmarkRecovery(dir.resolve("recovery.journal"), replayEntries);
+        } finally {
+            try (var files = Files.list(dir)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.deleteIfExists(file);
+                }
+            }
+            Files.deleteIfExists(dir);
+        }
+    }
+    
+    private static Map<String, BankAccount> accounts() {
+        Map<String, BankAccount> accounts = new HashMap<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            String number = "ACC" + i;
+            accounts.put(number, BankAccount.ofCents(number, "Holder " + i, 0));
+        }
+        return accounts;
+    }
+    
+    private static void benchmarkCommits(Path path, int threads, int commitsPerThread) throws Exception {
+        Map<String, BankAccount> accounts = accounts();
+        BankAccount[] byIndex = accounts.values().toArray(new BankAccount[0]);
+        
+        try (AccountJournal journal = AccountJournal.open(path)) {
+            Thread[] workers = new Thread[threads];
+            long start = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                workers[t] = new Thread(() -> {
+                    try {
+                        for (int i = 0; i < commitsPerThread; i++) {
+                            journal.deposit(byIndex[(offset + i * threads) % byIndex.length], 1);
+                        }
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+                workers[t].start();
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            long commits = (long) threads * commitsPerThread;
+            System.out.printf("Group commit: %d threads, %d commits in %.2f s = %.0f commits/s%n",
+                threads, commits, seconds, commits / seconds);
+        }
+    }
+    
+    private static void benchmarkRecovery(Path path, long entries) throws Exception {
+        try (AccountJournal journal = AccountJournal.open(path, 16 << 20)) {
+            long ticket = 0;
+            for (long i = 0; i < entries; i++) {
+                ticket = journal.append(AccountJournal.DEPOSIT, "ACC" + (i % ACCOUNTS), 1);
+            }
+            journal.awaitDurable(ticket);
+        }
+        
+        Map<String, BankAccount> accounts = accounts();
+        long start = System.nanoTime();
+        long replayed = AccountJournal.replay(path, accounts);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Recovery: %d entries (%d MB) in %.2f s = %.0f entries/s%n",
+            replayed, Files.size(path) >> 20, seconds, replayed / seconds);
+    }
+}
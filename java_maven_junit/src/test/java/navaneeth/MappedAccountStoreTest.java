@@ -0,0 +1,105 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the memory-mapped off-heap account store
+ * 
+ * Demonstrates:
+ * - Same deposit/withdraw/interest rules as SavingsAccount and CurrentAccount
+ * - Records survive closing and reopening the file
+ * - Records spanning several mapped segments
+ */
+@DisplayName("Mapped Account Store Test Suite")
+public class MappedAccountStoreTest {
+    
+    // Small segments (16 records) so tests exercise segment boundaries without large files
+    private static final int TEST_SEGMENT_SHIFT = 4;
+    
+    @TempDir
+    Path tempDir;
+    
+    private Path storePath;
+    
+    @BeforeEach
+    void setUp() {
+        storePath = tempDir.resolve("accounts.dat");
+    }
+    
+    @Test
+    @DisplayName("Test: Store follows the object account rules")
+    void testMatchesObjectSemantics() throws IOException {
+        SavingsAccount savings = new SavingsAccount("SAV001", "Alice", 1000.0);
+        CurrentAccount current = new CurrentAccount("CUR001", "Bob", 1000.0, 200.0);
+        
+        try (MappedAccountStore store = MappedAccountStore.open(storePath, TEST_SEGMENT_SHIFT)) {
+            int s = store.add(savings);
+            int c = store.add(current);
+            
+            assertEquals(savings.calculateInterestCents(), store.calculateInterestCents(s));
+            assertEquals(current.calculateInterestCents(), store.calculateInterestCents(c));
+            
+            savings.addInterest();
+            store.addInterest(s);
+            assertEquals(savings.getBalanceCents(), store.getBalanceCents(s));
+            
+            current.withdraw(1150.0);
+            store.withdraw(c, 115000);
+            assertEquals(current.getBalanceCents(), store.getBalanceCents(c));
+            
+            IllegalArgumentException savingsError = assertThrows(IllegalArgumentException.class,
+                () -> store.withdraw(s, 10_000_000));
+            assertEquals("Invalid withdrawal amount", savingsError.getMessage());
+            IllegalArgumentException currentError = assertThrows(IllegalArgumentException.class,
+                () -> store.withdraw(c, 10_000));
+            assertEquals("Withdrawal exceeds available balance and overdraft limit", currentError.getMessage());
+            assertThrows(IllegalArgumentException.class, () -> store.deposit(s, 0));
+            assertFalse(store.tryWithdraw(c, 10_000));
+            
+            int tiny = store.add(SavingsAccount.ofCents("SAV009", "Tiny", 9));
+            store.addInterest(tiny); // Rounds to no interest
+            assertEquals(9, store.getBalanceCents(tiny));
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Records persist across reopen")
+    void testReopen() throws IOException {
+        try (MappedAccountStore store = MappedAccountStore.open(storePath, TEST_SEGMENT_SHIFT)) {
+            for (int i = 0; i < 40; i++) {
+                store.add("ACC" + i, "Holder " + i, i % 2 == 0 ? AccountType.SAVINGS : AccountType.CURRENT,
+                    i * 100L, 5_000);
+            }
+            store.deposit(39, 1);
+        }
+        
+        try (MappedAccountStore store = MappedAccountStore.open(storePath)) {
+            assertEquals(40, store.size());
+            assertEquals("ACC17", store.getAccountNumber(17));
+            assertEquals("Holder 17", store.getAccountHolderName(17));
+            assertEquals(AccountType.CURRENT, store.getType(17));
+            assertEquals(5_000, store.getOverdraftLimitCents(17));
+            assertEquals(0, store.getOverdraftLimitCents(16)); // Savings accounts have no overdraft
+            assertEquals(3_901, store.getBalanceCents(39));
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Invalid slots and files are rejected")
+    void testInvalidAccess() throws IOException {
+        try (MappedAccountStore store = MappedAccountStore.open(storePath, TEST_SEGMENT_SHIFT)) {
+            assertThrows(IndexOutOfBoundsException.class, () -> store.getBalanceCents(0));
+            assertThrows(IllegalArgumentException.class,
+                () -> store.add("A-VERY-LONG-ACCOUNT-NUMBER-000", "Name", AccountType.BASIC, 0, 0));
+        }
+        
+        Path garbage = tempDir.resolve("garbage.dat");
+        Files.write(garbage, new byte[128]);
+        assertThrows(IllegalStateException.class, () -> MappedAccountStore.open(garbage));
+    }
+}
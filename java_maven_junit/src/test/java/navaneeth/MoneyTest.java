@@ -0,0 +1,91 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for fixed-point Money arithmetic and the cents account API
+ * 
+ * Demonstrates:
+ * - Exact conversions between double amounts and long cents
+ * - Integer interest math with half-away-from-zero rounding
+ * - Exact assertions (no epsilon) on the cents API
+ */
+@DisplayName("Money Test Suite")
+public class MoneyTest {
+    
+    @Test
+    @DisplayName("Test: Conversions between double and cents")
+    void testConversions() {
+        assertEquals(100000, Money.toCents(1000.0));
+        assertEquals(30, Money.toCents(0.1 + 0.2)); // 0.30000000000000004 rounds to 30 cents
+        assertEquals(-1999, Money.toCents(-19.99));
+        assertEquals(1000.0, Money.toDouble(100000));
+        assertEquals(19.99, Money.toDouble(1999));
+    }
+    
+    @Test
+    @DisplayName("Test: Out-of-range amounts are rejected")
+    void testOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> Money.toCents(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> Money.toCents(Double.POSITIVE_INFINITY));
+        assertThrows(IllegalArgumentException.class, () -> Money.toCents(1e300));
+    }
+    
+    @Test
+    @DisplayName("Test: Rates round half away from zero")
+    void testApplyRate() {
+        assertEquals(5000, Money.applyRate(100000, 500)); // 5% of 1000.00
+        assertEquals(1, Money.applyRate(10, 500));        // 0.5 cents rounds up
+        assertEquals(-1, Money.applyRate(-10, 500));      // -0.5 cents rounds away from zero
+        assertEquals(0, Money.applyRate(9, 500));         // 0.45 cents rounds down
+        assertEquals(-2000, Money.applyRate(-100000, 200));
+        assertThrows(ArithmeticException.class, () -> Money.applyRate(Long.MAX_VALUE, 500));
+        assertEquals(922_337_203_685_478L, Money.applyRate(Long.MAX_VALUE / 500, 500));  // Rounds up without overflowing
+        assertEquals(-922_337_203_685_478L, Money.applyRate(Long.MIN_VALUE / 500, 500));
+    }
+    
+    @Test
+    @DisplayName("Test: Account cents API is exact")
+    void testAccountCents() {
+        BankAccount account = BankAccount.ofCents("ACC200", "Exact", 10);
+        for (int i = 0; i < 10; i++) {
+            account.deposit(0.1);
+        }
+        assertEquals(110, account.getBalanceCents());
+        
+        account.withdrawCents(110);
+        assertEquals(0, account.getBalanceCents());
+        assertThrows(IllegalArgumentException.class, () -> account.withdrawCents(1));
+        assertThrows(IllegalArgumentException.class, () -> account.depositCents(0));
+    }
+    
+    @Test
+    @DisplayName("Test: Interest and overdraft in cents")
+    void testInterestAndOverdraftCents() {
+        SavingsAccount savings = SavingsAccount.ofCents("SAV200", "Saver", 123457);
+        assertEquals(6173, savings.calculateInterestCents()); // 6172.85 rounds to 6173
+        savings.addInterest();
+        assertEquals(129630, savings.getBalanceCents());
+        
+        CurrentAccount current = CurrentAccount.ofCents("CUR200", "Spender", 10000, 5000);
+        current.withdrawCents(15000);
+        assertEquals(-5000, current.getBalanceCents());
+        assertEquals(-100, current.calculateInterestCents());
+        assertThrows(IllegalArgumentException.class, () -> current.withdrawCents(1));
+        assertEquals(50.0, current.getOverdraftLimit());
+    }
+    
+    @Test
+    @DisplayName("Test: Interest rounding to zero leaves tiny balances unchanged")
+    void testInterestOnTinyBalance() {
+        SavingsAccount savings = SavingsAccount.ofCents("SAV201", "Saver", 9);
+        assertEquals(0, savings.calculateInterestCents()); // 0.45 cents rounds to 0
+        assertDoesNotThrow(() -> savings.addInterest());
+        assertEquals(9, savings.getBalanceCents());
+        
+        SavingsAccount ten = SavingsAccount.ofCents("SAV202", "Saver", 10);
+        ten.addInterest(); // 0.5 cents rounds away from zero
+        assertEquals(11, ten.getBalanceCents());
+    }
+}
@@ -0,0 +1,97 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
+import java.util.SplittableRandom;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for NumberFormatter and the render methods built on it
+ * 
+ * Demonstrates:
+ * - Doubles are formatted exactly as Double.toString, longs as Long.toString
+ * - getShapeInfo/toString keep their previous text
+ * - Rendering into StringBuilder, CharBuffer and other Appendables gives the same text
+ */
+@DisplayName("Number Formatter Test Suite")
+public class NumberFormatterTest {
+    
+    private static String format(double value) {
+        char[] buffer = new char[NumberFormatter.MAX_DOUBLE_LENGTH];
+        return new String(buffer, 0, NumberFormatter.format(value, buffer, 0));
+    }
+    
+    @Test
+    @DisplayName("Test: Doubles match Double.toString")
+    void testDoubles() {
+        double[] edges = {0.0, -0.0, 1.0, -1.5, 0.1, 0.001, 0.0001, 9_999_999.0, 1e7, 1e22, 1e23, 2e-323,
+            Double.MIN_VALUE, Double.MIN_NORMAL, Double.MAX_VALUE, -Double.MAX_VALUE, Math.PI, 1.0 / 3,
+            Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 9.999999999999999E22};
+        for (double value : edges) {
+            assertEquals(Double.toString(value), format(value));
+        }
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 300_000; i++) {
+            double bits = Double.longBitsToDouble(random.nextLong()); // Any exponent, incl. subnormals
+            double cents = random.nextLong(-10_000_000_000L, 10_000_000_000L) / 100.0;
+            double scaled = random.nextDouble() * Math.pow(10, random.nextInt(-10, 10));
+            assertEquals(Double.toString(bits), format(bits));
+            assertEquals(Double.toString(cents), format(cents));
+            assertEquals(Double.toString(scaled), format(scaled));
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Longs match Long.toString")
+    void testLongs() {
+        char[] buffer = new char[NumberFormatter.MAX_LONG_LENGTH];
+        long[] values = {0, 7, -7, 10, 999, 1_000_000_000_000_000_000L, Long.MAX_VALUE, Long.MIN_VALUE, Integer.MIN_VALUE};
+        for (long value : values) {
+            assertEquals(Long.toString(value), new String(buffer, 0, NumberFormatter.format(value, buffer, 0)));
+        }
+        assertEquals("x-42", NumberFormatter.append(new StringBuilder("x"), -42L).toString());
+    }
+    
+    @Test
+    @DisplayName("Test: Rendered text is unchanged")
+    void testLegacyText() {
+        Circle circle = new Circle("red", 2.5);
+        assertEquals("Shape color: red, Area: " + Math.PI * 2.5 * 2.5 + ", Perimeter: " + 2 * Math.PI * 2.5,
+            circle.getShapeInfo());
+        assertEquals("Shape color: null, Area: 12.0, Perimeter: 14.0", new Rectangle(null, 3, 4).getShapeInfo());
+        
+        assertEquals("Employee{id=7, name='Ann', salary=50000.0}", new Employee("Ann", 7, 50000).toString());
+        assertEquals("Manager{id=-3, name='Bob', salary=1.0E7, department='IT'}",
+            new Manager("Bob", -3, 1e7, "IT").toString());
+        assertEquals("Manager{id=1, name='null', salary=0.1, department='null'}",
+            new Manager(null, 1, 0.1, null).toString());
+        
+        assertEquals("Account: ACC1, Holder: Ann, Balance: 1234.56", new BankAccount("ACC1", "Ann", 1234.56).toString());
+        assertEquals("Account: S1, Holder: Cy, Balance: -0.05", BankAccount.ofCents("S1", "Cy", -5).toString());
+    }
+    
+    @Test
+    @DisplayName("Test: Every sink receives the same text")
+    void testSinks() throws IOException {
+        Shape shape = new Rectangle("blue", 0.1, 0.2);
+        Employee manager = new Manager("Dee", 9, 72000.5, "HR");
+        
+        StringBuilder builder = new StringBuilder();
+        shape.appendShapeInfo(builder).append('|');
+        manager.appendTo(builder);
+        assertEquals(shape.getShapeInfo() + "|" + manager, builder.toString());
+        
+        CharBuffer buffer = CharBuffer.allocate(128);
+        shape.appendShapeInfo(buffer);
+        assertEquals(shape.getShapeInfo(), buffer.flip().toString());
+        
+        StringWriter writer = new StringWriter();
+        manager.appendTo(writer);
+        assertEquals(manager.toString(), writer.toString());
+        
+        BankAccount account = new CurrentAccount("C1", "Eve", 10.25, 500);
+        assertEquals(account.toString(), account.appendTo(new StringBuilder()).toString());
+    }
+}
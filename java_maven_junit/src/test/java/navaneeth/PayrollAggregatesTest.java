@@ -0,0 +1,164 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for PayrollAggregates
+ * 
+ * Demonstrates:
+ * - Totals follow setSalary and setDepartment without recomputation
+ * - Incremental totals equal a from-scratch exact sum, also under concurrent updates
+ * - Tracking and untracking
+ */
+@DisplayName("Payroll Aggregates Test Suite")
+public class PayrollAggregatesTest {
+    
+    private static final String[] DEPARTMENTS = {"IT", "Sales", "HR"};
+    
+    private static List<Employee> staff(int count) {
+        List<Employee> staff = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            staff.add(i % 4 == 0
+                ? new Manager("Manager " + i, i, 50_000 + i * 1.37, DEPARTMENTS[i % DEPARTMENTS.length])
+                : new Employee("Employee " + i, i, 30_000 + i * 0.91));
+        }
+        return staff;
+    }
+    
+    // From-scratch totals of the object path, summed exactly
+    private static void assertMatchesObjects(List<Employee> staff, PayrollAggregates aggregates) {
+        BigDecimal salary = BigDecimal.ZERO;
+        BigDecimal bonus = BigDecimal.ZERO;
+        for (Employee employee : staff) {
+            salary = salary.add(new BigDecimal(employee.getSalary()));
+            bonus = bonus.add(new BigDecimal(employee.calculateBonus()));
+        }
+        assertEquals(salary.doubleValue(), aggregates.getTotalSalary());
+        assertEquals(bonus.doubleValue(), aggregates.getTotalBonus());
+        assertEquals(staff.size(), aggregates.getTotals().getEmployeeCount());
+        
+        for (String department : DEPARTMENTS) {
+            BigDecimal departmentSalary = BigDecimal.ZERO;
+            int managers = 0;
+            for (Employee employee : staff) {
+                if (employee instanceof Manager && department.equals(((Manager) employee).getDepartment())) {
+                    departmentSalary = departmentSalary.add(new BigDecimal(employee.getSalary()));
+                    managers++;
+                }
+            }
+            PayrollAggregates.Totals totals = aggregates.getDepartmentTotals(department);
+            assertEquals(departmentSalary.doubleValue(), totals.getTotalSalary());
+            assertEquals(managers, totals.getManagerCount());
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Totals follow salary and department changes")
+    void testIncrementalUpdates() {
+        Employee john = new Employee("John Doe", 1, 50000);
+        Manager jane = new Manager("Jane Smith", 2, 80000, "IT");
+        PayrollAggregates aggregates = new PayrollAggregates();
+        aggregates.track(john);
+        aggregates.track(jane);
+        
+        assertEquals(130000, aggregates.getTotalSalary());
+        assertEquals(21000, aggregates.getTotalBonus(), 0.0001);
+        
+        john.setSalary(60000);
+        assertEquals(140000, aggregates.getTotalSalary());
+        assertEquals(22000, aggregates.getTotalBonus(), 0.0001);
+        
+        jane.setDepartment("Sales");
+        assertEquals(0, aggregates.getDepartmentTotals("IT").getManagerCount());
+        assertEquals(80000, aggregates.getDepartmentTotals("Sales").getTotalSalary());
+        assertEquals(1, aggregates.getTotals().getManagerCount());
+        assertEquals(2, aggregates.getTotals().getEmployeeCount());
+    }
+    
+    @Test
+    @DisplayName("Test: Incremental totals equal a from-scratch exact sum")
+    void testMatchesRecomputation() {
+        List<Employee> staff = staff(2_000);
+        PayrollAggregates aggregates = new PayrollAggregates();
+        aggregates.trackAll(staff);
+        
+        Random random = new Random(7);
+        for (int i = 0; i < 20_000; i++) {
+            Employee employee = staff.get(random.nextInt(staff.size()));
+            if (employee instanceof Manager && random.nextInt(4) == 0) {
+                ((Manager) employee).setDepartment(DEPARTMENTS[random.nextInt(DEPARTMENTS.length)]);
+            } else {
+                employee.setSalary(random.nextDouble() * 1e6);
+            }
+        }
+        assertMatchesObjects(staff, aggregates);
+    }
+    
+    @Test
+    @DisplayName("Test: Concurrent updates keep the totals exact")
+    void testConcurrentUpdates() throws InterruptedException {
+        List<Employee> staff = staff(1_000);
+        PayrollAggregates aggregates = new PayrollAggregates();
+        aggregates.trackAll(staff);
+        
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            long seed = t;
+            threads[t] = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < 20_000; i++) {
+                    Employee employee = staff.get(random.nextInt(staff.size()));
+                    if (employee instanceof Manager && random.nextBoolean()) {
+                        ((Manager) employee).setDepartment(DEPARTMENTS[random.nextInt(DEPARTMENTS.length)]);
+                    } else {
+                        employee.setSalary(random.nextInt(10_000_000) / 100.0);
+                    }
+                    assertTrue(aggregates.getTotals().getEmployeeCount() == staff.size());
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertMatchesObjects(staff, aggregates);
+    }
+    
+    @Test
+    @DisplayName("Test: Track and untrack")
+    void testTrackAndUntrack() {
+        Manager jane = new Manager("Jane Smith", 2, 80000, "IT");
+        PayrollAggregates aggregates = new PayrollAggregates();
+        aggregates.track(jane);
+        assertThrows(IllegalStateException.class, () -> aggregates.track(jane));
+        
+        assertTrue(aggregates.untrack(jane));
+        assertFalse(aggregates.untrack(jane));
+        assertEquals(0, aggregates.getTotalSalary());
+        assertEquals(0, aggregates.getDepartmentTotals("IT").getEmployeeCount());
+        
+        jane.setSalary(90000); // No longer tracked
+        assertEquals(0, aggregates.getTotalSalary());
+    }
+    
+    @Test
+    @DisplayName("Test: Exact totals round like BigDecimal")
+    void testExactRounding() {
+        Random random = new Random(11);
+        for (int round = 0; round < 200; round++) {
+            ExactSum sum = new ExactSum();
+            BigDecimal expected = BigDecimal.ZERO;
+            for (int i = 0; i < 50; i++) {
+                double value = (random.nextDouble() - 0.5) * Math.pow(2, random.nextInt(200) - 100);
+                sum.add(value);
+                expected = expected.add(new BigDecimal(value));
+            }
+            assertEquals(expected.doubleValue(), sum.doubleValue());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package navaneeth;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark for EmployeeRoster against the object path
+ * - objects: loops over a List<Employee> calling getSalary() and calculateBonus()
+ * - roster: EmployeeRoster.computeTotals() over the columns (exactly summed, fork-join)
+ * - Reports millions of employees per second for each
+ * - Not a JUnit test: run with
+ *   java -cp target/classes:target/test-classes navaneeth.PayrollBenchmark [employees] [rounds]
+ */
+public class PayrollBenchmark {
+    
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        
+        List<Employee> staff = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double salary = 30_000 + (i * 7919L % 100_000) + 0.25;
+            staff.add(i % 10 == 0
+                ? new Manager("Manager " + i, i, salary, "Dept " + (i % 50))
+                : new Employee("Employee " + i, i, salary));
+        }
+        EmployeeRoster roster = EmployeeRoster.of(staff);
+        
+        double sink = 0;
+        for (int round = 0; round < rounds; round++) {
+            boolean report = round == rounds - 1; // Earlier rounds warm up
+            
+            long start = System.nanoTime();
+            double salary = 0;
+            double bonus = 0;
+            for (Employee employee : staff) {
+                salary += employee.getSalary();
+                bonus += employee.calculateBonus();
+            }
+            long objects = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            EmployeeRoster.PayrollTotals totals = roster.computeTotals();
+            long columns = System.nanoTime() - start;
+            
+            sink += salary + bonus + totals.getTotalSalary() + totals.getTotalBonus();
+            if (report) {
+                System.out.printf("objects: %.1f M employees/s (salary %.2f, bonus %.2f)%n",
+                    count / 1e6 / (objects / 1e9), salary, bonus);
+                System.out.printf("roster:  %.1f M employees/s (salary %.2f, bonus %.2f, exact)%n",
+                    count / 1e6 / (columns / 1e9), totals.getTotalSalary(), totals.getTotalBonus());
+            }
+        }
+        if (sink == 42) {
+            System.out.println(sink);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package navaneeth;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/**
+ * Benchmark for the allocation-free render methods against String concatenation
+ * - concat: the previous getShapeInfo()/toString() expressions, one new String per object
+ * - render: appendShapeInfo()/appendTo() into one reused StringBuilder
+ * - Reports ns and heap bytes allocated per rendered object (per-thread allocation counter)
+ * - A main()-based harness in the style of the other benchmarks (no JMH in this build)
+ * - Not a JUnit test: run with
+ *   java -cp target/classes:target/test-classes navaneeth.RenderBenchmark [objects] [rounds]
+ */
+public class RenderBenchmark {
+    
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        
+        Random random = new Random(1);
+        Shape[] shapes = new Shape[count];
+        Employee[] staff = new Employee[count];
+        BankAccount[] accounts = new BankAccount[count];
+        for (int i = 0; i < count; i++) {
+            shapes[i] = random.nextBoolean()
+                ? new Circle("red", random.nextDouble() * 100)
+                : new Rectangle("blue", random.nextInt(100), random.nextInt(100));
+            staff[i] = i % 10 == 0
+                ? new Manager("M" + i, i, 40_000 + random.nextInt(100_000_00) / 100.0, "Engineering")
+                : new Employee("E" + i, i, 30_000 + random.nextInt(100_000_00) / 100.0);
+            accounts[i] = BankAccount.ofCents("ACC" + i, "Holder" + i, random.nextInt(100_000_000));
+        }
+        
+        StringBuilder out = new StringBuilder(256);
+        long sink = 0;
+        for (int round = 0; round < rounds; round++) {
+            boolean report = round == rounds - 1; // Earlier rounds warm up
+            
+            long bytes = allocated();
+            long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                Shape shape = shapes[i];
+                sink += ("Shape color: " + shape.getColor() + ", Area: " + shape.calculateArea()
+                    + ", Perimeter: " + shape.calculatePerimeter()).length();
+                Employee employee = staff[i];
+                sink += (employee instanceof Manager
+                    ? "Manager{id=" + employee.getEmployeeId() + ", name='" + employee.getName() + "', salary="
+                        + employee.getSalary() + ", department='" + ((Manager) employee).getDepartment() + "'}"
+                    : "Employee{id=" + employee.getEmployeeId() + ", name='" + employee.getName() + "', salary="
+                        + employee.getSalary() + "}").length();
+                BankAccount account = accounts[i];
+                sink += ("Account: " + account.getAccountNumber() + ", Holder: " + account.getAccountHolderName()
+                    + ", Balance: " + account.getBalance()).length();
+            }
+            long concat = System.nanoTime() - start;
+            long concatBytes = allocated() - bytes;
+            
+            bytes = allocated();
+            start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                out.setLength(0);
+                shapes[i].appendShapeInfo(out);
+                staff[i].appendTo(out);
+                accounts[i].appendTo(out);
+                sink += out.length();
+            }
+            long render = System.nanoTime() - start;
+            long renderBytes = allocated() - bytes;
+            
+            if (report) {
+                System.out.printf("concat: %.1f ns, %.1f bytes per object%n",
+                    concat / (3.0 * count), concatBytes / (3.0 * count));
+                System.out.printf("render: %.1f ns, %.1f bytes per object%n",
+                    render / (3.0 * count), renderBytes / (3.0 * count));
+            }
+        }
+        if (sink == 42) {
+            System.out.println(sink);
+        }
+    }
+    
+    private static long allocated() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+    }
+}
@@ -0,0 +1,86 @@
+package navaneeth;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Benchmark for ShapeColorAggregator against a sequential per-color loop
+ * - loop: one pass with a HashMap<String, double[]> of running count/sums/min/max per color
+ *   (the same statistics the aggregator keeps)
+ * - parallel: ShapeColorAggregator.aggregate() on the common pool
+ * - streaming: ShapeColorAggregator.add() per shape
+ * - Shapes come from a ShapeFactory sharing the aggregator's dictionary (16 colors)
+ * - A main()-based harness in the style of the other benchmarks (no JMH in this build)
+ * - Not a JUnit test: run with
+ *   java -cp target/classes:target/test-classes navaneeth.ShapeAggregationBenchmark [shapes] [rounds]
+ */
+public class ShapeAggregationBenchmark {
+    
+    private static final String[] PALETTE = {"red", "green", "blue", "black", "white", "yellow",
+        "orange", "purple", "cyan", "magenta", "gray", "brown", "pink", "navy", "olive", "teal"};
+    
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        
+        ShapeFactory factory = new ShapeFactory();
+        Random random = new Random(1);
+        List<Shape> shapes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String color = PALETTE[random.nextInt(PALETTE.length)];
+            shapes.add(random.nextBoolean()
+                ? factory.circle(color, 1 + random.nextInt(50))
+                : factory.rectangle(color, 1 + random.nextInt(50), 1 + random.nextInt(50)));
+        }
+        ShapeColorAggregator aggregator = new ShapeColorAggregator(factory.getColors(), ForkJoinPool.commonPool());
+        System.out.println("Pool parallelism: " + ForkJoinPool.commonPool().getParallelism());
+        
+        double sink = 0;
+        for (int round = 0; round < rounds; round++) {
+            boolean report = round == rounds - 1; // Earlier rounds warm up
+            
+            long start = System.nanoTime();
+            Map<String, double[]> loop = new HashMap<>();
+            for (Shape shape : shapes) {
+                double area = shape.calculateArea();
+                double perimeter = shape.calculatePerimeter();
+                double[] stats = loop.computeIfAbsent(shape.getColor(), color -> new double[] {
+                    0, 0, 0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                    Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY});
+                stats[0]++;
+                stats[1] += area;
+                stats[2] += perimeter;
+                stats[3] = Math.min(stats[3], area);
+                stats[4] = Math.max(stats[4], area);
+                stats[5] = Math.min(stats[5], perimeter);
+                stats[6] = Math.max(stats[6], perimeter);
+            }
+            long sequential = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            Map<String, ShapeColorAggregator.ColorStats> parallel = aggregator.aggregate(shapes);
+            long aggregate = System.nanoTime() - start;
+            
+            aggregator.reset();
+            start = System.nanoTime();
+            for (Shape shape : shapes) {
+                aggregator.add(shape);
+            }
+            long streaming = System.nanoTime() - start;
+            
+            sink += loop.get("red")[1] + parallel.get("red").getTotalArea() + aggregator.getStats("red").getTotalArea();
+            if (report) {
+                System.out.printf("loop:      %.1f M shapes/s%n", count / 1e6 / (sequential / 1e9));
+                System.out.printf("parallel:  %.1f M shapes/s%n", count / 1e6 / (aggregate / 1e9));
+                System.out.printf("streaming: %.1f M shapes/s%n", count / 1e6 / (streaming / 1e9));
+            }
+        }
+        if (sink == 42) {
+            System.out.println(sink);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ShapeColorAggregator
+ * 
+ * Demonstrates:
+ * - Parallel per-color statistics match a sequential reference (sums within the rounding bound)
+ * - Parallel results do not depend on the pool size; streamed batches agree within the bound
+ * - Flyweights, plain shapes and null colors are grouped by color value
+ */
+@DisplayName("Shape Color Aggregator Test Suite")
+public class ShapeColorAggregatorTest {
+    
+    private static final String[] COLORS = {"red", "green", "blue", "black", "white"};
+    
+    private static List<Shape> shapes(int count, long seed) {
+        Random random = new Random(seed);
+        List<Shape> shapes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String color = new String(COLORS[random.nextInt(COLORS.length)]); // Equal, not identical
+            shapes.add(random.nextBoolean()
+                ? new Circle(color, random.nextDouble() * 100)
+                : new Rectangle(color, random.nextDouble() * 100, random.nextDouble() * 50));
+        }
+        return shapes;
+    }
+    
+    // Rounding bound of a total of non-negative terms (see ShapeColorAggregator)
+    private static double bound(double total) {
+        return ShapeColorAggregator.LEAF_SHAPES * 0x1p-53 * total;
+    }
+    
+    @Test
+    @DisplayName("Test: Parallel statistics match a sequential reference")
+    void testMatchesSequential() {
+        List<Shape> shapes = shapes(100_000, 1);
+        Map<String, ShapeColorAggregator.ColorStats> results = new ShapeColorAggregator().aggregate(shapes);
+        assertEquals(COLORS.length, results.size());
+        
+        for (String color : COLORS) {
+            ExactSum area = new ExactSum();
+            ExactSum perimeter = new ExactSum();
+            long count = 0;
+            double minArea = Double.POSITIVE_INFINITY;
+            double maxPerimeter = Double.NEGATIVE_INFINITY;
+            for (Shape shape : shapes) {
+                if (shape.getColor().equals(color)) {
+                    count++;
+                    area.add(shape.calculateArea());
+                    perimeter.add(shape.calculatePerimeter());
+                    minArea = Math.min(minArea, shape.calculateArea());
+                    maxPerimeter = Math.max(maxPerimeter, shape.calculatePerimeter());
+                }
+            }
+            ShapeColorAggregator.ColorStats stats = results.get(color);
+            assertEquals(count, stats.getCount());
+            assertEquals(area.doubleValue(), stats.getTotalArea(), bound(area.doubleValue()));
+            assertEquals(perimeter.doubleValue(), stats.getTotalPerimeter(), bound(perimeter.doubleValue()));
+            assertEquals(area.doubleValue() / count, stats.getAverageArea(), bound(area.doubleValue()) / count);
+            assertEquals(minArea, stats.getMinArea());
+            assertEquals(maxPerimeter, stats.getMaxPerimeter());
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Parallel results do not depend on the pool size")
+    void testDeterministicAcrossPools() {
+        List<Shape> shapes = shapes(60_000, 2);
+        Map<String, ShapeColorAggregator.ColorStats> expected = new ShapeColorAggregator().aggregate(shapes);
+        for (int parallelism : new int[] {1, 3}) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                Map<String, ShapeColorAggregator.ColorStats> results =
+                    new ShapeColorAggregator(new StringDictionary(), pool).aggregate(shapes);
+                for (String color : COLORS) {
+                    assertEquals(expected.get(color).getTotalArea(), results.get(color).getTotalArea());
+                    assertEquals(expected.get(color).getTotalPerimeter(), results.get(color).getTotalPerimeter());
+                }
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Streamed batches agree with one pass")
+    void testStreaming() {
+        List<Shape> shapes = shapes(60_000, 2);
+        Map<String, ShapeColorAggregator.ColorStats> expected = new ShapeColorAggregator().aggregate(shapes);
+        
+        ShapeColorAggregator streaming = new ShapeColorAggregator();
+        streaming.addAll(shapes.subList(0, 25_000));
+        for (Shape shape : shapes.subList(25_000, 30_000)) {
+            streaming.add(shape);
+        }
+        streaming.addAll(shapes.subList(30_000, shapes.size()));
+        
+        assertEquals(shapes.size(), streaming.getShapeCount());
+        for (String color : COLORS) {
+            ShapeColorAggregator.ColorStats stats = streaming.getStats(color);
+            double area = expected.get(color).getTotalArea();
+            assertEquals(expected.get(color).getCount(), stats.getCount());
+            assertEquals(area, stats.getTotalArea(), bound(area));
+            assertEquals(expected.get(color).getMaxArea(), stats.getMaxArea());
+            assertEquals(expected.get(color).getMinPerimeter(), stats.getMinPerimeter());
+        }
+        
+        streaming.reset();
+        assertEquals(0, streaming.getShapeCount());
+        assertNull(streaming.getStats("red"));
+        assertTrue(streaming.getResults().isEmpty());
+    }
+    
+    @Test
+    @DisplayName("Test: Flyweights, plain shapes and null colors group by value")
+    void testGrouping() {
+        ShapeFactory factory = new ShapeFactory();
+        ShapeFactory other = new ShapeFactory();
+        other.circle("blue", 1); // Gives "red" a different code in the other dictionary
+        ShapeColorAggregator aggregator = new ShapeColorAggregator(factory.getColors(), ForkJoinPool.commonPool());
+        
+        aggregator.add(factory.circle("red", 1));
+        aggregator.add(new Rectangle("red", 2, 3));
+        aggregator.add(other.rectangle("red", 1, 1));
+        aggregator.add(new Circle(null, 1));
+        
+        assertEquals(3, aggregator.getStats("red").getCount());
+        assertEquals(Math.PI + 6 + 1, aggregator.getStats("red").getTotalArea(), 1e-12);
+        assertEquals(1, aggregator.getStats(null).getCount());
+        assertNull(aggregator.getStats("blue"));
+        assertNull(aggregator.getStats("purple"));
+        
+        Map<String, ShapeColorAggregator.ColorStats> results = aggregator.getResults();
+        assertEquals(Arrays.asList("red", null), new ArrayList<>(results.keySet())); // First-seen order
+        assertEquals(3, results.get("red").getCount());
+    }
+    
+    @Test
+    @DisplayName("Test: Concurrent streaming adds are all counted")
+    void testConcurrentStreaming() throws InterruptedException {
+        List<Shape> shapes = shapes(40_000, 3);
+        ShapeColorAggregator aggregator = new ShapeColorAggregator();
+        Thread[] producers = new Thread[4];
+        for (int t = 0; t < producers.length; t++) {
+            List<Shape> part = shapes.subList(t * 10_000, (t + 1) * 10_000);
+            producers[t] = new Thread(() -> part.forEach(aggregator::add));
+            producers[t].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        
+        Map<String, ShapeColorAggregator.ColorStats> expected = new ShapeColorAggregator().aggregate(shapes);
+        assertEquals(shapes.size(), aggregator.getShapeCount());
+        for (String color : COLORS) {
+            double area = expected.get(color).getTotalArea();
+            assertEquals(expected.get(color).getCount(), aggregator.getStats(color).getCount());
+            assertEquals(area, aggregator.getStats(color).getTotalArea(), bound(area));
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ShapeColumns and GeometryKernel
+ * 
+ * Demonstrates:
+ * - Per-shape areas and perimeters are bit-identical to Circle and Rectangle
+ * - Totals stay within the documented summation bound of the object path
+ * - Vector and scalar kernels agree (the vector path runs when the module is present)
+ */
+@DisplayName("Shape Columns Test Suite")
+public class ShapeColumnsTest {
+    
+    private static List<Shape> shapes(int count, long seed) {
+        Random random = new Random(seed);
+        List<Shape> shapes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            shapes.add(random.nextBoolean()
+                ? new Circle("red", random.nextDouble() * 100)
+                : new Rectangle("blue", random.nextDouble() * 100, random.nextDouble() * 50));
+        }
+        return shapes;
+    }
+    
+    @Test
+    @DisplayName("Test: Per-shape results are bit-identical to the objects")
+    void testElementWiseExact() {
+        List<Shape> shapes = shapes(1_003, 1); // Not a multiple of any vector length
+        ShapeColumns columns = ShapeColumns.of(shapes);
+        double[] circleAreas = new double[columns.getCircleCount()];
+        double[] circlePerimeters = new double[columns.getCircleCount()];
+        double[] rectangleAreas = new double[columns.getRectangleCount()];
+        double[] rectanglePerimeters = new double[columns.getRectangleCount()];
+        columns.circleAreas(circleAreas);
+        columns.circlePerimeters(circlePerimeters);
+        columns.rectangleAreas(rectangleAreas);
+        columns.rectanglePerimeters(rectanglePerimeters);
+        
+        int circle = 0;
+        int rectangle = 0;
+        for (Shape shape : shapes) {
+            if (shape instanceof Circle) {
+                assertEquals(shape.calculateArea(), circleAreas[circle]);
+                assertEquals(shape.calculatePerimeter(), circlePerimeters[circle++]);
+            } else {
+                assertEquals(shape.calculateArea(), rectangleAreas[rectangle]);
+                assertEquals(shape.calculatePerimeter(), rectanglePerimeters[rectangle++]);
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Totals stay within the summation bound")
+    void testTotalsWithinBound() {
+        List<Shape> shapes = shapes(100_000, 2);
+        double area = 0;
+        double perimeter = 0;
+        for (Shape shape : shapes) {
+            area += shape.calculateArea();
+            perimeter += shape.calculatePerimeter();
+        }
+        ShapeColumns columns = ShapeColumns.of(shapes);
+        // All terms are positive, so sum|x| is the total itself
+        double bound = shapes.size() * Math.ulp(1.0) / 2;
+        assertEquals(area, columns.totalArea(), area * bound);
+        assertEquals(perimeter, columns.totalPerimeter(), perimeter * bound);
+    }
+    
+    @Test
+    @DisplayName("Test: Vector and scalar kernels agree")
+    void testScalarMatchesKernel() {
+        Random random = new Random(3);
+        double[] radii = new double[517];
+        double[] widths = new double[517];
+        for (int i = 0; i < radii.length; i++) {
+            radii[i] = random.nextDouble() * 10;
+            widths[i] = random.nextDouble() * 10;
+        }
+        double[] kernel = new double[radii.length];
+        double[] scalar = new double[radii.length];
+        GeometryKernel.circleAreas(radii, kernel, 3, 500);
+        GeometryKernel.circleAreasScalar(radii, scalar, 3, 500);
+        assertArrayEquals(scalar, kernel);
+        GeometryKernel.rectanglePerimeters(radii, widths, kernel, 0, 517);
+        GeometryKernel.rectanglePerimetersScalar(radii, widths, scalar, 0, 517);
+        assertArrayEquals(scalar, kernel);
+        
+        double sum = GeometryKernel.sumRectangleAreasScalar(radii, widths, 0, 517);
+        assertEquals(sum, GeometryKernel.sumRectangleAreas(radii, widths, 0, 517), sum * 517 * Math.ulp(1.0));
+        assertThrows(IndexOutOfBoundsException.class, () -> GeometryKernel.circleAreas(radii, new double[10], 0, 20));
+    }
+    
+    @Test
+    @DisplayName("Test: Columns accessors and unsupported shapes")
+    void testAccessors() {
+        ShapeColumns columns = new ShapeColumns();
+        columns.add(new Circle("red", 2.0));
+        columns.add(new Rectangle("blue", 3.0, 4.0));
+        assertEquals(2.0, columns.getRadius(0));
+        assertEquals(4.0, columns.getWidth(0));
+        assertEquals(Math.PI * 4 + 12, columns.totalArea(), 1e-12);
+        assertThrows(IndexOutOfBoundsException.class, () -> columns.getRadius(1));
+        assertThrows(IllegalArgumentException.class, () -> columns.add(new Circle("red", 1) { }));
+    }
+}
@@ -0,0 +1,114 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ShapeFactory
+ * 
+ * Demonstrates:
+ * - Identical (type, color, dimensions) tuples share one instance and one color String
+ * - Shared shapes reject setColor; recolor is copy-on-write
+ * - Color codes come from the factory's StringDictionary
+ * - Null colors are rejected; flyweights still count as plain Circles and Rectangles elsewhere
+ */
+@DisplayName("Shape Factory Test Suite")
+public class ShapeFactoryTest {
+    
+    private ShapeFactory factory;
+    
+    @BeforeEach
+    void setUp() {
+        factory = new ShapeFactory();
+    }
+    
+    @Test
+    @DisplayName("Test: Identical tuples share one flyweight")
+    void testFlyweightsShared() {
+        Circle circle = factory.circle("red", 2.0);
+        assertSame(circle, factory.circle(new String("red"), 2.0));
+        assertNotSame(circle, factory.circle("red", 3.0));
+        assertNotSame(circle, factory.circle("blue", 2.0));
+        
+        Rectangle rectangle = factory.rectangle("red", 4.0, 5.0);
+        assertSame(rectangle, factory.rectangle("red", 4.0, 5.0));
+        assertNotSame(rectangle, factory.rectangle("red", 5.0, 4.0));
+        
+        assertEquals(5, factory.getFlyweightCount());
+        assertEquals(2, factory.getColors().size());
+        assertSame(circle.getColor(), rectangle.getColor());
+        assertEquals(Math.PI * 4.0, circle.calculateArea());
+        assertEquals(20.0, rectangle.calculateArea());
+    }
+    
+    @Test
+    @DisplayName("Test: Shared shapes are immutable and recolor is copy-on-write")
+    void testRecolor() {
+        Circle circle = factory.circle("red", 2.0);
+        assertTrue(circle.isShared());
+        assertThrows(UnsupportedOperationException.class, () -> circle.setColor("green"));
+        
+        Circle green = factory.recolor(circle, "green");
+        assertEquals("green", green.getColor());
+        assertEquals(2.0, green.getRadius());
+        assertEquals("red", circle.getColor());
+        assertSame(green, factory.circle("green", 2.0));
+        assertSame(circle, factory.recolor(green, "red"));
+    }
+    
+    @Test
+    @DisplayName("Test: Plain shapes are interned and stay mutable")
+    void testIntern() {
+        Rectangle plain = new Rectangle("blue", 1.0, 2.0);
+        assertFalse(plain.isShared());
+        Rectangle shared = factory.intern(plain);
+        assertSame(shared, factory.rectangle("blue", 1.0, 2.0));
+        assertSame(shared, factory.intern(shared));
+        
+        plain.setColor("yellow");
+        assertEquals("yellow", plain.getColor());
+        assertEquals("blue", shared.getColor());
+        
+        Shape custom = new Shape("red") {
+            @Override
+            public double calculateArea() {
+                return 0;
+            }
+            
+            @Override
+            public double calculatePerimeter() {
+                return 0;
+            }
+        };
+        assertThrows(IllegalArgumentException.class, () -> factory.intern(custom));
+    }
+    
+    @Test
+    @DisplayName("Test: Color codes follow the dictionary")
+    void testColorIds() {
+        StringDictionary colors = new StringDictionary();
+        colors.encode("black");
+        ShapeFactory shared = new ShapeFactory(colors);
+        Circle red = shared.circle("red", 1.0);
+        
+        assertEquals(1, shared.colorIdOf(red));
+        assertEquals(0, shared.colorIdOf(new Circle("black", 1.0)));
+        assertEquals(StringDictionary.UNKNOWN, shared.colorIdOf(new Circle("white", 1.0)));
+        assertEquals("red", colors.decode(shared.colorIdOf(red)));
+    }
+    
+    @Test
+    @DisplayName("Test: Null colors are rejected and flyweights work where plain shapes do")
+    void testNullColorAndColumns() {
+        assertThrows(IllegalArgumentException.class, () -> factory.circle(null, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> factory.rectangle(null, 1.0, 2.0));
+        assertThrows(IllegalArgumentException.class, () -> factory.intern(new Circle(null, 1.0)));
+        assertEquals(StringDictionary.UNKNOWN, factory.colorIdOf(new Circle(null, 1.0)));
+        assertEquals(0, factory.getFlyweightCount());
+        
+        ShapeColumns columns = new ShapeColumns();
+        columns.add(factory.circle("red", 1.0));
+        columns.add(factory.rectangle("red", 2.0, 3.0));
+        assertEquals(Math.PI + 6.0, columns.totalArea(), 1e-9);
+    }
+}
@@ -0,0 +1,119 @@
+package navaneeth;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+/**
+ * Benchmark for ShapeFactory flyweights against one object per shape
+ * - Scenes are built as if parsed: every color is a fresh String, dimensions come from a
+ *   bounded set of sizes (whole units), as drawing data usually does
+ * - Memory: heap retained by a scene of the given size, per million shapes
+ * - GC: collections and collection time while repeatedly building and dropping scenes
+ * - A main()-based harness in the style of the other benchmarks (no JMH in this build)
+ * - Not a JUnit test: run with
+ *   java -cp target/classes:target/test-classes navaneeth.ShapeMemoryBenchmark [shapes] [rounds]
+ */
+public class ShapeMemoryBenchmark {
+    
+    private static final String[] PALETTE = {"red", "green", "blue", "black", "white", "yellow",
+        "orange", "purple", "cyan", "magenta", "gray", "brown", "pink", "navy", "olive", "teal"};
+    
+    private static Object retained; // Keeps the measured scene reachable
+    
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        
+        System.out.printf("objects:    %.1f MB per million shapes%n",
+            footprint(() -> scene(count, null)) / 1e6 / (count / 1e6));
+        ShapeFactory factory = new ShapeFactory();
+        System.out.printf("flyweights: %.1f MB per million shapes (%d distinct)%n",
+            footprint(() -> scene(count, factory)) / 1e6 / (count / 1e6), factory.getFlyweightCount());
+        retained = null;
+        
+        long sink = 0;
+        for (int round = 0; round < rounds; round++) {
+            boolean report = round == rounds - 1; // Earlier rounds warm up
+            
+            long[] gc = gcTotals();
+            long start = System.nanoTime();
+            for (int i = 0; i < 5; i++) {
+                sink += scene(count, null).length;
+            }
+            long objects = System.nanoTime() - start;
+            long[] objectsGc = since(gc);
+            
+            gc = gcTotals();
+            start = System.nanoTime();
+            for (int i = 0; i < 5; i++) {
+                sink += scene(count, factory).length;
+            }
+            long flyweights = System.nanoTime() - start;
+            long[] flyweightsGc = since(gc);
+            
+            if (report) {
+                System.out.printf("objects:    %d ms for 5 scenes, %d collections, %d ms in GC%n",
+                    objects / 1_000_000, objectsGc[0], objectsGc[1]);
+                System.out.printf("flyweights: %d ms for 5 scenes, %d collections, %d ms in GC%n",
+                    flyweights / 1_000_000, flyweightsGc[0], flyweightsGc[1]);
+            }
+        }
+        if (sink == 42) {
+            System.out.println(sink);
+        }
+    }
+    
+    // Same seed for both modes, so the scenes describe the same shapes
+    private static Shape[] scene(int count, ShapeFactory factory) {
+        Random random = new Random(1);
+        Shape[] shapes = new Shape[count];
+        for (int i = 0; i < count; i++) {
+            String color = new String(PALETTE[random.nextInt(PALETTE.length)].toCharArray());
+            boolean circle = random.nextBoolean();
+            double first = 1 + random.nextInt(50);
+            double second = 1 + random.nextInt(50);
+            if (factory == null) {
+                shapes[i] = circle ? new Circle(color, first) : new Rectangle(color, first, second);
+            } else {
+                shapes[i] = circle ? factory.circle(color, first) : factory.rectangle(color, first, second);
+            }
+        }
+        return shapes;
+    }
+    
+    private interface Builder {
+        Object build();
+    }
+    
+    // Heap growth while the built scene is the only new reachable object
+    private static double footprint(Builder builder) {
+        retained = null;
+        long before = usedHeap();
+        retained = builder.build();
+        return usedHeap() - before;
+    }
+    
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+    
+    // {collections, milliseconds} summed over all collectors
+    private static long[] gcTotals() {
+        long[] totals = new long[2];
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            totals[0] += Math.max(0, bean.getCollectionCount());
+            totals[1] += Math.max(0, bean.getCollectionTime());
+        }
+        return totals;
+    }
+    
+    private static long[] since(long[] start) {
+        long[] now = gcTotals();
+        return new long[] {now[0] - start[0], now[1] - start[1]};
+    }
+}
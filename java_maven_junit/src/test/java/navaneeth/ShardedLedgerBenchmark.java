@@ -0,0 +1,87 @@
+package navaneeth;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Benchmark for ShardedLedger - throughput from 1 to 8 shards
+ * - Random transfers (mostly cross-shard once there are several shards) and deposits
+ * - Runs over the in-process transport and over local sockets
+ * - Not a JUnit test: run with
+ *   java -cp target/classes:target/test-classes navaneeth.ShardedLedgerBenchmark [threads] [seconds] [accounts]
+ */
+public class ShardedLedgerBenchmark {
+    
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors() * 2;
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        int accounts = args.length > 2 ? Integer.parseInt(args[2]) : 100_000;
+        Path dir = Files.createTempDirectory("ledger-bench");
+        
+        System.out.printf("%-7s %16s %16s%n", "shards", "in-process op/s", "socket op/s");
+        for (int shards = 1; shards <= 8; shards *= 2) {
+            double inProcess = run(new InProcessTransport(), shards, threads, seconds, accounts);
+            double socket = run(new LocalSocketTransport(dir), shards, threads, seconds, accounts);
+            System.out.printf("%-7d %16.0f %16.0f%n", shards, inProcess, socket);
+        }
+        Files.deleteIfExists(dir);
+    }
+    
+    private static double run(LedgerTransport transport, int shards, int threads, int seconds, int accounts) throws Exception {
+        try (ShardedLedger ledger = new ShardedLedger(transport)) {
+            for (int s = 0; s < shards; s++) {
+                ledger.addShard(new LedgerShard("shard-" + s));
+            }
+            for (int i = 0; i < accounts; i++) {
+                ledger.openAccount("ACC" + i, "Holder " + i, AccountType.SAVINGS, 1_000_000_000L, 0);
+            }
+            
+            long[] operations = new long[threads];
+            AtomicReference<IOException> failure = new AtomicReference<>();
+            CountDownLatch start = new CountDownLatch(1);
+            long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+            Thread[] workers = new Thread[threads];
+            for (int t = 0; t < threads; t++) {
+                int id = t;
+                workers[t] = new Thread(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    long ops = 0;
+                    try {
+                        start.await();
+                        while (System.nanoTime() < deadline) {
+                            String from = "ACC" + random.nextInt(accounts);
+                            if (random.nextInt(4) == 0) {
+                                ledger.deposit(from, 1 + random.nextInt(10_000));
+                            } else {
+                                ledger.transfer(from, "ACC" + random.nextInt(accounts), 1 + random.nextInt(10_000));
+                            }
+                            ops++;
+                        }
+                    } catch (IOException e) {
+                        failure.set(e);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    operations[id] = ops;
+                });
+                workers[t].start();
+            }
+            start.countDown();
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            if (failure.get() != null) {
+                throw failure.get();
+            }
+            long total = 0;
+            for (long ops : operations) {
+                total += ops;
+            }
+            return total / (double) seconds;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for ShardedLedger
+ * 
+ * Demonstrates:
+ * - Operations are routed to the owning shard over both transports
+ * - Cross-shard transfers conserve money and are compensated when the credit is rejected or fails
+ * - Adding or removing a shard moves only the accounts whose owner changed
+ * - A rebalance that fails part way loses no account and leaves the ledger as it was
+ * - Moved savings accounts keep their interest run id; a throwing shard answers with an error
+ */
+@DisplayName("Sharded Ledger Test Suite")
+public class ShardedLedgerTest {
+    
+    private static final int ACCOUNTS = 2_000;
+    
+    @TempDir
+    Path tempDir;
+    
+    // In-process transport whose calls of one operation to one shard (null: any shard) fail once
+    // a number of them went through
+    private static final class FailingTransport implements LedgerTransport {
+        private final String failingShard;
+        private final LedgerRequest.Op failingOp;
+        private volatile int callsLeft;
+        
+        FailingTransport(String failingShard, LedgerRequest.Op failingOp, int callsLeft) {
+            this.failingShard = failingShard;
+            this.failingOp = failingOp;
+            this.callsLeft = callsLeft;
+        }
+        
+        @Override
+        public Channel connect(LedgerShard shard) {
+            return new Channel() {
+                @Override
+                public LedgerResponse call(LedgerRequest request) throws IOException {
+                    if ((failingShard == null || shard.getName().equals(failingShard))
+                            && request.getOp() == failingOp && callsLeft-- <= 0) {
+                        throw new IOException("Connection to " + shard.getName() + " lost");
+                    }
+                    return shard.handle(request);
+                }
+                
+                @Override
+                public void close() {
+                    // Nothing to release
+                }
+            };
+        }
+    }
+    
+    private static ShardedLedger ledger(LedgerTransport transport, int shards) throws IOException {
+        ShardedLedger ledger = new ShardedLedger(transport);
+        for (int i = 0; i < shards; i++) {
+            ledger.addShard(new LedgerShard("shard-" + i));
+        }
+        for (int i = 0; i < ACCOUNTS; i++) {
+            AccountType type = i % 2 == 0 ? AccountType.SAVINGS : AccountType.CURRENT;
+            assertEquals(TransactionStatus.APPLIED,
+                ledger.openAccount("ACC" + i, "Holder " + i, type, 10_000, type == AccountType.CURRENT ? 5_000 : 0));
+        }
+        return ledger;
+    }
+    
+    private static void checkTransfers(ShardedLedger ledger) throws IOException {
+        Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            ledger.transfer("ACC" + random.nextInt(ACCOUNTS), "ACC" + random.nextInt(ACCOUNTS), 1 + random.nextInt(8_000));
+        }
+        long total = 0;
+        for (int i = 0; i < ACCOUNTS; i++) {
+            total += ledger.getBalanceCents("ACC" + i);
+        }
+        assertEquals(ACCOUNTS * 10_000L, total);
+        
+        assertEquals(TransactionStatus.INSUFFICIENT_FUNDS, ledger.transfer("ACC0", "ACC1", 1_000_000));
+        assertEquals(TransactionStatus.INVALID_AMOUNT, ledger.transfer("ACC0", "ACC0", 100));
+        long before = ledger.getBalanceCents("ACC2");
+        assertEquals(TransactionStatus.UNKNOWN_ACCOUNT, ledger.transfer("ACC2", "MISSING", 100));
+        assertEquals(before, ledger.getBalanceCents("ACC2")); // Debit compensated
+        assertEquals(TransactionStatus.DUPLICATE_ACCOUNT, ledger.openAccount("ACC3", "X", AccountType.BASIC, 0, 0));
+    }
+    
+    @Test
+    @DisplayName("Test: In-process transport routes and transfers")
+    void testInProcess() throws IOException {
+        try (ShardedLedger ledger = ledger(new InProcessTransport(), 4)) {
+            assertEquals(4, ledger.getShardCount());
+            checkTransfers(ledger);
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Local socket transport routes and transfers")
+    void testLocalSocket() throws IOException {
+        try (ShardedLedger ledger = ledger(new LocalSocketTransport(tempDir), 3)) {
+            checkTransfers(ledger);
+            assertEquals(TransactionStatus.INSUFFICIENT_FUNDS, ledger.withdraw("ACC1", 100_000));
+            assertEquals(TransactionStatus.APPLIED, ledger.withdraw("ACC1", ledger.getBalanceCents("ACC1") + 5_000));
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Adding and removing shards moves few accounts and keeps balances")
+    void testRebalance() throws IOException {
+        try (ShardedLedger ledger = ledger(new InProcessTransport(), 4)) {
+            for (int i = 0; i < ACCOUNTS; i++) {
+                ledger.deposit("ACC" + i, i + 1);
+            }
+            Map<String, String> owners = new HashMap<>();
+            for (int i = 0; i < ACCOUNTS; i++) {
+                owners.put("ACC" + i, ledger.shardOf("ACC" + i));
+            }
+            
+            ledger.addShard(new LedgerShard("shard-4"));
+            int moved = 0;
+            for (int i = 0; i < ACCOUNTS; i++) {
+                String owner = ledger.shardOf("ACC" + i);
+                if (!owner.equals(owners.get("ACC" + i))) {
+                    assertEquals("shard-4", owner); // Accounts only move to the new shard
+                    moved++;
+                }
+                assertEquals(10_000L + i + 1, ledger.getBalanceCents("ACC" + i));
+            }
+            assertTrue(moved > ACCOUNTS / 10 && moved < ACCOUNTS / 3, "moved " + moved); // About 1/5
+            
+            ledger.removeShard("shard-1");
+            for (int i = 0; i < ACCOUNTS; i++) {
+                assertNotEquals("shard-1", ledger.shardOf("ACC" + i));
+                assertEquals(10_000L + i + 1, ledger.getBalanceCents("ACC" + i));
+            }
+            assertThrows(IllegalArgumentException.class, () -> ledger.removeShard("shard-1"));
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Failed rebalance moves accounts back and keeps the ring")
+    void testFailedRebalance() throws IOException {
+        FailingTransport transport = new FailingTransport("shard-4", LedgerRequest.Op.OPEN, Integer.MAX_VALUE);
+        try (ShardedLedger ledger = ledger(transport, 4)) {
+            Map<String, String> owners = new HashMap<>();
+            for (int i = 0; i < ACCOUNTS; i++) {
+                owners.put("ACC" + i, ledger.shardOf("ACC" + i));
+            }
+            
+            transport.callsLeft = 50; // Fails after some accounts have moved
+            assertThrows(IOException.class, () -> ledger.addShard(new LedgerShard("shard-4")));
+            assertEquals(4, ledger.getShardCount());
+            for (int i = 0; i < ACCOUNTS; i++) {
+                assertEquals(owners.get("ACC" + i), ledger.shardOf("ACC" + i));
+                assertEquals(10_000L, ledger.getBalanceCents("ACC" + i));
+            }
+            
+            // Removing a shard whose accounts partly go to a shard that fails
+            LedgerShard failing = new LedgerShard("shard-4");
+            transport.callsLeft = Integer.MAX_VALUE;
+            ledger.addShard(failing);
+            int held = failing.size();
+            transport.callsLeft = 20;
+            assertThrows(IOException.class, () -> ledger.removeShard("shard-0"));
+            assertEquals(5, ledger.getShardCount());
+            assertEquals(held, failing.size());
+            for (int i = 0; i < ACCOUNTS; i++) {
+                assertEquals(10_000L, ledger.getBalanceCents("ACC" + i));
+            }
+            
+            transport.callsLeft = Integer.MAX_VALUE;
+            ledger.removeShard("shard-0");
+            for (int i = 0; i < ACCOUNTS; i++) {
+                assertNotEquals("shard-0", ledger.shardOf("ACC" + i));
+                assertEquals(10_000L, ledger.getBalanceCents("ACC" + i));
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Failed credit leg is compensated; failed compensation is reported")
+    void testFailedCredit() throws IOException {
+        FailingTransport transport = new FailingTransport("shard-1", LedgerRequest.Op.DEPOSIT, Integer.MAX_VALUE);
+        try (ShardedLedger ledger = ledger(transport, 3)) {
+            transport.callsLeft = 0; // Every credit to shard-1 fails
+            Random random = new Random(5);
+            int failed = 0;
+            for (int i = 0; i < 2_000; i++) {
+                try {
+                    ledger.transfer("ACC" + random.nextInt(ACCOUNTS), "ACC" + random.nextInt(ACCOUNTS), 1 + random.nextInt(5_000));
+                } catch (IOException e) {
+                    failed++;
+                }
+            }
+            assertTrue(failed > 0);
+            long total = 0;
+            for (int i = 0; i < ACCOUNTS; i++) {
+                total += ledger.getBalanceCents("ACC" + i);
+            }
+            assertEquals(ACCOUNTS * 10_000L, total);
+        }
+        
+        FailingTransport everywhere = new FailingTransport(null, LedgerRequest.Op.DEPOSIT, Integer.MAX_VALUE);
+        try (ShardedLedger ledger = ledger(everywhere, 3)) {
+            String from = "ACC0";
+            String to = null;
+            for (int i = 1; to == null; i++) {
+                if (!ledger.shardOf("ACC" + i).equals(ledger.shardOf(from))) {
+                    to = "ACC" + i;
+                }
+            }
+            everywhere.callsLeft = 0; // The credit and its compensation both fail
+            String target = to;
+            IllegalStateException lost = assertThrows(IllegalStateException.class, () -> ledger.transfer(from, target, 100));
+            assertTrue(lost.getMessage().startsWith("100 cents debited from ACC0"), lost.getMessage());
+            assertInstanceOf(IOException.class, lost.getCause());
+            assertEquals(1, lost.getSuppressed().length);
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Moves keep interest run ids; shard errors reach the socket client")
+    void testRecordsAndShardErrors() throws IOException {
+        Map<String, LedgerShard> shards = new HashMap<>();
+        try (ShardedLedger ledger = new ShardedLedger(new LocalSocketTransport(tempDir))) {
+            for (int i = 0; i < 2; i++) {
+                LedgerShard shard = new LedgerShard("shard-" + i);
+                shards.put(shard.getName(), shard);
+                ledger.addShard(shard);
+            }
+            for (int i = 0; i < 200; i++) {
+                String number = "SAV" + i;
+                shards.get(ledger.shardOf(number)).handle(
+                    LedgerRequest.open(number, "Holder " + i, AccountType.SAVINGS, 10_000, 0, 20260101L));
+            }
+            LedgerShard added = new LedgerShard("shard-2");
+            shards.put(added.getName(), added);
+            ledger.addShard(added);
+            assertTrue(added.size() > 0);
+            ledger.removeShard("shard-0");
+            for (int i = 0; i < 200; i++) {
+                String number = "SAV" + i;
+                LedgerResponse record = shards.get(ledger.shardOf(number)).handle(LedgerRequest.read(number));
+                assertEquals(20260101L, record.getLastInterestRunId(), number);
+            }
+        }
+        
+        LedgerShard broken = new LedgerShard("broken") {
+            @Override
+            public LedgerResponse handle(LedgerRequest request) {
+                if ("BOOM".equals(request.getAccountNumber())) {
+                    throw new IllegalStateException("bad record");
+                }
+                return super.handle(request);
+            }
+        };
+        try (LedgerTransport.Channel channel = new LocalSocketTransport(tempDir).connect(broken)) {
+            LocalSocketTransport.ShardFailure failure = assertThrows(LocalSocketTransport.ShardFailure.class,
+                () -> channel.call(LedgerRequest.balance("BOOM")));
+            assertTrue(failure.getMessage().contains("bad record"), failure.getMessage());
+            // Same connection, still answering
+            assertEquals(TransactionStatus.APPLIED,
+                channel.call(LedgerRequest.open("ACC1", "Holder", AccountType.BASIC, 500, 0)).getStatus());
+            assertEquals(500, channel.call(LedgerRequest.balance("ACC1")).getBalanceCents());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package navaneeth;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Benchmark for BalanceSnapshots - what a continuous reporter costs the writers
+ * - Runs random transfers between registered accounts, first alone, then with a thread taking a
+ *   snapshot every intervalMillis (0 = back to back); prints transfer throughput for both
+ * - Not a JUnit test: run with
+ *   java -cp target/classes:target/test-classes navaneeth.SnapshotBenchmark [threads] [seconds] [accounts] [intervalMillis]
+ */
+public class SnapshotBenchmark {
+    
+    public static void main(String[] args) throws InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        int accountCount = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+        long intervalMillis = args.length > 3 ? Long.parseLong(args[3]) : 10;
+        
+        BalanceSnapshots snapshots = new BalanceSnapshots();
+        BankAccount[] accounts = new BankAccount[accountCount];
+        for (int i = 0; i < accountCount; i++) {
+            accounts[i] = SavingsAccount.ofCents("SAV" + i, "Holder " + i, 1_000_000_000L);
+            snapshots.register(accounts[i]);
+        }
+        long expectedTotal = accountCount * 1_000_000_000L;
+        
+        run(accounts, threads, seconds, null, 0, expectedTotal); // Warm-up
+        double alone = run(accounts, threads, seconds, null, 0, expectedTotal);
+        double withReporter = run(accounts, threads, seconds, snapshots, intervalMillis, expectedTotal);
+        System.out.printf("threads=%d accounts=%d interval=%dms: %.0f transfers/s alone, %.0f transfers/s with reporter (%.1f%%)%n",
+            threads, accountCount, intervalMillis, alone, withReporter, 100.0 * withReporter / alone);
+    }
+    
+    // Returns transfers per second; takes snapshots while it runs when snapshots is not null
+    private static double run(BankAccount[] accounts, int threads, int seconds,
+                              BalanceSnapshots snapshots, long intervalMillis,
+                              long expectedTotal) throws InterruptedException {
+        TransferService service = new TransferService();
+        long[] operations = new long[threads];
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long ops = 0;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (System.nanoTime() < deadline) {
+                    service.tryTransfer(accounts[random.nextInt(accounts.length)],
+                        accounts[random.nextInt(accounts.length)], 1 + random.nextInt(10_000));
+                    ops++;
+                }
+                operations[id] = ops;
+            });
+            workers[t].start();
+        }
+        
+        AtomicBoolean running = new AtomicBoolean(true);
+        long[] snapshotCount = new long[1];
+        Thread reporter = null;
+        if (snapshots != null) {
+            reporter = new Thread(() -> {
+                while (running.get()) {
+                    if (snapshots.snapshot().getTotalCents() != expectedTotal) {
+                        throw new IllegalStateException("Inconsistent snapshot");
+                    }
+                    snapshotCount[0]++;
+                    if (intervalMillis > 0) {
+                        try {
+                            Thread.sleep(intervalMillis);
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                }
+            });
+            reporter.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        running.set(false);
+        if (reporter != null) {
+            reporter.join();
+            System.out.printf("%.1f snapshots/s%n", snapshotCount[0] / (double) seconds);
+        }
+        
+        long total = 0;
+        for (long ops : operations) {
+            total += ops;
+        }
+        return total / (double) seconds;
+    }
+}
@@ -0,0 +1,79 @@
+package navaneeth;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Benchmark for StatementExporter against the toString() path
+ * - toString: concatenates BankAccount.toString() lines and writes the resulting string
+ * - CSV and BINARY: stream through StatementExporter with one reused direct buffer
+ * - Reports MB/s and bytes allocated per record (HotSpot thread allocation counter)
+ * - Not a JUnit test: run with
+ *   java -cp target/classes:target/test-classes navaneeth.StatementExportBenchmark [accounts] [rounds]
+ */
+public class StatementExportBenchmark {
+    
+    public static void main(String[] args) throws IOException {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        
+        BankAccount[] accounts = new BankAccount[count];
+        for (int i = 0; i < count; i++) {
+            accounts[i] = i % 2 == 0
+                ? SavingsAccount.ofCents("SAV" + i, "Holder " + i, i * 131L)
+                : CurrentAccount.ofCents("CUR" + i, "Holder " + i, -i * 7L, 100_000);
+        }
+        Path dir = Files.createTempDirectory("statement-bench");
+        Path file = dir.resolve("statement.out");
+        ByteBuffer buffer = ByteBuffer.allocateDirect(StatementExporter.DEFAULT_BUFFER_SIZE);
+        
+        for (int round = 0; round < rounds; round++) {
+            boolean report = round == rounds - 1; // Earlier rounds warm up
+            measure("toString", count, file, report, () -> exportToString(accounts, file));
+            measure("CSV", count, file, report, () -> export(accounts, file, StatementExporter.Format.CSV, buffer));
+            measure("BINARY", count, file, report, () -> export(accounts, file, StatementExporter.Format.BINARY, buffer));
+        }
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(dir);
+    }
+    
+    private interface Export {
+        void run() throws IOException;
+    }
+    
+    private static void measure(String name, int count, Path file, boolean report, Export export) throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        export.run();
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        if (report) {
+            long size = Files.size(file);
+            System.out.printf("%-8s %,d records, %,d bytes: %.1f MB/s, %.1f bytes allocated/record%n",
+                name, count, size, size / 1e6 / (elapsed / 1e9), allocated / (double) count);
+        }
+    }
+    
+    private static void exportToString(BankAccount[] accounts, Path file) throws IOException {
+        StringBuilder statement = new StringBuilder();
+        for (BankAccount account : accounts) {
+            statement.append(account.toString()).append('\n');
+        }
+        Files.write(file, statement.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static void export(BankAccount[] accounts, Path file, StatementExporter.Format format,
+                               ByteBuffer buffer) throws IOException {
+        try (StatementExporter exporter = StatementExporter.open(file, format, buffer)) {
+            for (BankAccount account : accounts) {
+                exporter.write(account);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for StatementExporter
+ * 
+ * Demonstrates:
+ * - CSV output with exact decimal balances, quoting and non-ASCII names
+ * - Binary records decode back to the exported accounts
+ * - A buffer far smaller than the output still produces the complete file
+ */
+@DisplayName("Statement Exporter Test Suite")
+public class StatementExporterTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    private List<BankAccount> sampleAccounts() {
+        List<BankAccount> accounts = new ArrayList<>();
+        accounts.add(SavingsAccount.ofCents("SAV001", "Alice", 123_456));
+        accounts.add(CurrentAccount.ofCents("CUR001", "Smith, \"Bob\"", -1_205, 5_000));
+        accounts.add(BankAccount.ofCents("ACC001", "Zoë 😀", 7));
+        return accounts;
+    }
+    
+    @Test
+    @DisplayName("Test: CSV export")
+    void testCsvExport() throws IOException {
+        Path file = tempDir.resolve("statement.csv");
+        try (StatementExporter exporter = StatementExporter.open(file, StatementExporter.Format.CSV)) {
+            exporter.writeAll(sampleAccounts());
+            assertEquals(3, exporter.getRecordCount());
+        }
+        
+        String expected = "account_number,holder_name,type,balance\n"
+            + "SAV001,Alice,SAVINGS,1234.56\n"
+            + "CUR001,\"Smith, \"\"Bob\"\"\",CURRENT,-12.05\n"
+            + "ACC001,Zoë 😀,BASIC,0.07\n";
+        assertEquals(expected, Files.readString(file, StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    @DisplayName("Test: Binary export decodes back")
+    void testBinaryExport() throws IOException {
+        Path file = tempDir.resolve("statement.bin");
+        List<BankAccount> accounts = sampleAccounts();
+        try (StatementExporter exporter = StatementExporter.open(file, StatementExporter.Format.BINARY)) {
+            exporter.writeAll(accounts);
+        }
+        
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(StatementExporter.MAGIC, in.getInt());
+        assertEquals(StatementExporter.VERSION, in.get());
+        for (BankAccount account : accounts) {
+            assertEquals(AccountType.of(account), AccountType.fromOrdinal(in.get()));
+            assertEquals(account.getBalanceCents(), in.getLong());
+            assertEquals(account.getAccountNumber(), readString(in));
+            assertEquals(account.getAccountHolderName(), readString(in));
+        }
+        assertFalse(in.hasRemaining());
+    }
+    
+    @Test
+    @DisplayName("Test: Small reusable buffer streams large exports")
+    void testSmallBuffer() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(StatementExporter.MIN_BUFFER_SIZE);
+        String longName = "N".repeat(500); // Longer than the whole buffer
+        Path small = tempDir.resolve("small.csv");
+        Path large = tempDir.resolve("large.csv");
+        
+        for (Path file : new Path[] {small, large}) {
+            try (StatementExporter exporter = file == small
+                    ? StatementExporter.open(file, StatementExporter.Format.CSV, buffer)
+                    : StatementExporter.open(file, StatementExporter.Format.CSV)) {
+                for (int i = 0; i < 10_000; i++) {
+                    exporter.write(SavingsAccount.ofCents("SAV" + i, i % 100 == 0 ? longName : "Holder " + i, i * 37L));
+                }
+                exporter.flush();
+                assertEquals(Files.size(file), exporter.getBytesWritten());
+            }
+        }
+        assertEquals(Files.readString(large), Files.readString(small));
+        assertThrows(IllegalArgumentException.class,
+            () -> StatementExporter.open(small, StatementExporter.Format.CSV, ByteBuffer.allocate(8)));
+    }
+    
+    private static String readString(ByteBuffer in) {
+        int length = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            length |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
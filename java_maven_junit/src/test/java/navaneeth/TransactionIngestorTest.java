@@ -0,0 +1,220 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for TransactionIngestor
+ * 
+ * Demonstrates:
+ * - Transactions from several publishers are applied with per-account order kept
+ * - Every transaction produces exactly one result downstream
+ * - A slow downstream subscriber keeps the pending queue within the demand window
+ * - Accounts are looked up per batch and idle per-account queues are dropped
+ * - A throwing account fails its transactions without stalling the pipeline
+ */
+@DisplayName("Transaction Ingestor Test Suite")
+public class TransactionIngestorTest {
+    
+    // Downstream subscriber that counts outcomes, optionally sleeping per result
+    private static final class Collector implements Flow.Subscriber<TransactionResult> {
+        final Map<TransactionStatus, Integer> counts = new EnumMap<>(TransactionStatus.class);
+        final CountDownLatch completed = new CountDownLatch(1);
+        final long delayNanos;
+        Flow.Subscription subscription;
+        
+        Collector(long delayNanos) {
+            this.delayNanos = delayNanos;
+        }
+        
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+        
+        @Override
+        public void onNext(TransactionResult result) {
+            counts.merge(result.getStatus(), 1, Integer::sum);
+            if (delayNanos > 0) {
+                LockSupport.parkNanos(delayNanos);
+            }
+            subscription.request(1);
+        }
+        
+        @Override
+        public void onError(Throwable throwable) {
+            completed.countDown();
+        }
+        
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+        
+        int count(TransactionStatus status) {
+            return counts.getOrDefault(status, 0);
+        }
+    }
+    
+    @Test
+    @DisplayName("Test: Results and balances from several sources")
+    void testIngestFromSources() throws Exception {
+        Map<String, BankAccount> accounts = new HashMap<>();
+        accounts.put("SAV001", SavingsAccount.ofCents("SAV001", "Alice", 0));
+        accounts.put("CUR001", CurrentAccount.ofCents("CUR001", "Bob", 0, 1_000));
+        
+        TransactionIngestor ingestor = new TransactionIngestor(accounts, 4, 16, 64);
+        Collector collector = new Collector(0);
+        ingestor.subscribe(collector);
+        
+        List<CompletableFuture<Void>> done = new ArrayList<>();
+        List<SubmissionPublisher<Transaction>> sources = new ArrayList<>();
+        for (int s = 0; s < 3; s++) {
+            SubmissionPublisher<Transaction> source = new SubmissionPublisher<>();
+            done.add(ingestor.ingest(source));
+            sources.add(source);
+        }
+        for (int i = 0; i < 1_000; i++) {
+            for (SubmissionPublisher<Transaction> source : sources) {
+                source.submit(Transaction.deposit("SAV001", 10));
+                source.submit(Transaction.deposit("CUR001", 5));
+            }
+        }
+        for (SubmissionPublisher<Transaction> source : sources) {
+            source.close();
+        }
+        CompletableFuture.allOf(done.toArray(new CompletableFuture<?>[0])).get(30, TimeUnit.SECONDS);
+        
+        // Order is only defined within one source, so the checks run after all deposits landed
+        SubmissionPublisher<Transaction> last = new SubmissionPublisher<>();
+        CompletableFuture<Void> lastDone = ingestor.ingest(last);
+        last.submit(Transaction.withdrawal("CUR001", 16_000)); // 15,000 + 1,000 overdraft: allowed
+        last.submit(Transaction.withdrawal("CUR001", 1));       // Now beyond the overdraft
+        last.submit(Transaction.deposit("MISSING", 1));
+        last.submit(Transaction.deposit("SAV001", 0));
+        last.close();
+        lastDone.get(30, TimeUnit.SECONDS);
+        ingestor.close();
+        assertTrue(collector.completed.await(30, TimeUnit.SECONDS));
+        
+        assertEquals(30_000, accounts.get("SAV001").getBalanceCents());
+        assertEquals(-1_000, accounts.get("CUR001").getBalanceCents());
+        assertEquals(6_001, collector.count(TransactionStatus.APPLIED));
+        assertEquals(1, collector.count(TransactionStatus.INSUFFICIENT_FUNDS));
+        assertEquals(1, collector.count(TransactionStatus.UNKNOWN_ACCOUNT));
+        assertEquals(1, collector.count(TransactionStatus.INVALID_AMOUNT));
+        assertEquals(6_004, ingestor.getAppliedCount());
+        assertEquals(0, ingestor.getPendingCount());
+    }
+    
+    @Test
+    @DisplayName("Test: Slow downstream keeps pending work within the window")
+    void testBackpressure() throws Exception {
+        Map<String, BankAccount> accounts = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            accounts.put("ACC" + i, BankAccount.ofCents("ACC" + i, "Holder " + i, 0));
+        }
+        int window = 32;
+        TransactionIngestor ingestor = new TransactionIngestor(accounts, 2, 8, window, 4);
+        Collector collector = new Collector(20_000);
+        ingestor.subscribe(collector);
+        
+        SubmissionPublisher<Transaction> source = new SubmissionPublisher<>();
+        CompletableFuture<Void> done = ingestor.ingest(source);
+        for (int i = 0; i < 2_000; i++) {
+            source.submit(Transaction.deposit("ACC" + (i % 10), 1)); // Blocks once the source buffer is full
+        }
+        source.close();
+        done.get(60, TimeUnit.SECONDS);
+        ingestor.close();
+        
+        assertTrue(ingestor.getMaxPendingCount() <= window, "max pending " + ingestor.getMaxPendingCount());
+        long total = 0;
+        for (BankAccount account : accounts.values()) {
+            total += account.getBalanceCents();
+        }
+        assertEquals(2_000, total);
+    }
+    
+    @Test
+    @DisplayName("Test: Accounts added later are found and idle lanes are dropped")
+    void testLateAccountsAndIdleLanes() throws Exception {
+        Map<String, BankAccount> accounts = new ConcurrentHashMap<>();
+        TransactionIngestor ingestor = new TransactionIngestor(accounts, 2, 8, 64);
+        Collector collector = new Collector(0);
+        ingestor.subscribe(collector);
+        
+        SubmissionPublisher<Transaction> first = new SubmissionPublisher<>();
+        CompletableFuture<Void> firstDone = ingestor.ingest(first);
+        first.submit(Transaction.deposit("NEW001", 100)); // Not opened yet
+        for (int i = 0; i < 5_000; i++) {
+            first.submit(Transaction.deposit("GARBAGE" + i, 1));
+        }
+        first.close();
+        firstDone.get(30, TimeUnit.SECONDS);
+        
+        accounts.put("NEW001", BankAccount.ofCents("NEW001", "Carol", 0));
+        SubmissionPublisher<Transaction> second = new SubmissionPublisher<>();
+        CompletableFuture<Void> secondDone = ingestor.ingest(second);
+        second.submit(Transaction.deposit("NEW001", 100));
+        second.close();
+        secondDone.get(30, TimeUnit.SECONDS);
+        ingestor.close();
+        assertTrue(collector.completed.await(30, TimeUnit.SECONDS));
+        
+        assertEquals(100, accounts.get("NEW001").getBalanceCents());
+        assertEquals(1, collector.count(TransactionStatus.APPLIED));
+        assertEquals(5_001, collector.count(TransactionStatus.UNKNOWN_ACCOUNT));
+        assertEquals(0, ingestor.getLaneCount()); // 5,002 numbers seen, none kept once idle
+    }
+    
+    @Test
+    @DisplayName("Test: Throwing account completes its transactions as FAILED")
+    void testThrowingAccount() throws Exception {
+        Map<String, BankAccount> accounts = new HashMap<>();
+        accounts.put("GOOD", BankAccount.ofCents("GOOD", "Alice", 0));
+        accounts.put("BAD", new BankAccount("BAD", "Mallory", 0) {
+            @Override
+            public void depositCents(long amount) {
+                throw new IllegalStateException("Account locked");
+            }
+            
+            @Override
+            public boolean tryWithdrawCents(long amount) {
+                throw new IllegalStateException("Account locked");
+            }
+        });
+        TransactionIngestor ingestor = new TransactionIngestor(accounts, 2, 8, 16);
+        Collector collector = new Collector(0);
+        ingestor.subscribe(collector);
+        
+        SubmissionPublisher<Transaction> source = new SubmissionPublisher<>();
+        CompletableFuture<Void> done = ingestor.ingest(source);
+        for (int i = 0; i < 200; i++) {
+            source.submit(Transaction.deposit("GOOD", 1));
+            source.submit(i % 2 == 0 ? Transaction.deposit("BAD", 1) : Transaction.withdrawal("BAD", 1));
+        }
+        source.close();
+        done.get(30, TimeUnit.SECONDS); // The window of 16 is returned for failed transactions too
+        ingestor.close();
+        assertTrue(collector.completed.await(30, TimeUnit.SECONDS));
+        
+        assertEquals(200, accounts.get("GOOD").getBalanceCents());
+        assertEquals(200, collector.count(TransactionStatus.APPLIED));
+        assertEquals(200, collector.count(TransactionStatus.FAILED));
+        assertEquals(0, ingestor.getPendingCount());
+    }
+}
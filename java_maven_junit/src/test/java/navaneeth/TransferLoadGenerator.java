@@ -0,0 +1,104 @@
+package navaneeth;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Load generator for TransferService on a skewed workload
+ * - A few hot accounts take part in most transfers (hotShare of picks go to HOT_ACCOUNTS accounts)
+ * - Mix of Savings and Current accounts; reports throughput and p50/p99/p99.9 latency
+ * - Not a JUnit test: run with
+ *   java -cp target/classes:target/test-classes navaneeth.TransferLoadGenerator [threads] [seconds] [hotShare]
+ */
+public class TransferLoadGenerator {
+    
+    private static final int ACCOUNTS = 100_000;
+    private static final int HOT_ACCOUNTS = 8;
+    private static final int SAMPLES_PER_THREAD = 1 << 20;
+    
+    public static void main(String[] args) throws InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        double hotShare = args.length > 2 ? Double.parseDouble(args[2]) : 0.8;
+        
+        BankAccount[] accounts = new BankAccount[ACCOUNTS];
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accounts[i] = i % 2 == 0
+                ? SavingsAccount.ofCents("SAV" + i, "Holder " + i, 1_000_000_000L)
+                : CurrentAccount.ofCents("CUR" + i, "Holder " + i, 1_000_000_000L, 100_000);
+        }
+        TransferService service = new TransferService();
+        
+        long[][] latencies = new long[threads][SAMPLES_PER_THREAD];
+        int[] sampleCounts = new int[threads];
+        long[] operations = new long[threads];
+        CountDownLatch start = new CountDownLatch(1);
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            workers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                long[] samples = latencies[id];
+                int count = 0;
+                long ops = 0;
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                while (System.nanoTime() < deadline) {
+                    BankAccount from = accounts[pick(random, hotShare)];
+                    BankAccount to = accounts[pick(random, hotShare)];
+                    long begin = System.nanoTime();
+                    service.tryTransfer(from, to, 1 + random.nextInt(10_000));
+                    long elapsed = System.nanoTime() - begin;
+                    if (count < samples.length) {
+                        samples[count++] = elapsed;
+                    } else {
+                        samples[random.nextInt(samples.length)] = elapsed; // Keep a uniform sample
+                    }
+                    ops++;
+                }
+                sampleCounts[id] = count;
+                operations[id] = ops;
+            });
+            workers[t].start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        
+        long totalOps = 0;
+        int totalSamples = 0;
+        for (int t = 0; t < threads; t++) {
+            totalOps += operations[t];
+            totalSamples += sampleCounts[t];
+        }
+        long[] all = new long[totalSamples];
+        int offset = 0;
+        for (int t = 0; t < threads; t++) {
+            System.arraycopy(latencies[t], 0, all, offset, sampleCounts[t]);
+            offset += sampleCounts[t];
+        }
+        Arrays.sort(all);
+        
+        System.out.printf("threads=%d hotShare=%.2f: %.0f transfers/s, p50 %d ns, p99 %d ns, p99.9 %d ns%n",
+            threads, hotShare, totalOps / (double) seconds,
+            percentile(all, 0.50), percentile(all, 0.99), percentile(all, 0.999));
+    }
+    
+    private static int pick(ThreadLocalRandom random, double hotShare) {
+        return random.nextDouble() < hotShare ? random.nextInt(HOT_ACCOUNTS) : random.nextInt(ACCOUNTS);
+    }
+    
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) (p * sorted.length))];
+    }
+}
@@ -0,0 +1,102 @@
+package navaneeth;
+
+import org.junit.jupiter.api.*;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for TransferService
+ * 
+ * Demonstrates:
+ * - Transfers between Savings and Current accounts follow each account's rules
+ * - Failed transfers change nothing
+ * - Opposite-direction transfers under contention finish and conserve money
+ */
+@DisplayName("Transfer Service Test Suite")
+public class TransferServiceTest {
+    
+    private TransferService service;
+    
+    @BeforeEach
+    void setUp() {
+        service = new TransferService();
+    }
+    
+    @Test
+    @DisplayName("Test: Mixed Savings/Current transfers")
+    void testMixedTransfers() {
+        SavingsAccount savings = SavingsAccount.ofCents("SAV001", "Alice", 10_000);
+        CurrentAccount current = CurrentAccount.ofCents("CUR001", "Bob", 1_000, 5_000);
+        
+        service.transfer(current, savings, 6_000); // Uses the overdraft
+        assertEquals(-5_000, current.getBalanceCents());
+        assertEquals(16_000, savings.getBalanceCents());
+        
+        assertEquals(TransactionStatus.INSUFFICIENT_FUNDS, service.tryTransfer(current, savings, 1));
+        assertThrows(IllegalArgumentException.class, () -> service.transfer(savings, current, 16_001));
+        assertEquals(TransactionStatus.INVALID_AMOUNT, service.tryTransfer(savings, savings, 100));
+        assertEquals(TransactionStatus.INVALID_AMOUNT, service.tryTransfer(savings, current, 0));
+        assertEquals(TransactionStatus.UNKNOWN_ACCOUNT, service.tryTransfer(null, current, 100));
+        
+        // Failed attempts left both balances untouched
+        assertEquals(-5_000, current.getBalanceCents());
+        assertEquals(16_000, savings.getBalanceCents());
+    }
+    
+    @Test
+    @DisplayName("Test: Transfers by account number through an index")
+    void testTransferByNumber() {
+        AccountIndex index = new AccountIndex();
+        index.add(SavingsAccount.ofCents("SAV001", "Alice", 10_000));
+        index.add(SavingsAccount.ofCents("SAV002", "Carol", 0));
+        TransferService indexed = new TransferService(index);
+        
+        indexed.transfer("SAV001", "SAV002", 2_500);
+        assertEquals(2_500, index.get("SAV002").getBalanceCents());
+        assertEquals(TransactionStatus.UNKNOWN_ACCOUNT, indexed.tryTransfer("SAV001", "MISSING", 1));
+        assertThrows(IllegalStateException.class, () -> service.transfer("SAV001", "SAV002", 1));
+    }
+    
+    @Test
+    @DisplayName("Test: Concurrent opposite-direction transfers conserve money")
+    void testConcurrentTransfers() throws Exception {
+        BankAccount[] accounts = {
+            SavingsAccount.ofCents("SAV001", "A", 100_000),
+            CurrentAccount.ofCents("CUR001", "B", 100_000, 50_000),
+            SavingsAccount.ofCents("SAV002", "C", 100_000),
+            CurrentAccount.ofCents("CUR002", "D", 100_000, 50_000)
+        };
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long seed = t;
+            futures.add(executor.submit(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < 20_000; i++) {
+                    BankAccount from = accounts[random.nextInt(accounts.length)];
+                    BankAccount to = accounts[random.nextInt(accounts.length)];
+                    service.tryTransfer(from, to, 1 + random.nextInt(5_000));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        
+        long total = 0;
+        for (BankAccount account : accounts) {
+            total += account.getBalanceCents();
+            long floor = account instanceof CurrentAccount current ? -current.getOverdraftLimitCents() : 0;
+            assertTrue(account.getBalanceCents() >= floor, account.getAccountNumber() + " below its limit");
+        }
+        assertEquals(400_000, total);
+    }
+}